@@ -1,9 +1,13 @@
 package kr.hhplus.be.server.api.coupon;
 
+import kr.hhplus.be.server.api.coupon.dto.CouponCampaignRequest;
+import kr.hhplus.be.server.api.coupon.dto.CouponCampaignResponse;
 import kr.hhplus.be.server.api.coupon.dto.CouponIssueRequest;
+import kr.hhplus.be.server.api.coupon.dto.CouponIssueTicketResponse;
 import kr.hhplus.be.server.api.coupon.dto.CouponResponse;
 import kr.hhplus.be.server.service.coupon.CouponService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,12 +20,53 @@ public class CouponController {
 
     private final CouponService couponService;
 
+    @Value("${app.coupon.issue-queue.enabled:false}")
+    private boolean issueQueueEnabled;
+
+    /**
+     * 선착순 쿠폰 발급
+     * 대기열 모드에서는 요청을 대기열에 넣고 202 Accepted와 티켓을 반환합니다.
+     */
     @PostMapping("/issue")
-    public ResponseEntity<CouponResponse> issueCoupon(@RequestBody CouponIssueRequest request) {
+    public ResponseEntity<?> issueCoupon(@RequestBody CouponIssueRequest request) {
+        if (issueQueueEnabled) {
+            CouponIssueTicketResponse response = couponService.requestIssue(request.getUserId(), null);
+            return ResponseEntity.accepted().body(response);
+        }
         CouponResponse response = couponService.issueCoupon(request.getUserId());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/requests/{ticket}")
+    public ResponseEntity<CouponIssueTicketResponse> getIssueResult(@PathVariable String ticket) {
+        return couponService.getIssueResult(ticket)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/campaigns")
+    public ResponseEntity<CouponCampaignResponse> createCampaign(@RequestBody CouponCampaignRequest request) {
+        CouponCampaignResponse response = couponService.createCampaign(
+                request.getCode(),
+                request.getName(),
+                request.getDiscountRate(),
+                request.getValidDays(),
+                request.getTotalQuantity());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/campaigns/{campaignId}/issue")
+    public ResponseEntity<?> issueCampaignCoupon(
+            @PathVariable Long campaignId,
+            @RequestBody CouponIssueRequest request
+    ) {
+        if (issueQueueEnabled) {
+            return ResponseEntity.accepted().body(couponService.requestIssue(request.getUserId(), campaignId));
+        }
+        CouponResponse response = couponService.issueCoupon(request.getUserId(), campaignId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/users/{userId}")
     public ResponseEntity<List<CouponResponse>> getUserCoupons(@PathVariable Long userId) {
         List<CouponResponse> coupons = couponService.getUserCoupons(userId);
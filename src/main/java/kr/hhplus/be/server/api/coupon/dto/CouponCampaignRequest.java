@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.api.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponCampaignRequest {
+    private String code;
+    private String name;
+    private Integer discountRate;
+    private Integer validDays;
+    private Integer totalQuantity;
+}
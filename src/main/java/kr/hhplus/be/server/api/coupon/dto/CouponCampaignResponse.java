@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.api.coupon.dto;
+
+import kr.hhplus.be.server.domain.coupon.CouponCampaign;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CouponCampaignResponse {
+    private Long id;
+    private String code;
+    private String name;
+    private Integer discountRate;
+    private Integer validDays;
+    private Integer totalQuantity;
+    private Integer issuedCount;
+
+    public static CouponCampaignResponse from(CouponCampaign campaign) {
+        return new CouponCampaignResponse(
+                campaign.getId(),
+                campaign.getCode(),
+                campaign.getName(),
+                campaign.getDiscountRate(),
+                campaign.getValidDays(),
+                campaign.getTotalQuantity(),
+                campaign.getIssuedCount()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.api.coupon.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import kr.hhplus.be.server.service.coupon.CouponIssueResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CouponIssueTicketResponse {
+    private String ticket;
+    private String status;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long couponId;
+    private String reason;
+
+    public static CouponIssueTicketResponse from(CouponIssueResult result) {
+        return new CouponIssueTicketResponse(
+                result.ticket(),
+                result.status().name(),
+                result.couponId(),
+                result.reason()
+        );
+    }
+}
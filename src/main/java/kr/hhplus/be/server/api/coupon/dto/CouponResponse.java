@@ -1,6 +1,10 @@
 package kr.hhplus.be.server.api.coupon.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponStatus;
+import kr.hhplus.be.server.service.coupon.CouponWalletEntry;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -9,6 +13,7 @@ import java.time.LocalDateTime;
 @Getter
 @AllArgsConstructor
 public class CouponResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
     private String name;
     private Integer discountRate;
@@ -24,4 +29,14 @@ public class CouponResponse {
                 coupon.getStatus().name()
         );
     }
+
+    public static CouponResponse from(CouponWalletEntry entry) {
+        return new CouponResponse(
+                entry.id(),
+                entry.name(),
+                entry.discountRate(),
+                entry.expiredAt(),
+                CouponStatus.ACTIVE.name()
+        );
+    }
 }
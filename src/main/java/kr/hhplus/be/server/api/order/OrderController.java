@@ -2,12 +2,13 @@ package kr.hhplus.be.server.api.order;
 
 import kr.hhplus.be.server.api.order.dto.OrderRequest;
 import kr.hhplus.be.server.api.order.dto.OrderResponse;
+import kr.hhplus.be.server.application.order.OrderAdmissionValidator;
 import kr.hhplus.be.server.application.order.OrderCommand;
 import kr.hhplus.be.server.application.order.OrderItemCommand;
 import kr.hhplus.be.server.application.order.OrderResult;
 import kr.hhplus.be.server.application.order.OrderUseCase;
-import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +24,7 @@ public class OrderController {
 
     private final OrderUseCase orderUseCase;
     private final ProductRepository productRepository;
+    private final OrderAdmissionValidator orderAdmissionValidator;
 
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request) {
@@ -34,18 +36,22 @@ public class OrderController {
                 .map(OrderRequest.OrderItemRequest::getProductId)
                 .collect(Collectors.toList());
 
+        // 품절 상품이 포함된 주문은 상품 조회 없이 거절
+        orderAdmissionValidator.rejectSoldOut(productIds);
+
         // 상품 정보를 조회하여 총 금액 계산
-        List<Product> products = productRepository.findAllByIds(productIds);
-        Map<Long, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, p -> p));
+        // 금액 계산에는 가격만 필요하므로 엔티티가 아닌 프로젝션으로 조회
+        List<ProductView> products = productRepository.findViewsByIds(productIds);
+        Map<Long, ProductView> productMap = products.stream()
+                .collect(Collectors.toMap(ProductView::id, p -> p));
 
         Long totalAmount = request.getOrderItems().stream()
                 .mapToLong(item -> {
-                    Product product = productMap.get(item.getProductId());
+                    ProductView product = productMap.get(item.getProductId());
                     if (product == null) {
                         throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + item.getProductId());
                     }
-                    return product.getPrice() * item.getQuantity();
+                    return product.price() * item.getQuantity();
                 })
                 .sum();
 
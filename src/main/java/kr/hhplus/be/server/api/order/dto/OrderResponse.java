@@ -1,11 +1,14 @@
 package kr.hhplus.be.server.api.order.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
 public class OrderResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long orderId;
     private Long finalAmount;
 }
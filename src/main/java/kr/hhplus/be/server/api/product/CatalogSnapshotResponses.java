@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.api.product;
+
+import kr.hhplus.be.server.service.product.CatalogSnapshot;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Locale;
+
+/**
+ * 미리 직렬화한 카탈로그 스냅샷 응답 작성
+ * 클라이언트가 gzip을 받으면 압축본을, 아니면 JSON 원문을 메시지 컨버터 변환 없이 그대로 씁니다.
+ * gzip 허용 여부는 Accept-Encoding의 q 값으로 판단합니다. (q=0은 거부)
+ */
+final class CatalogSnapshotResponses {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY = "*";
+
+    private CatalogSnapshotResponses() {
+    }
+
+    /**
+     * @return If-None-Match가 일치하면 null (304와 ETag는 checkNotModified가 설정)
+     */
+    static ResponseEntity<byte[]> serve(CatalogSnapshot snapshot, String acceptEncoding, ServletWebRequest request) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // 표현이 Accept-Encoding에 따라 달라지므로 304 응답에도 Vary를 포함
+        request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (request.checkNotModified(gzip ? snapshot.gzipETag() : snapshot.eTag())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+        if (snapshot.nextCursor() != null) {
+            response.header(ProductController.NEXT_CURSOR_HEADER, String.valueOf(snapshot.nextCursor()));
+        }
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    /**
+     * gzip(x-gzip)이 명시되어 있으면 그 q 값을, 없으면 "*"의 q 값을 따르며 q가 0보다 클 때만 허용합니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals(GZIP) || coding.equals(X_GZIP)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals(ANY)) {
+                anyQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // 해석할 수 없는 q 값은 거부로 취급하여 압축하지 않은 원문을 보냄
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
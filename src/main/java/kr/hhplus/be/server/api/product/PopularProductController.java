@@ -1,23 +1,28 @@
 package kr.hhplus.be.server.api.product;
 
-import kr.hhplus.be.server.api.product.dto.ProductResponse;
-import kr.hhplus.be.server.service.product.PopularProductService;
+import kr.hhplus.be.server.service.product.CatalogSnapshotPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/products/popular")
 @RequiredArgsConstructor
 public class PopularProductController {
 
-    private final PopularProductService popularProductService;
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
 
+    /**
+     * 인기 상품 조회
+     * 미리 직렬화/압축한 스냅샷을 그대로 응답하며, 목록이 바뀌지 않았으면 304로 응답합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getPopularProducts() {
-        List<ProductResponse> products = popularProductService.getPopularProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<byte[]> getPopularProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServletWebRequest request
+    ) {
+        return CatalogSnapshotResponses.serve(catalogSnapshotPublisher.popular(), acceptEncoding, request);
     }
 }
@@ -1,28 +1,89 @@
 package kr.hhplus.be.server.api.product;
 
+import kr.hhplus.be.server.api.product.dto.PriceChangeRequest;
 import kr.hhplus.be.server.api.product.dto.ProductResponse;
+import kr.hhplus.be.server.api.product.dto.RestockRequest;
+import kr.hhplus.be.server.api.product.dto.SuggestionResponse;
+import kr.hhplus.be.server.service.product.CatalogSnapshotPublisher;
+import kr.hhplus.be.server.service.product.ProductPage;
 import kr.hhplus.be.server.service.product.ProductService;
+import kr.hhplus.be.server.service.product.search.SuggestionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
 public class ProductController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int DEFAULT_SUGGESTION_SIZE = 10;
+
     private final ProductService productService;
+    private final SuggestionService suggestionService;
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
+
+    /**
+     * 상품 목록 첫 페이지 (기본 페이지 크기)
+     * 가장 많이 조회되는 페이지이므로 미리 직렬화/압축한 스냅샷을 그대로 응답합니다. (주기적으로 갱신)
+     */
+    @GetMapping(params = {"!cursor", "!size"})
+    public ResponseEntity<byte[]> getFirstProductPage(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServletWebRequest request
+    ) {
+        return CatalogSnapshotResponses.serve(catalogSnapshotPublisher.firstPage(), acceptEncoding, request);
+    }
 
+    /**
+     * 상품 목록 조회 (ID 커서 기반 페이지네이션)
+     * 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 전달합니다.
+     * 커서와 크기를 모두 생략한 첫 페이지 요청은 getFirstProductPage가 처리합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
-        List<ProductResponse> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<List<ProductResponse>> getProducts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ProductPage page = productService.getProducts(cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * 전체 상품 내보내기 (JSON 배열 스트리밍)
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productService::exportProducts);
     }
 
+    /**
+     * 상품 상세 조회 (조건부 요청 지원)
+     * If-None-Match가 현재 ETag와 같으면 상품을 조회하지 않고 304로 응답합니다.
+     * ETag 헤더는 checkNotModified가 304/200 응답 모두에 설정합니다.
+     */
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long productId) {
+    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long productId, WebRequest request) {
+        Optional<String> eTag = productService.getProductETag(productId);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
         ProductResponse product = productService.getProduct(productId);
         return ResponseEntity.ok(product);
     }
@@ -35,4 +96,37 @@ public class ProductController {
         List<ProductResponse> products = productService.searchProducts(keyword, userId);
         return ResponseEntity.ok(products);
     }
+
+    /**
+     * 자동완성 (상품명/인기 검색어 접두사 추천, 인기 점수 내림차순)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<SuggestionResponse> suggestions = suggestionService
+                .suggest(prefix, size == null ? DEFAULT_SUGGESTION_SIZE : size).stream()
+                .map(SuggestionResponse::from)
+                .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @PostMapping("/{productId}/restock")
+    public ResponseEntity<ProductResponse> restock(
+            @PathVariable Long productId,
+            @RequestBody RestockRequest request
+    ) {
+        productService.restock(productId, request.getQuantity());
+        return ResponseEntity.ok(productService.getProduct(productId));
+    }
+
+    @PutMapping("/{productId}/price")
+    public ResponseEntity<ProductResponse> changePrice(
+            @PathVariable Long productId,
+            @RequestBody PriceChangeRequest request
+    ) {
+        productService.changePrice(productId, request.getPrice());
+        return ResponseEntity.ok(productService.getProduct(productId));
+    }
 }
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.api.product.dto;
 
 import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductView;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -12,6 +13,10 @@ public class ProductResponse {
     private Long price;
     private Integer stock;
 
+    public static ProductResponse from(ProductView view) {
+        return new ProductResponse(view.id(), view.name(), view.price(), view.stock());
+    }
+
     public static ProductResponse from(Product product) {
         return new ProductResponse(
                 product.getId(),
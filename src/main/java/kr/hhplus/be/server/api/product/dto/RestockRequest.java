@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.api.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestockRequest {
+    private Integer quantity;
+}
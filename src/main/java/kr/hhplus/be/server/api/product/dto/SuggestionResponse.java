@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.api.product.dto;
+
+import kr.hhplus.be.server.service.product.search.SuggestionTrie.Suggestion;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SuggestionResponse {
+    private String text;
+    private Long score;
+
+    public static SuggestionResponse from(Suggestion suggestion) {
+        return new SuggestionResponse(suggestion.text(), suggestion.score());
+    }
+}
@@ -1,18 +1,31 @@
 package kr.hhplus.be.server.api.user;
 
 import kr.hhplus.be.server.api.user.dto.BalanceResponse;
+import kr.hhplus.be.server.api.user.dto.BalanceShardRequest;
+import kr.hhplus.be.server.api.user.dto.BulkChargeJobResponse;
+import kr.hhplus.be.server.api.user.dto.BulkChargeResponse;
 import kr.hhplus.be.server.api.user.dto.ChargeRequest;
+import kr.hhplus.be.server.service.user.BulkChargeFormat;
+import kr.hhplus.be.server.service.user.BulkChargeReport;
+import kr.hhplus.be.server.service.user.BulkPointChargeService;
+import kr.hhplus.be.server.service.user.UserBalanceShardService;
 import kr.hhplus.be.server.service.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final UserBalanceShardService userBalanceShardService;
+    private final BulkPointChargeService bulkPointChargeService;
 
     @PostMapping("/{userId}/charge")
     public ResponseEntity<BalanceResponse> chargePoint(
@@ -27,4 +40,36 @@ public class UserController {
         BalanceResponse response = userService.getBalance(userId);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 잔액 샤딩 활성화 (주문이 몰리는 계정용)
+     */
+    @PostMapping("/{userId}/balance-shards")
+    public ResponseEntity<BalanceResponse> enableBalanceSharding(
+            @PathVariable Long userId,
+            @RequestBody BalanceShardRequest request) {
+        userBalanceShardService.enableSharding(userId, request.getShardCount());
+        return ResponseEntity.ok(userService.getBalance(userId));
+    }
+
+    /**
+     * 대량 포인트 충전 (text/csv 또는 application/x-ndjson 스트리밍 입력)
+     * 중간에 실패하면 503과 함께 재개 위치(lastLine)를 응답하며, 같은 jobId로 같은 입력을 다시 보내면 이어서 처리합니다.
+     */
+    @PostMapping(value = "/bulk-charges/{jobId}", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<BulkChargeResponse> bulkCharge(
+            @PathVariable String jobId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        BulkChargeReport report = bulkPointChargeService.charge(jobId, BulkChargeFormat.fromContentType(contentType), body);
+        HttpStatus status = report.completed() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(BulkChargeResponse.from(report));
+    }
+
+    @GetMapping("/bulk-charges/{jobId}")
+    public ResponseEntity<BulkChargeJobResponse> getBulkChargeJob(@PathVariable String jobId) {
+        return bulkPointChargeService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(BulkChargeJobResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
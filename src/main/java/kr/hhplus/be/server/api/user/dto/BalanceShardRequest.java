@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.api.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceShardRequest {
+    private Integer shardCount;
+}
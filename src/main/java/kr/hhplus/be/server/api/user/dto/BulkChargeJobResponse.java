@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.api.user.dto;
+
+import kr.hhplus.be.server.domain.point.PointBulkChargeJob;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BulkChargeJobResponse {
+    private String jobId;
+    private Long lastLine;
+    private Long creditedCount;
+    private Long creditedAmount;
+    private LocalDateTime updatedAt;
+
+    public static BulkChargeJobResponse from(PointBulkChargeJob job) {
+        return new BulkChargeJobResponse(
+                job.getJobId(),
+                job.getLastLine(),
+                job.getCreditedCount(),
+                job.getCreditedAmount(),
+                job.getUpdatedAt()
+        );
+    }
+}
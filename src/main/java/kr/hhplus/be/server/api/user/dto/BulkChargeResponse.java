@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.api.user.dto;
+
+import kr.hhplus.be.server.service.user.BulkChargeChunkResult;
+import kr.hhplus.be.server.service.user.BulkChargeReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkChargeResponse {
+    private String jobId;
+    private boolean completed;
+    private Long lastLine;
+    private Long skippedLines;
+    private Long creditedCount;
+    private Long creditedAmount;
+    private List<BulkChargeChunkResult> chunks;
+
+    public static BulkChargeResponse from(BulkChargeReport report) {
+        return new BulkChargeResponse(
+                report.jobId(),
+                report.completed(),
+                report.lastLine(),
+                report.skippedLines(),
+                report.creditedCount(),
+                report.creditedAmount(),
+                report.chunks()
+        );
+    }
+}
@@ -0,0 +1,176 @@
+package kr.hhplus.be.server.application.order;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hhplus.be.server.infrastructure.event.PointChargedEvent;
+import kr.hhplus.be.server.infrastructure.event.ProductRestockedEvent;
+import kr.hhplus.be.server.service.product.SoldOutRegistry;
+import kr.hhplus.be.server.service.user.BalanceCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 사전 검증 (Admission)
+ * 분산락 획득과 트랜잭션 시작 전에, 실패가 확실한 주문을 로컬 캐시만으로 빠르게 거절합니다.
+ *
+ * 설계:
+ * - 품절 레지스트리: 품절 상품은 인스턴스 간에 공유되는 품절 목록으로 거절
+ * - 재고 힌트: 상품별 재고의 상한값 (차감 성공 시 남은 재고, 차감 실패 시 요청 수량 - 1)
+ * - 잔액 힌트: 사용자별 잔액의 상한값 (잔액 차감 실패 시 요청 금액 - 1)
+ * - 잔액 캐시: 충전/차감 커밋 직후 버전과 함께 기록된 잔액 (Redis, 인스턴스 간 공유)
+ * - 사용 불가 쿠폰: 이미 사용되었거나 만료된 쿠폰 ID (커밋된 사용만 기록하고, 잘못 기록된 경우에 대비해 긴 TTL을 둠)
+ *
+ * 힌트는 "이 값보다 많지는 않다"는 상한값만 기록하므로, 힌트로 거절된 주문은 실제로도 실패할 주문입니다.
+ * 다른 인스턴스의 재입고 등으로 힌트가 낡을 수 있으므로 짧은 TTL을 두고,
+ * 포인트 충전은 커밋 직후 잔액 힌트를 제거합니다.
+ * 최종 판단은 여전히 쓰기 경로의 조건부 UPDATE가 담당합니다.
+ */
+@Slf4j
+@Component
+public class OrderAdmissionValidator {
+
+    private static final long MAX_HINTS = 100_000;
+
+    private final SoldOutRegistry soldOutRegistry;
+    private final BalanceCache balanceCache;
+    private final Cache<Long, Integer> stockHints;
+    private final Cache<Long, Long> balanceHints;
+    private final Cache<Long, Boolean> unusableCoupons;
+
+    public OrderAdmissionValidator(SoldOutRegistry soldOutRegistry,
+                                   BalanceCache balanceCache,
+                                   @Value("${app.order.admission.hint-ttl-ms:3000}") long hintTtlMs,
+                                   @Value("${app.order.admission.coupon-hint-ttl-ms:600000}") long couponHintTtlMs) {
+        this.soldOutRegistry = soldOutRegistry;
+        this.balanceCache = balanceCache;
+        Duration hintTtl = Duration.ofMillis(hintTtlMs);
+        this.stockHints = Caffeine.newBuilder()
+                .maximumSize(MAX_HINTS)
+                .expireAfterWrite(hintTtl)
+                .build();
+        this.balanceHints = Caffeine.newBuilder()
+                .maximumSize(MAX_HINTS)
+                .expireAfterWrite(hintTtl)
+                .build();
+        this.unusableCoupons = Caffeine.newBuilder()
+                .maximumSize(MAX_HINTS)
+                .expireAfterWrite(Duration.ofMillis(couponHintTtlMs))
+                .build();
+    }
+
+    /**
+     * 주문을 사전 검증합니다.
+     * 캐시된 힌트만 사용하므로 DB 접근이 없습니다. (쿠폰 없는 주문만 잔액 캐시를 Redis에서 1회 조회)
+     *
+     * @param command 주문 명령
+     * @throws IllegalArgumentException 실패가 확실한 주문인 경우
+     */
+    public void validate(OrderCommand command) {
+        rejectSoldOut(command.getProductIds());
+
+        for (OrderItemCommand item : command.getOrderItems()) {
+            Integer stockHint = stockHints.getIfPresent(item.getProductId());
+            if (stockHint != null && stockHint < item.getQuantity()) {
+                log.debug("주문 사전 거절 - 재고 부족: productId={}, stockHint={}, quantity={}",
+                        item.getProductId(), stockHint, item.getQuantity());
+                throw new IllegalArgumentException("재고가 부족합니다.");
+            }
+        }
+
+        if (command.getCouponId() != null) {
+            if (unusableCoupons.getIfPresent(command.getCouponId()) != null) {
+                log.debug("주문 사전 거절 - 사용 불가 쿠폰: couponId={}", command.getCouponId());
+                throw new IllegalArgumentException("사용할 수 없는 쿠폰입니다.");
+            }
+            // 쿠폰 할인 후 금액을 알 수 없으므로 잔액 힌트는 쿠폰 없는 주문에만 적용
+            return;
+        }
+
+        Long balanceHint = balanceHints.getIfPresent(command.getUserId());
+        if (balanceHint != null && balanceHint < command.getTotalAmount()) {
+            log.debug("주문 사전 거절 - 잔액 부족: userId={}, balanceHint={}, totalAmount={}",
+                    command.getUserId(), balanceHint, command.getTotalAmount());
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        }
+
+        Long cachedBalance = balanceCache.get(command.getUserId()).orElse(null);
+        if (cachedBalance != null && cachedBalance < command.getTotalAmount()) {
+            log.debug("주문 사전 거절 - 잔액 부족(캐시): userId={}, balance={}, totalAmount={}",
+                    command.getUserId(), cachedBalance, command.getTotalAmount());
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        }
+    }
+
+    /**
+     * 품절 상품이 포함된 주문을 거절합니다.
+     * 로컬 메모리 조회만으로 판단하므로 상품 조회 전에 호출할 수 있습니다.
+     *
+     * @param productIds 주문 상품 ID 목록
+     * @throws IllegalArgumentException 품절 상품이 포함된 경우
+     */
+    public void rejectSoldOut(List<Long> productIds) {
+        for (Long productId : productIds) {
+            if (soldOutRegistry.isSoldOut(productId)) {
+                log.debug("주문 사전 거절 - 품절: productId={}", productId);
+                throw new IllegalArgumentException("재고가 부족합니다.");
+            }
+        }
+    }
+
+    /**
+     * 재고 차감 후 남은 재고를 기록합니다.
+     */
+    public void recordStock(Long productId, Integer remainingStock) {
+        if (productId == null || remainingStock == null) {
+            return;
+        }
+        stockHints.put(productId, remainingStock);
+    }
+
+    /**
+     * 재고 차감 실패를 기록합니다. 재고는 요청 수량보다 적습니다.
+     */
+    public void recordStockShortage(Long productId, int requestedQuantity) {
+        stockHints.put(productId, requestedQuantity - 1);
+    }
+
+    /**
+     * 잔액 차감 실패를 기록합니다. 잔액은 요청 금액보다 적습니다.
+     */
+    public void recordBalanceShortage(Long userId, long requestedAmount) {
+        balanceHints.put(userId, requestedAmount - 1);
+    }
+
+    /**
+     * 더 이상 사용할 수 없는 쿠폰(사용 완료, 만료)을 기록합니다.
+     * 쿠폰 사용은 롤백될 수 있으므로 사용 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+     */
+    public void recordCouponUnusable(Long couponId) {
+        if (couponId == null) {
+            return;
+        }
+        unusableCoupons.put(couponId, Boolean.TRUE);
+    }
+
+    /**
+     * 포인트 충전이 커밋되면 잔액 힌트를 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePointCharged(PointChargedEvent event) {
+        balanceHints.invalidate(event.getUserId());
+    }
+
+    /**
+     * 재입고가 커밋되면 재고 힌트를 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductRestocked(ProductRestockedEvent event) {
+        stockHints.invalidate(event.getProductId());
+    }
+}
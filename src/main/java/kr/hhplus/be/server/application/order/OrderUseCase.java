@@ -3,25 +3,51 @@ package kr.hhplus.be.server.application.order;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderItem;
 import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
 import kr.hhplus.be.server.domain.payment.Payment;
 import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import kr.hhplus.be.server.domain.point.PointHistory;
+import kr.hhplus.be.server.domain.point.PointHistoryRepository;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
 import kr.hhplus.be.server.domain.user.User;
 import kr.hhplus.be.server.domain.user.UserRepository;
 import kr.hhplus.be.server.domain.coupon.Coupon;
 import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.infrastructure.audit.OrderAuditBuffer;
+import kr.hhplus.be.server.infrastructure.audit.OrderAuditRecord;
+import kr.hhplus.be.server.infrastructure.audit.OrderAuditType;
+import kr.hhplus.be.server.infrastructure.payment.PaymentCancellationOutbox;
 import kr.hhplus.be.server.infrastructure.payment.PaymentGateway;
+import kr.hhplus.be.server.infrastructure.event.CouponUsedEvent;
 import kr.hhplus.be.server.infrastructure.event.OrderCompletedEvent;
+import kr.hhplus.be.server.infrastructure.event.PointChargedEvent;
+import kr.hhplus.be.server.infrastructure.event.ProductRestockedEvent;
 import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.service.coupon.CouponWalletCache;
+import kr.hhplus.be.server.service.coupon.CouponWalletEntry;
+import kr.hhplus.be.server.service.product.ProductCache;
+import kr.hhplus.be.server.service.product.SoldOutRegistry;
+import kr.hhplus.be.server.service.user.BalanceCache;
+import kr.hhplus.be.server.service.user.UserBalanceShardService;
 import org.springframework.context.ApplicationEventPublisher;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderUseCase {
@@ -37,144 +63,356 @@ public class OrderUseCase {
 	private final PaymentGateway paymentGateway;
 	private final ApplicationEventPublisher eventPublisher;
 	private final DistributedLock distributedLock;
+	private final OrderAdmissionValidator orderAdmissionValidator;
+	private final SoldOutRegistry soldOutRegistry;
+	private final OrderAuditBuffer orderAuditBuffer;
+	private final PlatformTransactionManager transactionManager;
+	private final CouponWalletCache couponWalletCache;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final UserBalanceShardService userBalanceShardService;
+	private final BalanceCache balanceCache;
+	private final ProductCache productCache;
+	private final PaymentCancellationOutbox paymentCancellationOutbox;
 
 	/**
 	 * 주문 및 결제 처리
-	 * 분산락을 사용하여 동시성 제어를 수행합니다.
+	 * 사용자별 주문 락 안에서 조회 트랜잭션 -> 예약 트랜잭션 -> 외부 결제 -> 확정(또는 보상) 트랜잭션 순으로 처리합니다.
 	 * 
-	 * 분산락과 DB 트랜잭션 혼용 시 주의사항:
-	 * 1. 분산락은 트랜잭션 밖에서 획득해야 합니다 (트랜잭션 내에서 획득하면 커밋 전에 락이 해제될 수 있음)
-	 * 2. 락의 범위를 최소화하여 성능 저하를 방지합니다
-	 * 3. 락 해제는 finally 블록에서 보장됩니다
+	 * 분산락과 DB 트랜잭션 혼용 원칙:
+	 * 1. 분산락은 트랜잭션 밖에서 획득하고 확정 트랜잭션이 커밋된 뒤에 해제합니다
+	 *    (트랜잭션 안에서 잡은 락은 커밋 전에 풀려, 다음 요청이 커밋되지 않은 변경을 보지 못한 채 진행할 수 있음)
+	 * 2. 따라서 트랜잭션 안의 공유 자원(재고, 잔액, 쿠폰)은 분산락 대신 조건부 UPDATE로 보호합니다
+	 *    UPDATE가 잡은 행 잠금은 커밋까지 유지되므로 커밋 전 해제 문제가 없습니다
+	 * 3. 외부 결제 호출은 예약 트랜잭션이 커밋된 뒤 트랜잭션 밖에서 수행하여,
+	 *    게이트웨이 응답을 기다리는 동안 커넥션과 행 잠금을 점유하지 않습니다
+	 *    재고/잔액/쿠폰 부족으로 실패할 주문은 예약 단계에서 걸러지므로 결제를 호출하지 않습니다
+	 * 4. 결제가 실패하면 보상 트랜잭션으로 재고/잔액/쿠폰을 되돌리고 주문을 FAILED로 기록합니다
+	 *    확정 트랜잭션이 실패하면 같은 멱등 키로 결제를 취소하고, 취소도 실패하면 아웃박스에 남겨 재시도합니다
 	 * 
 	 * 락 키 전략:
 	 * - 사용자별 주문 락: order:user:{userId} - 동일 사용자의 중복 주문 방지
-	 * - 상품별 재고 락: product:stock:{productId} - 재고 차감 시 동시성 제어
-	 * - 사용자별 잔액 락: user:balance:{userId} - 잔액 차감 시 동시성 제어
-	 * - 쿠폰별 사용 락: coupon:use:{couponId} - 쿠폰 중복 사용 방지
+	 *   (잔액 샤딩 사용자는 order:user:{userId}:{shardNo} - 샤드 수만큼 주문을 병렬 처리)
+	 * 
+	 * 조건부 UPDATE:
+	 * - 재고: decreaseStockIfAvailable (stock >= 수량), 보상 시 increaseStock
+	 * - 잔액: deductBalanceIfAvailable (잔액 샤딩 사용자는 샤드별 조건부 UPDATE), 보상 시 chargeBalance
+	 * - 쿠폰: useIfActive (ACTIVE -> USED), 보상 시 restoreIfUsed (USED -> ACTIVE)
+	 * - 주문/결제 상태: updateStatusIfPending (PENDING -> COMPLETED/FAILED, 확정과 보상 중 하나만 적용)
 	 */
 	public OrderResult execute(OrderCommand command) {
+		// 실패가 확실한 주문은 락 획득 전에 거절 (재고, 잔액, 쿠폰 힌트)
+		orderAdmissionValidator.validate(command);
+
 		// 사용자별 주문 락을 사용하여 동일 사용자의 중복 주문을 방지
 		// 여러 상품을 주문하는 경우에도 사용자 단위로 직렬화하여 데드락 방지
-		String userOrderLockKey = "order:user:" + command.getUserId();
+		// 잔액 샤딩 사용자는 임의의 샤드를 골라 샤드 단위로만 직렬화
+		int shardCount = userBalanceShardService.shardCountOf(command.getUserId());
+		int shardNo = shardCount > 0 ? ThreadLocalRandom.current().nextInt(shardCount) : 0;
+		String userOrderLockKey = shardCount > 0
+				? "order:user:" + command.getUserId() + ":" + shardNo
+				: "order:user:" + command.getUserId();
 
 		return distributedLock.executeWithLock(
 				userOrderLockKey,
 				LOCK_WAIT_TIME,
 				LOCK_LEASE_TIME,
-				() -> executeOrder(command));
+				() -> executeOrder(command, shardNo));
+	}
+
+	/**
+	 * 주문 처리
+	 * 조회는 읽기 전용 트랜잭션으로, 재고/잔액/쿠폰 차감과 PENDING 주문/결제 저장은 예약 트랜잭션 하나로 묶습니다.
+	 * 결제는 예약이 커밋된 뒤(트랜잭션 밖) 호출하고, 결과에 따라 확정 또는 보상 트랜잭션을 실행합니다.
+	 * 같은 빈 안에서 호출되므로 @Transactional 대신 TransactionTemplate으로 경계를 명시합니다.
+	 */
+	private OrderResult executeOrder(OrderCommand command, int shardNo) {
+		PreparedOrder prepared = inTransaction(true, () -> prepareOrder(command));
+		Long finalAmount = command.getTotalAmount() - prepared.discountAmount();
+		String paymentKey = UUID.randomUUID().toString();
+
+		// 재고/잔액/쿠폰 부족은 여기서 롤백되어 결제를 호출하지 않음
+		ReservedOrder reserved = inTransaction(false,
+				() -> reserveOrder(command, prepared, finalAmount, paymentKey, shardNo));
+
+		try {
+			paymentGateway.processPayment(reserved.userId(), finalAmount, paymentKey);
+		} catch (Exception e) {
+			orderAuditBuffer.record(OrderAuditRecord.of(
+					reserved.orderId(), reserved.userId(), OrderAuditType.PAYMENT_STATUS, PaymentStatus.FAILED.name(), finalAmount, e.getMessage()));
+			compensate(command, reserved, e.getMessage());
+			throw new RuntimeException("결제 처리 중 오류가 발생했습니다.", e);
+		}
+
+		try {
+			return inTransaction(false, () -> confirmOrder(command, reserved));
+		} catch (RuntimeException e) {
+			// 결제는 승인되었으나 주문을 확정하지 못했으므로 결제를 취소하고 예약을 되돌림
+			cancelPayment(reserved);
+			compensate(command, reserved, e.getMessage());
+			throw e;
+		}
 	}
 
-	@Transactional
-	private OrderResult executeOrder(OrderCommand command) {
+	/**
+	 * 주문에 필요한 데이터 조회 (읽기 전용)
+	 */
+	private PreparedOrder prepareOrder(OrderCommand command) {
 		// 1. 사용자 조회
 		User user = userRepository.findById(command.getUserId())
 				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-		// 2. 상품 조회 및 재고 확인
+		// 2. 상품 조회
 		List<Product> products = productRepository.findAllByIds(command.getProductIds());
 		if (products.size() != command.getProductIds().size()) {
 			throw new IllegalArgumentException("일부 상품을 찾을 수 없습니다.");
 		}
 
-		// 3. 재고 차감 및 주문 항목 생성
-		List<OrderItem> orderItems = createOrderItems(products, command.getOrderItems());
+		// 3. 쿠폰 할인 계산
+		Long discountAmount = calculateDiscount(command.getUserId(), command.getCouponId(), command.getTotalAmount());
+
+		return new PreparedOrder(user, products, discountAmount);
+	}
+
+	/**
+	 * 재고 차감, 잔액 차감, 쿠폰 사용, PENDING 주문/결제 저장 (예약 트랜잭션)
+	 * 모든 차감이 조건부 UPDATE이므로 트랜잭션 안에서는 분산락을 잡지 않습니다.
+	 */
+	private ReservedOrder reserveOrder(OrderCommand command, PreparedOrder prepared, Long finalAmount,
+			String paymentKey, int shardNo) {
+		User user = prepared.user();
 
-		// 4. 쿠폰 할인 계산
-		Long discountAmount = calculateDiscount(command.getCouponId(), command.getTotalAmount());
+		// 4. 재고 차감 및 주문 항목 생성
+		List<OrderItem> orderItems = createOrderItems(prepared.products(), command.getOrderItems());
 
-		// 5. 최종 금액 계산
-		Long finalAmount = command.getTotalAmount() - discountAmount;
+		// 5~6. 잔액 차감, 쿠폰 사용
+		if (user.isBalanceSharded()) {
+			deductShardedBalance(command.getUserId(), shardNo, finalAmount);
+		} else {
+			deductBalance(command.getUserId(), finalAmount);
+		}
+		useCoupon(command.getCouponId(), command.getUserId());
 
-		// 6. 주문 생성
+		// 7. 결제 대기 상태로 주문과 결제 저장
 		Order order = Order.builder()
 				.user(user)
 				.totalAmount(command.getTotalAmount())
-				.discountAmount(discountAmount)
+				.discountAmount(prepared.discountAmount())
 				.finalAmount(finalAmount)
 				.build();
-
 		orderItems.forEach(order::addOrderItem);
 		orderRepository.save(order);
+		paymentRepository.save(new Payment(order, finalAmount, paymentKey));
+
+		Long orderId = order.getId();
+		afterCommit(() -> orderAuditBuffer.recordAll(List.of(
+				OrderAuditRecord.of(orderId, user.getId(), OrderAuditType.ORDER_STATUS, OrderStatus.PENDING.name(), finalAmount, null),
+				OrderAuditRecord.of(orderId, user.getId(), OrderAuditType.PAYMENT_STATUS, PaymentStatus.PENDING.name(), finalAmount, null))));
+
+		return new ReservedOrder(orderId, user.getId(), finalAmount, paymentKey);
+	}
 
-		// 7. 결제 처리
-		Payment payment = Payment.builder()
-				.order(order)
-				.amount(finalAmount)
+	/**
+	 * 결제 승인 후 주문과 결제를 COMPLETED로 확정 (확정 트랜잭션)
+	 */
+	private OrderResult confirmOrder(OrderCommand command, ReservedOrder reserved) {
+		LocalDateTime now = LocalDateTime.now();
+		if (orderRepository.updateStatusIfPending(reserved.orderId(), OrderStatus.COMPLETED, now) == 0
+				|| paymentRepository.updateStatusIfPending(reserved.paymentKey(), PaymentStatus.COMPLETED, now) == 0) {
+			throw new IllegalStateException("결제 대기 중인 주문이 아닙니다: orderId=" + reserved.orderId());
+		}
+
+		// 8. 상태 변경 이력은 Write-Behind 버퍼로 적재 (커밋 이후)
+		Long orderId = reserved.orderId();
+		Long userId = reserved.userId();
+		Long finalAmount = reserved.finalAmount();
+		Long couponId = command.getCouponId();
+		afterCommit(() -> {
+			orderAuditBuffer.recordAll(List.of(
+					OrderAuditRecord.of(orderId, userId, OrderAuditType.PAYMENT_STATUS, PaymentStatus.COMPLETED.name(), finalAmount, null),
+					OrderAuditRecord.of(orderId, userId, OrderAuditType.ORDER_STATUS, OrderStatus.COMPLETED.name(), finalAmount, null)));
+			// 결제 실패 시 쿠폰은 다시 사용 가능해지므로 확정된 뒤에 사용 불가로 기록
+			orderAdmissionValidator.recordCouponUnusable(couponId);
+		});
+
+		// 9. 주문 완료 이벤트 발행 (트랜잭션과 분리)
+		OrderCompletedEvent event = OrderCompletedEvent.builder()
+				.source(this)
+				.orderId(orderId)
+				.userId(userId)
+				.finalAmount(finalAmount)
+				.totalAmount(command.getTotalAmount())
+				.discountAmount(command.getTotalAmount() - finalAmount)
 				.build();
-		paymentRepository.save(payment);
+		eventPublisher.publishEvent(event);
 
+		return OrderResult.success(orderId, finalAmount);
+	}
+
+	/**
+	 * 결제 실패 주문의 보상 (보상 트랜잭션)
+	 * 재고/잔액/쿠폰을 되돌리고 주문과 결제를 FAILED로 기록합니다.
+	 * 보상 실패가 원래 예외를 가리지 않도록 기록만 합니다. (주문은 PENDING으로 남아 대사 대상이 됨)
+	 */
+	private void compensate(OrderCommand command, ReservedOrder reserved, String reason) {
 		try {
-			// 8. 결제 게이트웨이를 통한 결제 처리
-			paymentGateway.processPayment(user.getId(), finalAmount);
-
-			// 9. 사용자별 잔액 락을 사용하여 잔액 차감 시 동시성 제어
-			String balanceLockKey = "user:balance:" + command.getUserId();
-			distributedLock.executeWithLock(
-					balanceLockKey,
-					LOCK_WAIT_TIME,
-					LOCK_LEASE_TIME,
-					() -> {
-						// 조건부 UPDATE를 사용한 사용자 잔액 차감 (동시성 제어)
-						// 분산락과 DB 트랜잭션을 함께 사용하여 이중 보호
-						int updatedRows = userRepository.deductBalanceIfAvailable(command.getUserId(), finalAmount);
-						if (updatedRows == 0) {
-							throw new IllegalArgumentException("잔액이 부족합니다.");
-						}
-					});
+			inTransaction(false, () -> releaseReservation(command, reserved, reason));
+		} catch (RuntimeException e) {
+			log.error("주문 보상 실패: orderId={}, userId={}, amount={}, error={}",
+					reserved.orderId(), reserved.userId(), reserved.finalAmount(), e.getMessage(), e);
+		}
+	}
 
-			// 10. 쿠폰 사용 처리
-			if (command.getCouponId() != null) {
-				// 쿠폰별 사용 락을 사용하여 쿠폰 중복 사용 방지
-				String couponLockKey = "coupon:use:" + command.getCouponId();
-				distributedLock.executeWithLock(
-						couponLockKey,
-						LOCK_WAIT_TIME,
-						LOCK_LEASE_TIME,
-						() -> {
-							Coupon coupon = couponRepository
-									.findByIdAndUserId(command.getCouponId(), command.getUserId())
-									.orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
-							coupon.use();
-							couponRepository.save(coupon);
-						});
-			}
+	private Void releaseReservation(OrderCommand command, ReservedOrder reserved, String reason) {
+		LocalDateTime now = LocalDateTime.now();
+		// 이미 확정되었거나 보상된 주문이면 중복으로 되돌리지 않음
+		if (orderRepository.updateStatusIfPending(reserved.orderId(), OrderStatus.FAILED, now) == 0) {
+			return null;
+		}
+		paymentRepository.updateStatusIfPending(reserved.paymentKey(), PaymentStatus.FAILED, now);
 
-			// 11. 주문 완료 처리
-			order.complete();
-			payment.complete();
-			orderRepository.save(order);
-			paymentRepository.save(payment);
-
-			// 12. 주문 완료 이벤트 발행 (트랜잭션과 분리)
-			OrderCompletedEvent event = OrderCompletedEvent.builder()
-					.source(this)
-					.orderId(order.getId())
-					.userId(order.getUser().getId())
-					.finalAmount(order.getFinalAmount())
-					.totalAmount(order.getTotalAmount())
-					.discountAmount(order.getDiscountAmount())
-					.build();
-			eventPublisher.publishEvent(event);
-
-			return OrderResult.success(order.getId(), finalAmount);
+		// 예약과 같은 순서(상품 ID -> 사용자)로 행 잠금을 잡아 데드락 방지
+		command.getOrderItems().stream()
+				.sorted((a, b) -> Long.compare(a.getProductId(), b.getProductId()))
+				.forEach(item -> {
+					productRepository.increaseStock(item.getProductId(), item.getQuantity());
+					// 커밋 후 품절 해제, 재고 힌트 제거, 상품 캐시 재고 반영
+					eventPublisher.publishEvent(ProductRestockedEvent.builder()
+							.source(this)
+							.productId(item.getProductId())
+							.quantity(item.getQuantity())
+							.build());
+				});
+
+		refundBalance(reserved.userId(), reserved.finalAmount());
+
+		Long couponId = command.getCouponId();
+		if (couponId != null && couponRepository.restoreIfUsed(couponId, reserved.userId()) > 0) {
+			afterCommit(() -> couponWalletCache.evict(reserved.userId()));
+		}
+
+		afterCommit(() -> orderAuditBuffer.record(OrderAuditRecord.of(
+				reserved.orderId(), reserved.userId(), OrderAuditType.ORDER_STATUS, OrderStatus.FAILED.name(), reserved.finalAmount(), reason)));
+		return null;
+	}
+
+	/**
+	 * 차감한 잔액을 되돌립니다.
+	 * 잔액 샤딩 사용자도 충전과 마찬가지로 본 행에 되돌리며, 커밋 후 잔액 힌트와 캐시는 충전 이벤트로 갱신합니다.
+	 */
+	private void refundBalance(Long userId, Long amount) {
+		userRepository.chargeBalance(userId, amount);
+		pointHistoryRepository.save(PointHistory.refund(userId, amount));
+
+		List<Object[]> rows = userRepository.findBalanceStateById(userId);
+		if (rows.isEmpty()) {
+			return;
+		}
+		Object[] state = rows.get(0);
+		eventPublisher.publishEvent(PointChargedEvent.builder()
+				.source(this)
+				.userId(userId)
+				.amount(amount)
+				.balance(((Number) state[0]).longValue())
+				.balanceVersion(((Number) state[1]).longValue())
+				.balanceSharded(((Number) state[2]).intValue() > 0)
+				.build());
+	}
+
+	/**
+	 * 확정 트랜잭션 실패 시 결제 취소 (보상)
+	 * 취소도 실패하면 아웃박스에 남겨 같은 멱등 키로 재시도합니다.
+	 */
+	private void cancelPayment(ReservedOrder reserved) {
+		try {
+			paymentGateway.cancelPayment(reserved.userId(), reserved.finalAmount(), reserved.paymentKey());
 		} catch (Exception e) {
-			// 결제 실패 시 롤백
-			payment.fail();
-			paymentRepository.save(payment);
-			order.cancel();
-			orderRepository.save(order);
-			throw new RuntimeException("결제 처리 중 오류가 발생했습니다.", e);
+			log.error("결제 취소 실패, 재시도 대상으로 기록: userId={}, amount={}, paymentKey={}, error={}",
+					reserved.userId(), reserved.finalAmount(), reserved.paymentKey(), e.getMessage(), e);
+			try {
+				paymentCancellationOutbox.enqueue(reserved.userId(), reserved.finalAmount(), reserved.paymentKey());
+			} catch (RuntimeException enqueueFailure) {
+				log.error("결제 취소 재시도 기록 실패: paymentKey={}, error={}",
+						reserved.paymentKey(), enqueueFailure.getMessage(), enqueueFailure);
+			}
+		}
+	}
+
+	/**
+	 * 조건부 UPDATE를 사용한 사용자 잔액 차감 (동시성 제어)
+	 * 잔액이 충분할 때만 차감하고, 행 잠금은 커밋까지 유지됩니다.
+	 */
+	private void deductBalance(Long userId, Long finalAmount) {
+		int updatedRows = userRepository.deductBalanceIfAvailable(userId, finalAmount);
+		if (updatedRows == 0) {
+			orderAdmissionValidator.recordBalanceShortage(userId, finalAmount);
+			throw new IllegalArgumentException("잔액이 부족합니다.");
+		}
+		// 같은 트랜잭션에서 원장에 사용 이력 추가
+		pointHistoryRepository.save(PointHistory.use(userId, finalAmount));
+		refreshBalanceCache(userId);
+	}
+
+	/**
+	 * 차감한 트랜잭션에서 잔액과 버전을 읽어 두고, 커밋 직후 잔액 캐시에 기록합니다.
+	 * 버전 비교로 기록하므로 커밋 순서와 기록 순서가 달라도 낡은 값이 남지 않습니다.
+	 */
+	private void refreshBalanceCache(Long userId) {
+		List<Object[]> rows = userRepository.findBalanceStateById(userId);
+		if (rows.isEmpty()) {
+			return;
+		}
+		Object[] state = rows.get(0);
+		long balance = ((Number) state[0]).longValue();
+		long version = ((Number) state[1]).longValue();
+		boolean sharded = ((Number) state[2]).intValue() > 0;
+		afterCommit(() -> {
+			if (sharded) {
+				balanceCache.retire(userId, version);
+			} else {
+				balanceCache.put(userId, balance, version);
+			}
+		});
+	}
+
+	/**
+	 * 잔액 샤딩 사용자의 잔액 차감
+	 * 샤드별 조건부 UPDATE로 차감합니다.
+	 */
+	private void deductShardedBalance(Long userId, int shardNo, Long finalAmount) {
+		if (!userBalanceShardService.deduct(userId, shardNo, finalAmount)) {
+			orderAdmissionValidator.recordBalanceShortage(userId, finalAmount);
+			throw new IllegalArgumentException("잔액이 부족합니다.");
 		}
+		pointHistoryRepository.save(PointHistory.use(userId, finalAmount));
+	}
+
+	/**
+	 * 조건부 UPDATE로 쿠폰 사용 처리 (중복 사용 방지)
+	 * 분산락은 커밋 전에 풀려 같은 쿠폰의 동시 주문을 막지 못하므로(잔액 샤딩 사용자는 주문 락도 샤드별),
+	 * ACTIVE 상태일 때만 USED로 바꾸는 UPDATE의 행 잠금으로 커밋까지 한 주문만 통과시킵니다.
+	 */
+	private void useCoupon(Long couponId, Long userId) {
+		if (couponId == null) {
+			return;
+		}
+		if (couponRepository.useIfActive(couponId, userId, LocalDateTime.now()) == 0) {
+			throw new IllegalArgumentException("사용할 수 없는 쿠폰입니다.");
+		}
+		// 커밋 후 쿠폰 지갑 캐시 무효화 (사용 불가 힌트는 결제가 확정된 뒤에 기록)
+		eventPublisher.publishEvent(CouponUsedEvent.builder()
+				.source(this)
+				.couponId(couponId)
+				.userId(userId)
+				.build());
 	}
 
 	/**
 	 * 주문 항목 생성 및 재고 차감
-	 * 각 상품별로 분산락을 사용하여 재고 차감 시 동시성 제어를 수행합니다.
-	 * 상품 ID를 정렬하여 락을 획득함으로써 데드락을 방지합니다.
+	 * 상품별 조건부 UPDATE로 재고를 차감하며, 행 잠금은 커밋까지 유지됩니다.
+	 * 상품 ID 순으로 차감하여 여러 상품 주문 간 행 잠금 순서를 맞춰 데드락을 방지합니다.
 	 */
 	private List<OrderItem> createOrderItems(List<Product> products, List<OrderItemCommand> orderItemCommands) {
-		// 데드락 방지를 위해 상품 ID를 정렬하여 락 획득 순서를 보장
+		// 데드락 방지를 위해 상품 ID를 정렬하여 행 잠금 순서를 보장
 		List<OrderItemCommand> sortedCommands = orderItemCommands.stream()
 				.sorted((a, b) -> Long.compare(a.getProductId(), b.getProductId()))
 				.collect(Collectors.toList());
@@ -186,46 +424,123 @@ public class OrderUseCase {
 							.findFirst()
 							.orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
-					// 상품별 재고 락을 사용하여 재고 차감 시 동시성 제어
-					String stockLockKey = "product:stock:" + product.getId();
-
-					return distributedLock.executeWithLock(
-							stockLockKey,
-							LOCK_WAIT_TIME,
-							LOCK_LEASE_TIME,
-							() -> {
-								// 조건부 UPDATE를 사용한 재고 차감 (동시성 제어)
-								// 분산락과 DB 트랜잭션을 함께 사용하여 이중 보호
-								int updatedRows = productRepository.decreaseStockIfAvailable(
-										product.getId(),
-										itemCommand.getQuantity());
-
-								if (updatedRows == 0) {
-									throw new IllegalArgumentException("재고가 부족합니다: " + product.getName());
-								}
-
-								// 업데이트된 상품 정보 조회
-								Product updatedProduct = productRepository.findById(product.getId())
-										.orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-
-								return OrderItem.builder()
-										.product(updatedProduct)
-										.quantity(itemCommand.getQuantity())
-										.price(updatedProduct.getPrice())
-										.build();
-							});
+					// 조건부 UPDATE를 사용한 재고 차감 (동시성 제어)
+					int updatedRows = productRepository.decreaseStockIfAvailable(
+							product.getId(),
+							itemCommand.getQuantity());
+
+					if (updatedRows == 0) {
+						orderAdmissionValidator.recordStockShortage(product.getId(), itemCommand.getQuantity());
+						// 1개 주문이 실패했다면 재고는 0 (조건부 UPDATE가 최신 커밋 값을 기준으로 판단)
+						// 주문 트랜잭션은 롤백되므로 트랜잭션이 끝난 뒤 등록하고,
+						// 그 사이 재입고로 어긋난 등록은 레지스트리의 주기적 DB 대조로 정리
+						if (itemCommand.getQuantity() == 1) {
+							afterCompletion(() -> soldOutRegistry.markSoldOut(product.getId()));
+						}
+						throw new IllegalArgumentException("재고가 부족합니다: " + product.getName());
+					}
+
+					// 남은 재고만 조회하여 사전 검증 힌트와 상품 캐시에 반영, 마지막 재고를 차감했다면 품절 등록
+					// 롤백 시 잘못된 품절 등록을 막기 위해 커밋 이후에 반영
+					Integer remainingStock = productRepository.findStockById(product.getId());
+					afterCommit(() -> {
+						orderAdmissionValidator.recordStock(product.getId(), remainingStock);
+						productCache.adjustStock(product.getId(), -itemCommand.getQuantity());
+						if (remainingStock != null && remainingStock == 0) {
+							soldOutRegistry.markSoldOut(product.getId());
+						}
+					});
+
+					return OrderItem.builder()
+							.product(product)
+							.quantity(itemCommand.getQuantity())
+							.price(product.getPrice())
+							.build();
 				})
 				.collect(Collectors.toList());
 	}
 
-	private Long calculateDiscount(Long couponId, Long totalAmount) {
+	private <T> T inTransaction(boolean readOnly, Supplier<T> action) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(readOnly);
+		return template.execute(status -> action.get());
+	}
+
+	/**
+	 * 트랜잭션이 활성화되어 있으면 커밋 이후에, 아니면 즉시 실행합니다.
+	 * 커밋 이후 작업(캐시/힌트 반영)의 실패는 기록만 합니다. 예외가 전파되면 커밋된 주문이 보상되기 때문입니다.
+	 */
+	private void afterCommit(Runnable action) {
+		Runnable guarded = guarded(action);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			guarded.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				guarded.run();
+			}
+		});
+	}
+
+	/**
+	 * 트랜잭션이 활성화되어 있으면 커밋/롤백과 관계없이 종료 이후에, 아니면 즉시 실행합니다.
+	 */
+	private void afterCompletion(Runnable action) {
+		Runnable guarded = guarded(action);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			guarded.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				guarded.run();
+			}
+		});
+	}
+
+	private Runnable guarded(Runnable action) {
+		return () -> {
+			try {
+				action.run();
+			} catch (RuntimeException e) {
+				log.warn("트랜잭션 이후 작업 실패: error={}", e.getMessage(), e);
+			}
+		};
+	}
+
+	/**
+	 * 쿠폰 할인 금액 계산
+	 * 사용자 쿠폰 지갑 캐시에 있으면 DB 조회 없이 계산하고,
+	 * 없으면(다른 사용자 쿠폰, 이미 사용된 쿠폰 등) DB에서 조회하여 기존 판정을 따릅니다.
+	 */
+	private Long calculateDiscount(Long userId, Long couponId, Long totalAmount) {
 		if (couponId == null) {
 			return 0L;
 		}
 
+		CouponWalletEntry cached = couponWalletCache.find(userId, couponId).orElse(null);
+		if (cached != null) {
+			if (!cached.isUsable()) {
+				orderAdmissionValidator.recordCouponUnusable(couponId);
+			}
+			return cached.calculateDiscount(totalAmount);
+		}
+
 		Coupon coupon = couponRepository.findById(couponId)
 				.orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
 
+		if (!coupon.isUsable()) {
+			orderAdmissionValidator.recordCouponUnusable(couponId);
+		}
 		return coupon.calculateDiscount(totalAmount);
 	}
+
+	private record PreparedOrder(User user, List<Product> products, Long discountAmount) {
+	}
+
+	private record ReservedOrder(Long orderId, Long userId, Long finalAmount, String paymentKey) {
+	}
 }
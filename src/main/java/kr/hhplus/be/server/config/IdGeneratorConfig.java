@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.config;
+
+import kr.hhplus.be.server.infrastructure.id.SnowflakeIdGenerator;
+import kr.hhplus.be.server.infrastructure.id.SnowflakeIdentifierGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Snowflake ID 생성기 설정
+ * 인스턴스마다 노드 ID가 달라야 ID가 충돌하지 않습니다.
+ *
+ * 설계:
+ * - app.id-generator.node-id(NODE_ID 환경 변수)가 있으면 그 값을 사용
+ * - 없으면 StatefulSet 파드 이름(HOSTNAME)의 서수(예: server-3 → 3)를 노드 ID로 사용
+ * - 둘 다 없으면 기본값으로 기동하지 않고 실패 (모든 인스턴스가 같은 노드 ID로 ID를 중복 발급하는 것을 방지)
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final Pattern POD_ORDINAL = Pattern.compile("-(\\d+)$");
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${app.id-generator.node-id:}") String nodeId,
+                                                     @Value("${HOSTNAME:}") String hostname) {
+        long resolved = resolveNodeId(nodeId, hostname);
+        SnowflakeIdGenerator generator = SnowflakeIdentifierGenerator.configure(resolved);
+        log.info("Snowflake ID 생성기 설정: nodeId={}", resolved);
+        return generator;
+    }
+
+    static long resolveNodeId(String nodeId, String hostname) {
+        if (nodeId != null && !nodeId.isBlank()) {
+            try {
+                return Long.parseLong(nodeId.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("app.id-generator.node-id가 숫자가 아닙니다: " + nodeId, e);
+            }
+        }
+        if (hostname != null) {
+            Matcher matcher = POD_ORDINAL.matcher(hostname.trim());
+            if (matcher.find()) {
+                return Long.parseLong(matcher.group(1));
+            }
+        }
+        throw new IllegalStateException(
+                "Snowflake 노드 ID가 설정되지 않았습니다. app.id-generator.node-id(NODE_ID)를 지정하거나 "
+                        + "파드 서수가 붙은 HOSTNAME(예: server-0)으로 실행하세요.");
+    }
+
+    /**
+     * 첫 INSERT 전에 노드 ID가 설정되도록 EntityManagerFactory가 생성기 빈에 의존하게 합니다.
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor snowflakeIdGeneratorDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor("snowflakeIdGenerator");
+    }
+}
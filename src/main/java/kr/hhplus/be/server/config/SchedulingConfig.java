@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 로컬 캐시 재동기화 등 주기적인 백그라운드 작업을 위한 설정입니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.domain.coupon;
 import jakarta.persistence.*;
 import kr.hhplus.be.server.domain.common.BaseEntity;
 import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.infrastructure.id.SnowflakeId;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,19 +12,28 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons", uniqueConstraints = {
+        // 캠페인당 사용자 1장 (중복 발급 최종 안전장치, campaign_id가 NULL인 쿠폰은 제외)
+        @UniqueConstraint(name = "uk_coupons_campaign_user", columnNames = {"campaign_id", "user_id"})
+}, indexes = {
+        // 만료 정리 배치의 키셋 페이지네이션 (status 동등 조건 + expired_at, id 순 범위 스캔)
+        @Index(name = "idx_coupons_status_expired_at", columnList = "status, expired_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Coupon extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
     @Column(nullable = false)
     private String name;
 
@@ -38,8 +48,9 @@ public class Coupon extends BaseEntity {
     private CouponStatus status;
 
     @Builder
-    public Coupon(User user, String name, Integer discountRate, LocalDateTime expiredAt) {
+    public Coupon(User user, Long campaignId, String name, Integer discountRate, LocalDateTime expiredAt) {
         this.user = user;
+        this.campaignId = campaignId;
         this.name = name;
         this.discountRate = discountRate;
         this.expiredAt = expiredAt;
@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.domain.common.BaseEntity;
+import kr.hhplus.be.server.domain.user.User;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 캠페인
+ * 캠페인마다 발급 한도(totalQuantity)와 발급 수(issuedCount)를 가지며,
+ * 발급 수는 단일 행 조건부 UPDATE로만 증가시켜 캠페인끼리 서로 영향을 주지 않습니다.
+ */
+@Entity
+@Table(name = "coupon_campaigns")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponCampaign extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String code;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Integer discountRate;
+
+    @Column(nullable = false)
+    private Integer validDays;
+
+    @Column(nullable = false)
+    private Integer totalQuantity;
+
+    @Column(nullable = false)
+    private Integer issuedCount;
+
+    @Builder
+    public CouponCampaign(String code, String name, Integer discountRate, Integer validDays, Integer totalQuantity) {
+        if (totalQuantity == null || totalQuantity <= 0) {
+            throw new IllegalArgumentException("발급 수량은 0보다 커야 합니다.");
+        }
+        this.code = code;
+        this.name = name;
+        this.discountRate = discountRate;
+        this.validDays = validDays;
+        this.totalQuantity = totalQuantity;
+        this.issuedCount = 0;
+    }
+
+    public int getRemainingQuantity() {
+        return totalQuantity - issuedCount;
+    }
+
+    /**
+     * 일괄 발급한 수량만큼 발급 수를 증가시킵니다.
+     * 호출 전에 캠페인 행을 잠가야 합니다. (findByIdForUpdate)
+     */
+    public void increaseIssuedCount(int quantity) {
+        if (quantity < 0 || quantity > getRemainingQuantity()) {
+            throw new IllegalStateException("쿠폰 발급 한도에 도달했습니다.");
+        }
+        this.issuedCount += quantity;
+    }
+
+    public Coupon issueTo(User user) {
+        return Coupon.builder()
+                .user(user)
+                .campaignId(this.id)
+                .name(this.name)
+                .discountRate(this.discountRate)
+                .expiredAt(LocalDateTime.now().plusDays(this.validDays))
+                .build();
+    }
+}
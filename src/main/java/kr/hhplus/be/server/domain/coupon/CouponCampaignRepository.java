@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CouponCampaignRepository extends JpaRepository<CouponCampaign, Long> {
+
+    Optional<CouponCampaign> findByCode(String code);
+
+    /**
+     * 대기열 일괄 발급용 캠페인 행 잠금 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CouponCampaign c WHERE c.id = :campaignId")
+    Optional<CouponCampaign> findByIdForUpdate(@Param("campaignId") Long campaignId);
+
+    /**
+     * 조건부 UPDATE를 사용한 발급 수 증가 (동시성 제어)
+     * 캠페인 행 하나만 잠그므로 발급 비용이 쿠폰 테이블 크기와 무관합니다.
+     *
+     * @return 업데이트된 행 수 (0이면 한도 도달)
+     */
+    @Modifying
+    @Query("UPDATE CouponCampaign c SET c.issuedCount = c.issuedCount + 1 " +
+           "WHERE c.id = :campaignId AND c.issuedCount < c.totalQuantity")
+    int increaseIssuedCountIfAvailable(@Param("campaignId") Long campaignId);
+
+    /**
+     * 이미 발급된 쿠폰 수를 발급 수에 더합니다.
+     * 발급 수는 한도(totalQuantity)를 넘지 않도록 한도에서 멈추며, 한도에 도달하면 추가 발급이 막힙니다.
+     *
+     * @return 업데이트된 행 수 (0이면 캠페인 없음)
+     */
+    @Modifying
+    @Query("UPDATE CouponCampaign c SET c.issuedCount = LEAST(c.issuedCount + :count, c.totalQuantity) " +
+           "WHERE c.id = :campaignId")
+    int addIssuedCount(@Param("campaignId") Long campaignId, @Param("count") int count);
+}
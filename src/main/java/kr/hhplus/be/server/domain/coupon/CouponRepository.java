@@ -1,30 +1,75 @@
 package kr.hhplus.be.server.domain.coupon;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT COUNT(c) FROM Coupon c WHERE c.status = 'ACTIVE'")
-    Long countActiveCoupons();
+    /**
+     * 사용자의 쿠폰을 상태별로 ID 순 프로젝션 조회 (쿠폰 지갑 적재용)
+     */
+    @Query("SELECT new kr.hhplus.be.server.domain.coupon.CouponView(c.id, c.name, c.discountRate, c.expiredAt) " +
+           "FROM Coupon c WHERE c.user.id = :userId AND c.status = :status ORDER BY c.id")
+    List<CouponView> findViewsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") CouponStatus status);
+
+    Optional<Coupon> findByIdAndUserId(Long id, Long userId);
 
     /**
-     * SELECT FOR UPDATE를 사용한 활성 쿠폰 개수 조회 (동시성 제어)
-     * 비관적 락을 사용하여 동시 발급 시 초과 발급 방지
+     * 조건부 UPDATE로 쿠폰 사용 처리 (중복 사용 방지)
+     * 본인 소유이고 사용 가능(ACTIVE, 미만료)한 쿠폰일 때만 USED로 변경합니다.
+     *
+     * @return 변경된 행 수 (0이면 없는 쿠폰, 다른 사용자의 쿠폰, 이미 사용했거나 만료된 쿠폰)
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT COUNT(c) FROM Coupon c WHERE c.status = 'ACTIVE'")
-    Long countActiveCouponsWithLock();
+    @Modifying
+    @Query("UPDATE Coupon c SET c.status = kr.hhplus.be.server.domain.coupon.CouponStatus.USED " +
+           "WHERE c.id = :couponId AND c.user.id = :userId " +
+           "AND c.status = kr.hhplus.be.server.domain.coupon.CouponStatus.ACTIVE AND c.expiredAt >= :now")
+    int useIfActive(@Param("couponId") Long couponId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
 
-    List<Coupon> findByUserIdAndStatus(Long userId, CouponStatus status);
+    /**
+     * 조건부 UPDATE를 사용한 쿠폰 사용 취소 (결제 실패 주문의 보상)
+     * 본인 소유이고 USED 상태일 때만 ACTIVE로 되돌립니다.
+     *
+     * @return 변경된 행 수 (0이면 없는 쿠폰, 다른 사용자의 쿠폰, 사용되지 않은 쿠폰)
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.status = kr.hhplus.be.server.domain.coupon.CouponStatus.ACTIVE " +
+           "WHERE c.id = :couponId AND c.user.id = :userId " +
+           "AND c.status = kr.hhplus.be.server.domain.coupon.CouponStatus.USED")
+    int restoreIfUsed(@Param("couponId") Long couponId, @Param("userId") Long userId);
 
-    Optional<Coupon> findByIdAndUserId(Long id, Long userId);
+    /**
+     * 캠페인 도입 전에 발급된 쿠폰(campaign_id 없음) 중 사용자별로 가장 먼저 발급된 쿠폰 ID 조회
+     * 캠페인당 사용자 1장(uk_coupons_campaign_user)이므로 사용자별 한 장만 캠페인에 편입할 수 있습니다.
+     */
+    @Query("SELECT MIN(c.id) FROM Coupon c WHERE c.campaignId IS NULL GROUP BY c.user.id")
+    List<Long> findFirstUnassignedCouponIdPerUser();
+
+    /**
+     * 캠페인 도입 전에 발급된 쿠폰을 캠페인 발급분으로 편입
+     * MySQL은 UPDATE 대상 테이블을 서브쿼리로 다시 읽을 수 없으므로 편입할 ID 목록을 받아 갱신합니다.
+     *
+     * @return 편입된 쿠폰 수
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.campaignId = :campaignId WHERE c.id IN :couponIds AND c.campaignId IS NULL")
+    int assignCampaign(@Param("campaignId") Long campaignId, @Param("couponIds") Collection<Long> couponIds);
+
+    @Query("SELECT c.user.id FROM Coupon c WHERE c.campaignId = :campaignId")
+    List<Long> findUserIdsByCampaignId(@Param("campaignId") Long campaignId);
+
+    /**
+     * 캠페인 쿠폰을 이미 발급받은 사용자와 쿠폰 ID 조회 (대기열 일괄 발급의 중복 확인용)
+     *
+     * @return [userId, couponId] 목록
+     */
+    @Query("SELECT c.user.id, c.id FROM Coupon c WHERE c.campaignId = :campaignId AND c.user.id IN :userIds")
+    List<Object[]> findIssuedCouponIds(@Param("campaignId") Long campaignId, @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 지갑 적재용 프로젝션
+ * 엔티티 대신 필요한 컬럼만 생성자 표현식으로 조회하여 영속성 컨텍스트에 적재하지 않습니다. (User 프록시도 만들지 않음)
+ */
+public record CouponView(Long id, String name, Integer discountRate, LocalDateTime expiredAt) {
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.domain.order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +18,16 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "GROUP BY oi.product.id " +
            "ORDER BY totalQuantity DESC")
     List<Object[]> findTopSellingProducts(@Param("startDate") LocalDateTime startDate);
+
+    /**
+     * 결제 대기(PENDING) 주문의 상태를 확정합니다. (COMPLETED 또는 FAILED)
+     * 확정과 보상이 같은 주문을 동시에 바꾸지 않도록 PENDING일 때만 변경합니다.
+     *
+     * @return 변경된 행 수 (0이면 없는 주문이거나 이미 확정된 주문)
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :now " +
+           "WHERE o.id = :orderId AND o.status = kr.hhplus.be.server.domain.order.OrderStatus.PENDING")
+    int updateStatusIfPending(@Param("orderId") Long orderId, @Param("status") OrderStatus status,
+                              @Param("now") LocalDateTime now);
 }
@@ -3,5 +3,6 @@ package kr.hhplus.be.server.domain.order;
 public enum OrderStatus {
     PENDING,
     COMPLETED,
-    CANCELLED
+    CANCELLED,
+    FAILED
 }
@@ -1,9 +1,11 @@
 package kr.hhplus.be.server.domain.payment;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -15,4 +17,16 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     @Query("SELECT p FROM Payment p WHERE p.order.id = :orderId")
     Optional<Payment> findByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * 결제 대기(PENDING) 결제의 상태를 확정합니다. (COMPLETED 또는 FAILED)
+     *
+     * @return 변경된 행 수 (0이면 없는 결제이거나 이미 확정된 결제)
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status, p.updatedAt = :now " +
+           "WHERE p.idempotencyKey = :idempotencyKey " +
+           "AND p.status = kr.hhplus.be.server.domain.payment.PaymentStatus.PENDING")
+    int updateStatusIfPending(@Param("idempotencyKey") String idempotencyKey, @Param("status") PaymentStatus status,
+                              @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.domain.point;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.infrastructure.id.SnowflakeId;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 잔액 스냅샷
+ * lastHistoryId까지의 이력이 반영된 잔액을 기록합니다.
+ * 잔액 재구성 = 최신 스냅샷 잔액 + lastHistoryId 이후 이력 금액 합계
+ */
+@Entity
+@Table(
+        name = "point_balance_snapshots",
+        indexes = @Index(name = "idx_point_balance_snapshots_user_id_id", columnList = "user_id, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBalanceSnapshot {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(nullable = false)
+    private Long lastHistoryId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PointBalanceSnapshot(Long userId, Long balance, Long lastHistoryId) {
+        this.userId = userId;
+        this.balance = balance;
+        this.lastHistoryId = lastHistoryId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
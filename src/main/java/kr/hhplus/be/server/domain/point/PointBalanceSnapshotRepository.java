@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    Optional<PointBalanceSnapshot> findTopByUserIdOrderByIdDesc(Long userId);
+
+    Optional<PointBalanceSnapshot> findTopByOrderByIdDesc();
+}
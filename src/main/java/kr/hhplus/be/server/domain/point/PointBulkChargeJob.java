@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.domain.point;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.domain.common.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 포인트 충전 작업의 진행 상태 (체크포인트)
+ * lastLine까지의 입력 줄이 반영되었음을 기록하며, 청크를 반영하는 트랜잭션에서 함께 갱신합니다.
+ * 같은 jobId로 다시 요청하면 lastLine 이후 줄부터 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "point_bulk_charge_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBulkChargeJob extends BaseEntity {
+
+    @Id
+    @Column(name = "job_id", length = 64)
+    private String jobId;
+
+    @Column(nullable = false)
+    private Long lastLine;
+
+    @Column(nullable = false)
+    private Long creditedCount;
+
+    @Column(nullable = false)
+    private Long creditedAmount;
+}
@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointBulkChargeJobRepository extends JpaRepository<PointBulkChargeJob, String> {
+}
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.domain.point;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.infrastructure.id.SnowflakeId;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 (추가 전용 원장)
+ * 잔액 변경과 같은 트랜잭션에서 한 행씩 추가하며, 수정/삭제하지 않습니다.
+ * amount는 충전이면 양수, 사용이면 음수입니다.
+ *
+ * Snowflake ID를 사용하므로 같은 트랜잭션의 다른 INSERT(주문, 결제)와 함께 JDBC 배치로 전송되고,
+ * ID 순서가 생성 시각 순서이므로 (user_id, id) 인덱스로 스냅샷 이후 이력을 범위 조회합니다.
+ */
+@Entity
+@Table(
+        name = "point_history",
+        indexes = @Index(name = "idx_point_history_user_id_id", columnList = "user_id, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointHistory {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointTransactionType type;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private PointHistory(Long userId, PointTransactionType type, Long amount) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static PointHistory charge(Long userId, Long amount) {
+        return new PointHistory(userId, PointTransactionType.CHARGE, amount);
+    }
+
+    public static PointHistory use(Long userId, Long amount) {
+        return new PointHistory(userId, PointTransactionType.USE, -amount);
+    }
+
+    public static PointHistory refund(Long userId, Long amount) {
+        return new PointHistory(userId, PointTransactionType.REFUND, amount);
+    }
+}
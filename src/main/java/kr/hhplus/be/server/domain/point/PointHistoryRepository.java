@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
+
+    /**
+     * 지정한 ID 이후에 이력이 추가된 사용자 ID (PK 범위 스캔)
+     */
+    @Query("SELECT DISTINCT h.userId FROM PointHistory h WHERE h.id > :afterId")
+    List<Long> findUserIdsChangedAfter(@Param("afterId") Long afterId);
+
+    /**
+     * 사용자별 마지막 이력 ID
+     *
+     * @return [userId, maxId] 목록
+     */
+    @Query("SELECT h.userId, MAX(h.id) FROM PointHistory h WHERE h.userId IN :userIds GROUP BY h.userId")
+    List<Object[]> findLastIdsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 지정한 ID 이후 이력의 금액 합계 (스냅샷 이후 변동분)
+     */
+    @Query("SELECT COALESCE(SUM(h.amount), 0) FROM PointHistory h WHERE h.userId = :userId AND h.id > :afterId")
+    Long sumAmountAfter(@Param("userId") Long userId, @Param("afterId") Long afterId);
+}
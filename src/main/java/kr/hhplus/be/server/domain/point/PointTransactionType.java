@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.domain.point;
+
+public enum PointTransactionType {
+    CHARGE,  // 충전
+    USE,     // 사용
+    REFUND   // 환불 (결제 실패 주문의 차감 복구)
+}
@@ -40,6 +40,13 @@ public class Product extends BaseEntity {
         this.stock -= quantity;
     }
 
+    public void changePrice(Long price) {
+        if (price == null || price < 0) {
+            throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
+        }
+        this.price = price;
+    }
+
     public boolean hasStock(int quantity) {
         return this.stock >= quantity;
     }
@@ -1,14 +1,21 @@
 package kr.hhplus.be.server.domain.product;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
@@ -16,10 +23,55 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 커서(ID) 이후 상품을 ID 순으로 조회 (키셋 페이지네이션, OFFSET 없음)
+     */
+    @Query("SELECT new kr.hhplus.be.server.domain.product.ProductView(p.id, p.name, p.price, p.stock) " +
+           "FROM Product p WHERE p.id > :cursor ORDER BY p.id")
+    List<ProductView> findPageAfter(@Param("cursor") Long cursor, Limit limit);
+
+    /**
+     * 전체 상품을 ID 순으로 스트리밍 조회 (읽기 전용 트랜잭션 안에서 소비)
+     * MySQL 드라이버가 결과를 한 번에 적재하지 않고 한 행씩 전달하도록 fetch size를 Integer.MIN_VALUE로 지정합니다.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new kr.hhplus.be.server.domain.product.ProductView(p.id, p.name, p.price, p.stock) " +
+           "FROM Product p ORDER BY p.id")
+    Stream<ProductView> streamAll();
+
+    /**
+     * 단건 상품 프로젝션 조회 (상품 캐시 적재용)
+     */
+    @Query("SELECT new kr.hhplus.be.server.domain.product.ProductView(p.id, p.name, p.price, p.stock) " +
+           "FROM Product p WHERE p.id = :id")
+    Optional<ProductView> findViewById(@Param("id") Long id);
+
     @Query("SELECT p FROM Product p WHERE p.id IN :ids")
     List<Product> findAllByIds(@Param("ids") List<Long> ids);
 
-    List<Product> findByNameContainingIgnoreCase(String keyword);
+    /**
+     * 여러 상품 프로젝션 조회 (주문 금액 계산 등 변경하지 않는 조회용)
+     */
+    @Query("SELECT new kr.hhplus.be.server.domain.product.ProductView(p.id, p.name, p.price, p.stock) " +
+           "FROM Product p WHERE p.id IN :ids")
+    List<ProductView> findViewsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상품명 부분 일치 프로젝션 조회 (대소문자 무시, ID 순)
+     * 검색어의 %, _ 는 와일드카드가 아닌 문자로 취급합니다.
+     */
+    @Query("SELECT new kr.hhplus.be.server.domain.product.ProductView(p.id, p.name, p.price, p.stock) " +
+           "FROM Product p WHERE LOWER(p.name) LIKE %?#{escape([0].toLowerCase())}% ESCAPE ?#{escapeCharacter()} " +
+           "ORDER BY p.id")
+    List<ProductView> findViewsByNameContaining(String keyword, Limit limit);
+
+    /**
+     * 재고만 조회 (영속성 컨텍스트를 거치지 않고 DB의 최신 값을 조회)
+     * @param productId 상품 ID
+     * @return 현재 재고 (상품이 없으면 null)
+     */
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :productId")
+    Integer findStockById(@Param("productId") Long productId);
 
     /**
      * 조건부 UPDATE를 사용한 재고 차감 (동시성 제어)
@@ -31,4 +83,17 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Modifying
     @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.id = :productId AND p.stock >= :quantity")
     int decreaseStockIfAvailable(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    /**
+     * 재고 증가 (재입고)
+     * @param productId 상품 ID
+     * @param quantity 증가할 수량
+     * @return 영향받은 행 수 (0이면 상품 없음)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.stock = 0")
+    List<Long> findSoldOutIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * 상품 목록 조회용 프로젝션
+ * 엔티티 대신 필요한 컬럼만 생성자 표현식으로 조회하여 영속성 컨텍스트에 적재하지 않습니다.
+ */
+public record ProductView(Long id, String name, Long price, Integer stock) {
+}
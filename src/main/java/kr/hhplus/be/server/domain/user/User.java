@@ -20,9 +20,46 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private Long balance;
 
+    /**
+     * 잔액 샤드 수 (0이면 샤딩하지 않음)
+     * 샤딩된 사용자의 잔액 = users.balance + user_balance_shards 잔액 합계
+     */
+    @Column(nullable = false)
+    private Integer balanceShardCount;
+
+    /**
+     * 잔액 버전 (users 행의 잔액이 바뀔 때마다 1 증가)
+     * 잔액 캐시가 낡은 값으로 최신 값을 덮어쓰지 않도록 비교하는 데 사용합니다.
+     */
+    @Column(nullable = false)
+    private Long balanceVersion;
+
     @Builder
     public User(Long balance) {
         this.balance = balance;
+        this.balanceShardCount = 0;
+        this.balanceVersion = 0L;
+    }
+
+    /**
+     * 잔액을 샤드로 나눈 뒤 본 행 잔액을 비웁니다.
+     */
+    public void enableBalanceSharding(int shardCount) {
+        this.balanceShardCount = shardCount;
+        this.balance = 0L;
+        this.balanceVersion++;
+    }
+
+    public void changeBalance(Long balance) {
+        if (balance < 0) {
+            throw new IllegalArgumentException("잔액은 0보다 작을 수 없습니다.");
+        }
+        this.balance = balance;
+        this.balanceVersion++;
+    }
+
+    public boolean isBalanceSharded() {
+        return balanceShardCount != null && balanceShardCount > 0;
     }
 
     public void chargePoint(Long amount) {
@@ -30,6 +67,7 @@ public class User extends BaseEntity {
             throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
         }
         this.balance += amount;
+        this.balanceVersion++;
     }
 
     public void deductBalance(Long amount) {
@@ -40,6 +78,7 @@ public class User extends BaseEntity {
             throw new IllegalArgumentException("잔액이 부족합니다.");
         }
         this.balance -= amount;
+        this.balanceVersion++;
     }
 
     public boolean hasEnoughBalance(Long amount) {
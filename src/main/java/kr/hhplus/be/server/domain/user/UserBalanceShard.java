@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.domain.user;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.domain.common.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 잔액 샤드
+ * 주문이 몰리는 사용자의 잔액을 K개 행으로 나눠, 잔액 차감이 한 행에 직렬화되지 않도록 합니다.
+ */
+@Entity
+@Table(
+        name = "user_balance_shards",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_balance_shards_user_shard", columnNames = {"user_id", "shard_no"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserBalanceShard extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Builder
+    public UserBalanceShard(Long userId, Integer shardNo, Long balance) {
+        this.userId = userId;
+        this.shardNo = shardNo;
+        this.balance = balance;
+    }
+
+    public void changeBalance(Long balance) {
+        if (balance < 0) {
+            throw new IllegalArgumentException("잔액은 0보다 작을 수 없습니다.");
+        }
+        this.balance = balance;
+    }
+}
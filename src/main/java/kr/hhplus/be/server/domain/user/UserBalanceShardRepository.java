@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.domain.user;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserBalanceShardRepository extends JpaRepository<UserBalanceShard, Long> {
+
+    /**
+     * 잠금 없는 샤드 잔액 조회 (차감할 샤드 선택용)
+     * 엔티티 대신 값만 조회하여, 이후 조건부 UPDATE와 잠금 조회가 낡은 영속 상태를 보지 않도록 합니다.
+     *
+     * @return [shardNo, balance] 목록 (샤드 번호 순)
+     */
+    @Query("SELECT s.shardNo, s.balance FROM UserBalanceShard s WHERE s.userId = :userId ORDER BY s.shardNo")
+    List<Object[]> findShardBalances(@Param("userId") Long userId);
+
+    /**
+     * 샤드 행을 샤드 번호 순으로 잠가 조회 (리밸런싱, 잔액 통합용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserBalanceShard s WHERE s.userId = :userId ORDER BY s.shardNo")
+    List<UserBalanceShard> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 공유 락으로 여러 사용자의 샤드 조회 (원장 스냅샷용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM UserBalanceShard s WHERE s.userId IN :userIds")
+    List<UserBalanceShard> findByUserIdsForShare(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM UserBalanceShard s WHERE s.userId = :userId")
+    Long sumBalanceByUserId(@Param("userId") Long userId);
+
+    /**
+     * 조건부 UPDATE를 사용한 샤드 잔액 차감
+     *
+     * @return 영향받은 행 수 (0이면 샤드 잔액 부족)
+     */
+    @Modifying
+    @Query("UPDATE UserBalanceShard s SET s.balance = s.balance - :amount " +
+           "WHERE s.userId = :userId AND s.shardNo = :shardNo AND s.balance >= :amount")
+    int deductIfAvailable(@Param("userId") Long userId, @Param("shardNo") Integer shardNo, @Param("amount") Long amount);
+}
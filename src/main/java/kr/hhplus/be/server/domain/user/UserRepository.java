@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -15,6 +17,40 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id")
     Optional<User> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 공유 락으로 사용자 조회 (진행 중인 잔액 변경 트랜잭션이 끝날 때까지 대기)
+     * 잔액 스냅샷이 원장과 어긋나지 않도록 사용합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT u FROM User u WHERE u.id IN :ids")
+    List<User> findAllByIdsForShare(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 잔액 캐시 적재용 잔액 상태 조회
+     * 샤드 잔액 합계를 서브쿼리로 함께 읽어 한 문장(일관된 스냅샷)으로 전체 잔액을 계산합니다.
+     *
+     * @return [전체 잔액(샤드 포함), balanceVersion, balanceShardCount] (사용자가 없으면 빈 목록)
+     */
+    @Query("SELECT u.balance + COALESCE((SELECT SUM(s.balance) FROM UserBalanceShard s WHERE s.userId = u.id), 0), " +
+           "u.balanceVersion, u.balanceShardCount FROM User u WHERE u.id = :userId")
+    List<Object[]> findBalanceStateById(@Param("userId") Long userId);
+
+    @Query("SELECT u.balanceShardCount FROM User u WHERE u.id = :userId")
+    Optional<Integer> findBalanceShardCountById(@Param("userId") Long userId);
+
+    @Query("SELECT u.id FROM User u WHERE u.balanceShardCount > 0")
+    List<Long> findBalanceShardedUserIds();
+
+    /**
+     * 원자적 UPDATE를 사용한 잔액 충전 (읽기-수정-쓰기 없음)
+     *
+     * @return 영향받은 행 수 (0이면 사용자 없음)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.balance = u.balance + :amount, u.balanceVersion = u.balanceVersion + 1 " +
+           "WHERE u.id = :userId")
+    int chargeBalance(@Param("userId") Long userId, @Param("amount") Long amount);
+
     /**
      * 조건부 UPDATE를 사용한 잔액 차감 (동시성 제어)
      * 잔액이 충분한 경우에만 차감하고, 영향받은 행 수를 반환
@@ -23,6 +59,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 영향받은 행 수 (1이면 성공, 0이면 잔액 부족)
      */
     @Modifying
-    @Query("UPDATE User u SET u.balance = u.balance - :amount WHERE u.id = :userId AND u.balance >= :amount")
+    @Query("UPDATE User u SET u.balance = u.balance - :amount, u.balanceVersion = u.balanceVersion + 1 " +
+           "WHERE u.id = :userId AND u.balance >= :amount")
     int deductBalanceIfAvailable(@Param("userId") Long userId, @Param("amount") Long amount);
 }
@@ -0,0 +1,384 @@
+package kr.hhplus.be.server.infrastructure.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 주문 감사 로그 Write-Behind 버퍼
+ * 주문 트랜잭션은 메모리 버퍼에만 기록하고, 저널 기록과 DB 적재는 적재 주기마다 모아서 처리합니다.
+ *
+ * 설계:
+ * - 기록: 메모리 버퍼에만 적재 (기록 스레드는 파일 I/O를 하지 않으므로 버퍼 락을 짧게 잡음)
+ * - 저널 (그룹 커밋): 적재 주기마다 버퍼의 기록을 새 세그먼트 하나에 쓰고 fsync를 한 번만 수행
+ *         fsync된 세그먼트는 프로세스 장애와 전원 장애 모두에서 복구되지만,
+ *         마지막 적재 주기 이후의 기록(최대 flush-interval-ms)은 메모리에만 있어 장애 시 유실될 수 있음
+ * - 적재: flush-interval-ms 주기 또는 버퍼가 max-buffered에 도달하면
+ *         세그먼트의 기록을 JDBC 배치(INSERT IGNORE)로 적재한 뒤 세그먼트 파일을 삭제
+ *         적재는 스케줄러 스레드와 전용 적재 스레드에서만 수행합니다. 기록하는 스레드는 주문 트랜잭션이나
+ *         커밋 콜백 안일 수 있어, 그 자리에서 적재하면 배치가 호출자의 커넥션에 합류해 롤백되거나 커밋되지 않습니다.
+ * - 상한: 적재되지 않은 기록(버퍼 + 재시도 대기)이 max-pending에 도달하면 새 기록은 버리고 적재 주기마다 버린 수를 남김
+ * - 실패: 적재에 실패한 기록과 세그먼트는 유지하고 다음 주기에 재시도
+ *         저널 기록에 실패한 기록도 메모리에 유지하여 적재하며, order.audit.journal.failures 지표로 집계
+ * - 복구: 기동 시 남아있는 세그먼트를 읽어 재적재 (event_id 유니크 제약으로 중복 적재 무시)
+ *
+ * 저널 디렉토리:
+ * 한 디렉토리를 여러 프로세스(또는 같은 JVM의 여러 컨텍스트)가 공유하지 않도록
+ * slot-N 하위 디렉토리를 파일 락으로 점유하여 사용합니다.
+ * 재기동한 프로세스는 같은 슬롯을 다시 점유하여 이전 세그먼트를 복구합니다.
+ */
+@Slf4j
+@Component
+public class OrderAuditBuffer {
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO order_audit_logs " +
+            "(event_id, order_id, user_id, event_type, status, amount, detail, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOCK_FILE = ".lock";
+    private static final int MAX_SLOTS = 16;
+
+    // 같은 JVM 안에서 점유한 슬롯 (FileLock은 JVM 단위이므로 별도로 관리)
+    private static final Set<Path> HELD_SLOTS = ConcurrentHashMap.newKeySet();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path baseDir;
+    private final int batchSize;
+    private final int maxBuffered;
+    private final int maxPending;
+
+    private final Object bufferLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Counter journalFailureCounter;
+
+    // bufferLock으로 보호
+    private List<OrderAuditRecord> buffer = new ArrayList<>();
+
+    // flushLock으로 보호 (pending은 버퍼를 옮겨 담을 때 bufferLock도 함께 잡음)
+    private final List<OrderAuditRecord> pending = new ArrayList<>();
+    private final List<Path> sealedSegments = new ArrayList<>();
+    private long segmentSequence;
+    // 적재 스레드에서 갱신, 기록 스레드에서 상한 확인용으로 읽음
+    private volatile int pendingSize;
+
+    private Path journalDir;
+    private FileChannel slotChannel;
+    private FileLock slotLock;
+
+    public OrderAuditBuffer(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.order.audit.journal-dir:${java.io.tmpdir}/order-audit}") String journalDir,
+                            @Value("${app.order.audit.batch-size:500}") int batchSize,
+                            @Value("${app.order.audit.max-buffered:10000}") int maxBuffered,
+                            @Value("${app.order.audit.max-pending:100000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.baseDir = Paths.get(journalDir);
+        this.batchSize = batchSize;
+        this.maxBuffered = maxBuffered;
+        this.maxPending = maxPending;
+        this.journalFailureCounter = Counter.builder("order.audit.journal.failures")
+                .description("저널에 기록하지 못하고 메모리에만 보관된 감사 로그 수")
+                .register(meterRegistry);
+        this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-audit-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 저널 슬롯을 점유하고, 이전 실행에서 적재하지 못한 세그먼트를 재처리 대상으로 등록합니다.
+     */
+    @PostConstruct
+    void open() throws IOException {
+        journalDir = acquireSlot();
+
+        List<Path> leftovers = listSegments();
+        for (Path segment : leftovers) {
+            pending.addAll(readSegment(segment));
+            sealedSegments.add(segment);
+            segmentSequence = Math.max(segmentSequence, sequenceOf(segment));
+        }
+        pendingSize = pending.size();
+        if (!leftovers.isEmpty()) {
+            log.info("감사 로그 저널 복구 대상: segments={}, records={}", leftovers.size(), pending.size());
+        }
+    }
+
+    /**
+     * 상태 변경 기록을 버퍼에 추가합니다.
+     * 저널 기록은 적재 주기에 수행하므로 주문 처리는 파일 I/O를 기다리지 않습니다.
+     */
+    public void record(OrderAuditRecord record) {
+        recordAll(List.of(record));
+    }
+
+    public void recordAll(List<OrderAuditRecord> records) {
+        boolean full;
+        synchronized (bufferLock) {
+            for (OrderAuditRecord record : records) {
+                // DB 장애가 길어져도 메모리가 계속 늘지 않도록 상한을 넘는 기록은 버림
+                if (buffer.size() + pendingSize >= maxPending) {
+                    droppedCount.incrementAndGet();
+                    continue;
+                }
+                buffer.add(record);
+            }
+            full = buffer.size() >= maxBuffered;
+        }
+        if (full) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 적재 스레드에 조기 적재를 요청합니다. (이미 요청된 적재가 있으면 합침)
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 close()의 마지막 적재에 맡김
+            flushRequested.set(false);
+        }
+    }
+
+    /**
+     * 버퍼의 기록을 저널에 쓰고 DB에 적재합니다.
+     * 다른 스레드가 적재 중이면 이번 호출은 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.order.audit.flush-interval-ms:500}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            log.error("감사 로그 미적재 기록이 상한에 도달하여 버림: dropped={}, maxPending={}", dropped, maxPending);
+        }
+        List<OrderAuditRecord> drained;
+        synchronized (bufferLock) {
+            drained = buffer;
+            if (!drained.isEmpty()) {
+                buffer = new ArrayList<>();
+                pending.addAll(drained);
+                pendingSize = pending.size();
+            }
+        }
+        if (!drained.isEmpty()) {
+            writeSegment(drained);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                List<OrderAuditRecord> chunk = List.copyOf(pending.subList(from, Math.min(from + batchSize, pending.size())));
+                jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, record) -> {
+                    ps.setString(1, record.eventId());
+                    setLong(ps, 2, record.orderId());
+                    setLong(ps, 3, record.userId());
+                    ps.setString(4, record.eventType().name());
+                    ps.setString(5, record.status());
+                    setLong(ps, 6, record.amount());
+                    ps.setString(7, record.detail());
+                    ps.setTimestamp(8, Timestamp.valueOf(record.occurredAt()));
+                });
+            }
+            log.debug("감사 로그 적재 완료: records={}", pending.size());
+
+            pending.clear();
+            pendingSize = 0;
+            for (Path segment : sealedSegments) {
+                Files.deleteIfExists(segment);
+            }
+            sealedSegments.clear();
+        } catch (Exception e) {
+            // 적재 실패 시 기록과 세그먼트를 유지하고 다음 주기에 재시도
+            log.warn("감사 로그 적재 실패, 다음 주기에 재시도: pending={}, error={}", pending.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 기록을 적재하고 저널 슬롯을 반납합니다.
+     * 적재하지 못한 세그먼트는 다음 기동 시 복구됩니다.
+     */
+    @PreDestroy
+    void close() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 진행 중인 주기 적재가 끝나기를 기다렸다가 남은 버퍼까지 저널에 쓰고 적재
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+        releaseSlot();
+    }
+
+    /**
+     * 이번 주기에 옮겨 담은 기록을 새 세그먼트에 쓰고 fsync를 한 번 수행합니다. (그룹 커밋)
+     * 실패해도 기록은 pending에 남아 적재되므로 예외를 던지지 않고 지표로 집계합니다.
+     */
+    private void writeSegment(List<OrderAuditRecord> records) {
+        segmentSequence++;
+        Path segment = journalDir.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, segmentSequence, SEGMENT_SUFFIX));
+        // 일부만 기록되었더라도 적재 후 함께 삭제되도록 먼저 등록
+        sealedSegments.add(segment);
+        try (FileOutputStream stream = new FileOutputStream(segment.toFile());
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+            for (OrderAuditRecord record : records) {
+                writer.write(record.toJournalLine());
+                writer.newLine();
+            }
+            writer.flush();
+            stream.getFD().sync();
+        } catch (IOException e) {
+            journalFailureCounter.increment(records.size());
+            log.error("감사 로그 저널 기록 실패, 적재 전까지 메모리에만 보관: segment={}, records={}, error={}",
+                    segment.getFileName(), records.size(), e.getMessage(), e);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private List<OrderAuditRecord> readSegment(Path segment) throws IOException {
+        List<OrderAuditRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    records.add(OrderAuditRecord.fromJournalLine(line));
+                } catch (IllegalArgumentException e) {
+                    // 장애 시점에 일부만 기록된 줄은 건너뜀
+                    log.warn("감사 로그 저널 손상 줄 무시: segment={}, line={}", segment.getFileName(), line);
+                }
+            }
+        }
+        return records;
+    }
+
+    private long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private Path acquireSlot() throws IOException {
+        for (int slot = 0; slot < MAX_SLOTS; slot++) {
+            Path dir = baseDir.resolve("slot-" + slot).toAbsolutePath();
+            if (!HELD_SLOTS.add(dir)) {
+                continue;
+            }
+            Files.createDirectories(dir);
+            FileChannel channel = FileChannel.open(dir.resolve(LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                slotChannel = channel;
+                slotLock = lock;
+                log.info("감사 로그 저널 슬롯 점유: dir={}", dir);
+                return dir;
+            }
+            // 다른 프로세스가 점유 중인 슬롯
+            channel.close();
+            HELD_SLOTS.remove(dir);
+        }
+        throw new IllegalStateException("사용 가능한 감사 로그 저널 슬롯이 없습니다: " + baseDir);
+    }
+
+    private void releaseSlot() {
+        try {
+            slotLock.release();
+            slotChannel.close();
+        } catch (IOException e) {
+            log.warn("감사 로그 저널 슬롯 반납 실패: dir={}, error={}", journalDir, e.getMessage());
+        } finally {
+            HELD_SLOTS.remove(journalDir);
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.infrastructure.audit;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문/결제 상태 변경 이력
+ * 주문 트랜잭션에서 직접 저장하지 않고 {@link OrderAuditBuffer}가 배치로 적재합니다.
+ * event_id 유니크 제약으로 저널 재처리 시 중복 적재를 막습니다.
+ */
+@Entity
+@Table(
+        name = "order_audit_logs",
+        indexes = @Index(name = "idx_order_audit_logs_order_id", columnList = "order_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderAuditLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Column
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderAuditType eventType;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column
+    private Long amount;
+
+    @Column
+    private String detail;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
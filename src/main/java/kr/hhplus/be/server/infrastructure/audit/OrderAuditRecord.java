@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.infrastructure.audit;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 감사 로그 버퍼에 적재되는 상태 변경 기록
+ * 저널 파일에는 탭으로 구분된 한 줄로 기록됩니다.
+ */
+public record OrderAuditRecord(
+        String eventId,
+        Long orderId,
+        Long userId,
+        OrderAuditType eventType,
+        String status,
+        Long amount,
+        String detail,
+        LocalDateTime occurredAt
+) {
+
+    private static final String SEPARATOR = "\t";
+    private static final int FIELD_COUNT = 8;
+    private static final int MAX_DETAIL_LENGTH = 255;
+
+    public static OrderAuditRecord of(Long orderId, Long userId, OrderAuditType eventType,
+                                      String status, Long amount, String detail) {
+        return new OrderAuditRecord(
+                UUID.randomUUID().toString(),
+                orderId,
+                userId,
+                eventType,
+                status,
+                amount,
+                sanitize(detail),
+                LocalDateTime.now()
+        );
+    }
+
+    public String toJournalLine() {
+        return String.join(SEPARATOR,
+                eventId,
+                toText(orderId),
+                toText(userId),
+                eventType.name(),
+                status,
+                toText(amount),
+                detail == null ? "" : detail,
+                occurredAt.toString());
+    }
+
+    /**
+     * 저널 한 줄을 기록으로 복원합니다.
+     *
+     * @throws IllegalArgumentException 장애로 일부만 기록된 줄 등 형식이 올바르지 않은 경우
+     */
+    public static OrderAuditRecord fromJournalLine(String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != FIELD_COUNT) {
+            throw new IllegalArgumentException("잘못된 감사 로그 저널 형식입니다: " + line);
+        }
+        try {
+            return new OrderAuditRecord(
+                    fields[0],
+                    toLong(fields[1]),
+                    toLong(fields[2]),
+                    OrderAuditType.valueOf(fields[3]),
+                    fields[4],
+                    toLong(fields[5]),
+                    fields[6].isEmpty() ? null : fields[6],
+                    LocalDateTime.parse(fields[7])
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 감사 로그 저널 형식입니다: " + line, e);
+        }
+    }
+
+    private static String sanitize(String detail) {
+        if (detail == null) {
+            return null;
+        }
+        String singleLine = detail.replaceAll("[\\t\\r\\n]", " ");
+        return singleLine.length() > MAX_DETAIL_LENGTH ? singleLine.substring(0, MAX_DETAIL_LENGTH) : singleLine;
+    }
+
+    private static String toText(Long value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static Long toLong(String text) {
+        return text.isEmpty() ? null : Long.valueOf(text);
+    }
+}
@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.infrastructure.audit;
+
+public enum OrderAuditType {
+    ORDER_STATUS,
+    PAYMENT_STATUS
+}
@@ -0,0 +1,149 @@
+package kr.hhplus.be.server.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 병합과 확률적 조기 갱신을 적용한 로컬 캐시
+ * 인기 항목이 만료되는 순간 동시 요청이 한꺼번에 원본(MySQL/Redis)으로 몰리는 캐시 스탬피드를 막습니다.
+ *
+ * 설계:
+ * - 저장: Caffeine (키 -> 값, 적재 소요 시간, 만료 시각), 만료 시각이 지나면 Caffeine이 제거
+ * - 미스: SingleFlight로 같은 키의 동시 적재를 1회로 병합
+ * - 조기 갱신 (XFetch): now - delta · beta · ln(rand) >= 만료 시각이면 만료 전에 미리 다시 적재
+ *   delta(적재 소요 시간)가 클수록, 만료가 가까울수록 갱신 확률이 높아지므로 요청 하나만 먼저 갱신하고
+ *   나머지는 기존 값을 그대로 사용 (이미 갱신 중이면 기다리지 않고 기존 값 반환)
+ * - 무효화: 키별 세대(generation)를 올린 뒤 제거, 적재는 시작 시점의 세대를 기억했다가
+ *   저장 직전과 직후에 세대가 그대로인 경우에만 값을 남김 (무효화 전에 읽은 낡은 값이 다시 캐시되지 않음)
+ *   invalidateAll은 전체 세대(epoch)를 올려 진행 중인 모든 적재를 같은 방식으로 무시
+ * - 세대 기록은 TTL/최대 크기로 정리되며, 기록이 사라지면 진행 중인 적재는 저장을 건너뛰므로(미스만 늘어남)
+ *   낡은 값이 남는 일은 없음
+ *
+ * null은 캐시하지 않습니다. (없는 키는 매번 적재하되 동시 요청은 병합)
+ */
+public class CoalescingCache<K, V> {
+
+    /** XFetch 권장값, 1보다 크면 더 일찍 갱신 */
+    public static final double DEFAULT_BETA = 1.0;
+
+    private final Cache<K, Entry<V>> entries;
+    private final Cache<K, Long> generations;
+    private final AtomicLong generationSequence = new AtomicLong();
+    private final AtomicLong epoch = new AtomicLong();
+    private final SingleFlight<K, V> singleFlight = new SingleFlight<>();
+    private final Function<K, V> loader;
+    private final long ttlNanos;
+    private final double beta;
+    private final LongSupplier nanoClock;
+    private final DoubleSupplier random;
+
+    public CoalescingCache(Function<K, V> loader, Duration ttl, long maximumSize) {
+        this(loader, ttl, maximumSize, DEFAULT_BETA, System::nanoTime,
+                () -> 1.0 - ThreadLocalRandom.current().nextDouble());
+    }
+
+    CoalescingCache(Function<K, V> loader, Duration ttl, long maximumSize, double beta,
+                    LongSupplier nanoClock, DoubleSupplier random) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("TTL은 0보다 커야 합니다: " + ttl);
+        }
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+        this.beta = beta;
+        this.nanoClock = nanoClock;
+        this.random = random;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(nanoClock::getAsLong)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    /**
+     * 캐시 적중/미스/제거 지표를 등록합니다. (cache.gets{result=hit|miss} 등)
+     *
+     * @param meterRegistry 지표 레지스트리
+     * @param cacheName     지표의 cache 태그 값
+     * @return this
+     */
+    public CoalescingCache<K, V> monitor(MeterRegistry meterRegistry, String cacheName) {
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, cacheName);
+        return this;
+    }
+
+    /**
+     * 캐시된 값을 조회합니다. 미스이거나 조기 갱신 대상이면 적재합니다.
+     *
+     * @return 적재 결과가 null이면 null
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.getIfPresent(key);
+        if (entry != null && !shouldRefreshEarly(entry)) {
+            return entry.value();
+        }
+        if (entry != null && singleFlight.isInFlight(key)) {
+            // 다른 요청이 이미 조기 갱신 중이면 기존 값으로 응답
+            return entry.value();
+        }
+        return singleFlight.load(key, () -> loadAndStore(key));
+    }
+
+    /**
+     * 키를 무효화합니다. 이미 진행 중인 적재의 결과도 캐시에 남지 않습니다.
+     */
+    public void invalidate(K key) {
+        generations.put(key, generationSequence.incrementAndGet());
+        entries.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    private V loadAndStore(K key) {
+        Generation generation = generationOf(key);
+        long start = nanoClock.getAsLong();
+        V value = loader.apply(key);
+        long now = nanoClock.getAsLong();
+        if (value != null && generation.equals(generationOf(key))) {
+            Entry<V> entry = new Entry<>(value, now - start, now + ttlNanos);
+            entries.put(key, entry);
+            // 확인과 저장 사이에 무효화되었으면 방금 저장한 값만 제거
+            if (!generation.equals(generationOf(key))) {
+                entries.asMap().remove(key, entry);
+            }
+        }
+        return value;
+    }
+
+    private Generation generationOf(K key) {
+        return new Generation(epoch.get(), generations.getIfPresent(key));
+    }
+
+    private boolean shouldRefreshEarly(Entry<V> entry) {
+        double gap = entry.deltaNanos() * beta * -Math.log(random.getAsDouble());
+        return nanoClock.getAsLong() + gap >= entry.expiresAtNanos();
+    }
+
+    private record Entry<V>(V value, long deltaNanos, long expiresAtNanos) {
+    }
+
+    private record Generation(long epoch, Long keyGeneration) {
+    }
+}
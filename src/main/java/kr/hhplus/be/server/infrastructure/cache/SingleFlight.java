@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 키별 요청 병합기 (single-flight)
+ * 같은 키의 적재가 진행 중이면 새로 적재하지 않고 진행 중인 CompletableFuture의 결과를 함께 받습니다.
+ *
+ * 설계:
+ * - 먼저 도착한 스레드가 putIfAbsent로 Future를 등록하고 호출 스레드에서 직접 적재 (별도 스레드 풀 없음)
+ * - 나중에 도착한 스레드는 등록된 Future를 기다림
+ * - 적재가 끝나면(성공/실패 모두) Future를 제거하므로 결과를 보관하지 않음 (보관은 호출자의 캐시가 담당)
+ * - 적재 중 예외는 기다리던 모든 스레드에 같은 예외로 전달
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키의 값을 적재합니다. 같은 키의 적재가 진행 중이면 그 결과를 기다립니다.
+     *
+     * @param key    적재 키
+     * @param loader 적재 함수 (null 반환 허용)
+     * @return 적재 결과
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 키의 적재가 진행 중인지 확인합니다.
+     */
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
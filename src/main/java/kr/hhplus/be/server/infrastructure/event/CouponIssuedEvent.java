@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.infrastructure.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class CouponIssuedEvent extends ApplicationEvent {
+    private final Long couponId;
+    private final Long userId;
+    private final Long campaignId;
+
+    @Builder
+    public CouponIssuedEvent(Object source, Long couponId, Long userId, Long campaignId) {
+        super(source);
+        this.couponId = couponId;
+        this.userId = userId;
+        this.campaignId = campaignId;
+    }
+}
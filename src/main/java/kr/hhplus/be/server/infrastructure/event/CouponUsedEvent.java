@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class CouponUsedEvent extends ApplicationEvent {
+    private final Long couponId;
+    private final Long userId;
+
+    @Builder
+    public CouponUsedEvent(Object source, Long couponId, Long userId) {
+        super(source);
+        this.couponId = couponId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.infrastructure.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class PointChargedEvent extends ApplicationEvent {
+    private final Long userId;
+    private final Long amount;
+    private final Long balance;
+    private final Long balanceVersion;
+    private final boolean balanceSharded;
+
+    @Builder
+    public PointChargedEvent(Object source, Long userId, Long amount, Long balance,
+                             Long balanceVersion, boolean balanceSharded) {
+        super(source);
+        this.userId = userId;
+        this.amount = amount;
+        this.balance = balance;
+        this.balanceVersion = balanceVersion;
+        this.balanceSharded = balanceSharded;
+    }
+}
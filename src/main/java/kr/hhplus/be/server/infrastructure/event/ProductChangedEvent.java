@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ProductChangedEvent extends ApplicationEvent {
+    private final Long productId;
+    private final Long price;
+
+    @Builder
+    public ProductChangedEvent(Object source, Long productId, Long price) {
+        super(source);
+        this.productId = productId;
+        this.price = price;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ProductRestockedEvent extends ApplicationEvent {
+    private final Long productId;
+    private final Integer quantity;
+
+    @Builder
+    public ProductRestockedEvent(Object source, Long productId, Integer quantity) {
+        super(source);
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
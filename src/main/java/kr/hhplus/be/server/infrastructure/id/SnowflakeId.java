@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 식별자를 {@link SnowflakeIdGenerator}로 생성합니다.
+ * {@code @GeneratedValue(strategy = GenerationType.IDENTITY)} 대신 사용하여 배치 INSERT를 가능하게 합니다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.infrastructure.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link SnowflakeId} 필드에 ID를 할당하는 Hibernate 생성기
+ *
+ * Hibernate가 직접 생성하는 객체이므로 Spring 빈을 주입받을 수 없습니다.
+ * 노드 ID는 {@link kr.hhplus.be.server.config.IdGeneratorConfig}가 EntityManagerFactory 생성 전에
+ * {@link #configure(long)}로 설정하며, JVM 안의 모든 엔티티가 하나의 생성기를 공유합니다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private static volatile SnowflakeIdGenerator delegate = new SnowflakeIdGenerator(0);
+
+    /**
+     * 노드 ID를 설정합니다. 같은 노드 ID로 다시 설정하면 기존 생성기를 유지하여 순번이 초기화되지 않습니다.
+     */
+    public static synchronized SnowflakeIdGenerator configure(long nodeId) {
+        if (delegate.getNodeId() != nodeId) {
+            delegate = new SnowflakeIdGenerator(nodeId);
+        }
+        return delegate;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return delegate.nextId();
+    }
+}
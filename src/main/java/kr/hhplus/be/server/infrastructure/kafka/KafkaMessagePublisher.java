@@ -2,7 +2,7 @@ package kr.hhplus.be.server.infrastructure.kafka;
 
 import kr.hhplus.be.server.infrastructure.kafka.message.OrderCompletedMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.ReservationConfirmedMessage;
-import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage;
 
 public interface KafkaMessagePublisher {
 
@@ -10,5 +10,5 @@ public interface KafkaMessagePublisher {
 
     void publishReservationConfirmed(ReservationConfirmedMessage message);
 
-    void publishRestaurantSearch(RestaurantSearchMessage message);
+    void publishRestaurantSearchStats(RestaurantSearchStatsMessage message);
 }
@@ -4,7 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.infrastructure.kafka.message.OrderCompletedMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.ReservationConfirmedMessage;
-import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,8 +24,8 @@ public class KafkaMessagePublisherImpl implements KafkaMessagePublisher {
     @Value("${app.kafka.topics.reservation-events:reservation-events}")
     private String reservationEventsTopic;
 
-    @Value("${app.kafka.topics.restaurant-search-events:restaurant-search-events}")
-    private String restaurantSearchEventsTopic;
+    @Value("${app.kafka.topics.restaurant-search-stats:restaurant-search-stats}")
+    private String restaurantSearchStatsTopic;
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
@@ -41,9 +41,9 @@ public class KafkaMessagePublisherImpl implements KafkaMessagePublisher {
     }
 
     @Override
-    public void publishRestaurantSearch(RestaurantSearchMessage message) {
-        String key = message.userId() != null ? String.valueOf(message.userId()) : message.keyword();
-        publish(restaurantSearchEventsTopic, key, message);
+    public void publishRestaurantSearchStats(RestaurantSearchStatsMessage message) {
+        // 분마다 같은 키로 한 파티션에 몰리지 않도록 검색어 버킷까지 키에 포함
+        publish(restaurantSearchStatsTopic, message.minute() + ":" + message.keyBucket(), message);
     }
 
     private void publish(String topic, String key, Object message) {
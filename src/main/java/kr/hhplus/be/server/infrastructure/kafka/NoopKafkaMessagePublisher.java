@@ -2,7 +2,7 @@ package kr.hhplus.be.server.infrastructure.kafka;
 
 import kr.hhplus.be.server.infrastructure.kafka.message.OrderCompletedMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.ReservationConfirmedMessage;
-import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -23,7 +23,8 @@ public class NoopKafkaMessagePublisher implements KafkaMessagePublisher {
     }
 
     @Override
-    public void publishRestaurantSearch(RestaurantSearchMessage message) {
-        log.debug("Kafka 비활성화 상태 - 검색 이벤트 무시: keyword={}", message.keyword());
+    public void publishRestaurantSearchStats(RestaurantSearchStatsMessage message) {
+        log.debug("Kafka 비활성화 상태 - 검색 집계 이벤트 무시: minute={}, keywords={}",
+                message.minute(), message.keywords().size());
     }
 }
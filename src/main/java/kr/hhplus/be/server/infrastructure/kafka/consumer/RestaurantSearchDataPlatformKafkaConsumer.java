@@ -16,7 +16,7 @@ public class RestaurantSearchDataPlatformKafkaConsumer {
     private final DataPlatformClient dataPlatformClient;
 
     @KafkaListener(
-            topics = "${app.kafka.topics.restaurant-search-events:restaurant-search-events}",
+            topics = "${app.kafka.topics.restaurant-search-stats:restaurant-search-stats}",
             groupId = "${app.kafka.consumer-groups.restaurant-search-data-platform:restaurant-search-data-platform-consumer}"
     )
     public void consumeSearchEvent(String payload) {
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.infrastructure.kafka.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage;
+import kr.hhplus.be.server.service.product.search.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
+public class SearchKeywordSuggestKafkaConsumer {
+
+    private final ObjectMapper objectMapper;
+    private final SuggestionService suggestionService;
+
+    @KafkaListener(
+            topics = "${app.kafka.topics.restaurant-search-stats:restaurant-search-stats}",
+            groupId = "${app.kafka.consumer-groups.search-keyword-suggest:search-keyword-suggest-consumer}"
+    )
+    public void consumeSearchEvent(String payload) {
+        try {
+            RestaurantSearchStatsMessage message = objectMapper.readValue(payload, RestaurantSearchStatsMessage.class);
+            if (message.schemaVersion() != RestaurantSearchStatsMessage.SCHEMA_VERSION) {
+                log.warn("지원하지 않는 검색 집계 스키마 버전, 건너뜀: schemaVersion={}", message.schemaVersion());
+                return;
+            }
+            for (RestaurantSearchStatsMessage.KeywordStats stats : message.keywords()) {
+                suggestionService.recordSearches(stats.keyword(), stats.searchCount() - stats.emptyResultCount());
+            }
+        } catch (Exception e) {
+            log.error("검색 이벤트 기반 인기 검색어 집계 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
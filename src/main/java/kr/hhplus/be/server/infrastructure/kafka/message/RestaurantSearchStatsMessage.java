@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.infrastructure.kafka.message;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분 단위 검색어 집계 메시지 (검색 1건마다가 아닌 집계 배치 단위로 발행)
+ * 검색 1건 단위 메시지를 쓰던 restaurant-search-events와 스키마가 다르므로 별도 토픽(restaurant-search-stats)으로 발행합니다.
+ *
+ * @param schemaVersion 메시지 스키마 버전 (필드가 바뀌면 올리고, 소비자는 모르는 버전을 건너뜀)
+ * @param minute        집계 구간 시작 시각 (분 단위 절사)
+ * @param keyBucket     검색어 해시 버킷 (같은 검색어는 항상 같은 버킷, 메시지 키에 사용)
+ * @param keywords      검색어별 집계
+ */
+public record RestaurantSearchStatsMessage(
+        int schemaVersion,
+        LocalDateTime minute,
+        int keyBucket,
+        List<KeywordStats> keywords
+) {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    public static RestaurantSearchStatsMessage of(LocalDateTime minute, int keyBucket, List<KeywordStats> keywords) {
+        return new RestaurantSearchStatsMessage(SCHEMA_VERSION, minute, keyBucket, keywords);
+    }
+
+    /**
+     * @param keyword          정규화한 검색어
+     * @param searchCount      검색 횟수
+     * @param emptyResultCount 결과가 없었던 검색 횟수
+     * @param resultCount      결과 건수 합계
+     */
+    public record KeywordStats(
+            String keyword,
+            int searchCount,
+            int emptyResultCount,
+            long resultCount
+    ) {
+    }
+}
@@ -0,0 +1,89 @@
+package kr.hhplus.be.server.infrastructure.payment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import kr.hhplus.be.server.infrastructure.outbox.Outbox;
+import kr.hhplus.be.server.infrastructure.outbox.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 결제 취소 재시도 아웃박스
+ * 승인된 결제의 취소 호출이 실패하면 취소 요청을 outbox 테이블에 남기고, 주기적으로 다시 취소합니다.
+ *
+ * 설계:
+ * - 로그만 남기면 재시작 후 승인된 결제가 취소되지 않은 채 남으므로, 실패한 취소는 DB에 기록
+ * - 재시도는 같은 멱등 키로 호출하므로 게이트웨이에서 한 번만 취소됨 (중복 재시도 안전)
+ * - 성공한 요청은 SENT로 표시하고, 실패한 요청은 PENDING으로 남겨 다음 실행에서 다시 시도
+ * - 분산락(대기 없음)으로 여러 인스턴스 중 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCancellationOutbox {
+
+    static final String EVENT_TYPE = "PAYMENT_CANCEL";
+    private static final String LOCK_KEY = "payment:cancel:retry";
+    private static final long LOCK_LEASE_TIME = 60_000L;
+
+    private final OutboxRepository outboxRepository;
+    private final PaymentGateway paymentGateway;
+    private final DistributedLock distributedLock;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 실패한 결제 취소를 재시도 대상으로 기록합니다.
+     * 주문 트랜잭션 밖에서 호출되므로 저장은 단독으로 커밋됩니다.
+     */
+    public void enqueue(Long userId, Long amount, String idempotencyKey) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CancelRequest(userId, amount, idempotencyKey));
+            outboxRepository.save(Outbox.builder()
+                    .eventType(EVENT_TYPE)
+                    .payload(payload)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 취소 요청 직렬화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.payment.cancel-retry-interval-ms:60000}")
+    public void retryPending() {
+        try {
+            distributedLock.executeWithLock(LOCK_KEY, 0, LOCK_LEASE_TIME, this::retryAll);
+        } catch (LockAcquisitionException e) {
+            log.debug("결제 취소 재시도 락 획득 실패, 다른 인스턴스가 실행 중");
+        } catch (Exception e) {
+            log.error("결제 취소 재시도 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    private void retryAll() {
+        List<Outbox> pending = outboxRepository.findAllPendingByEventType(EVENT_TYPE);
+        for (Outbox outbox : pending) {
+            try {
+                CancelRequest request = objectMapper.readValue(outbox.getPayload(), CancelRequest.class);
+                paymentGateway.cancelPayment(request.userId(), request.amount(), request.idempotencyKey());
+                outbox.markAsSent();
+                outboxRepository.save(outbox);
+                log.info("결제 취소 재시도 성공: idempotencyKey={}", request.idempotencyKey());
+            } catch (JsonProcessingException e) {
+                // 읽을 수 없는 요청은 재시도해도 실패하므로 실패로 표시
+                outbox.markAsFailed(e.getMessage());
+                outboxRepository.save(outbox);
+                log.error("결제 취소 요청 역직렬화 실패: outboxId={}, error={}", outbox.getId(), e.getMessage());
+            } catch (Exception e) {
+                log.warn("결제 취소 재시도 실패, 다음 실행에서 재시도: outboxId={}, error={}", outbox.getId(), e.getMessage());
+            }
+        }
+    }
+
+    record CancelRequest(Long userId, Long amount, String idempotencyKey) {
+    }
+}
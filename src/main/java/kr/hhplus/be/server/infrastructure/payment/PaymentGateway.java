@@ -3,4 +3,10 @@ package kr.hhplus.be.server.infrastructure.payment;
 public interface PaymentGateway {
     void processPayment(Long userId, Long amount);
     void processPayment(Long userId, Long amount, String idempotencyKey);
+
+    /**
+     * 승인된 결제를 취소합니다. (주문 쓰기 트랜잭션 실패 시 보상)
+     * 같은 멱등 키로 여러 번 호출해도 한 번만 취소되어야 합니다.
+     */
+    void cancelPayment(Long userId, Long amount, String idempotencyKey);
 }
@@ -37,4 +37,12 @@ public class PaymentGatewayImpl implements PaymentGateway {
                 userId, amount, idempotencyKey);
         // 실제로는 외부 API 호출
     }
+
+    @Override
+    public void cancelPayment(Long userId, Long amount, String idempotencyKey) {
+        // 외부 결제 게이트웨이 취소 연동 (Mock)
+        log.info("결제 게이트웨이를 통한 결제 취소: userId={}, amount={}, idempotencyKey={}",
+                userId, amount, idempotencyKey);
+        // 실제로는 외부 API 호출 (멱등 키 기준으로 중복 취소 방지)
+    }
 }
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 락 없는 다중 생산자/다중 소비자 링 버퍼 (Vyukov bounded MPMC queue)
+ *
+ * 설계:
+ * - 슬롯마다 sequence를 두고, 생산자/소비자는 tail/head 위치를 CAS로 선점한 뒤 해당 슬롯만 기록/소비
+ * - 슬롯 i의 sequence: 비어 있으면 pos, 채워졌으면 pos + 1, 소비 후 pos + capacity (다음 바퀴의 생산자 대기)
+ * - 가득 차면 기다리지 않고 false를 반환 (호출 스레드를 막지 않음, 버릴지 여부는 호출자가 결정)
+ * - 용량은 2의 거듭제곱으로 올림하여 인덱스를 마스크 연산으로 계산
+ */
+public final class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public RingBuffer(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("링 버퍼 용량은 2 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("null은 넣을 수 없습니다.");
+        }
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return 비어 있으면 null
+     */
+    public E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    sequences.set(index, pos + mask + 1);
+                    return element;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 limit개를 꺼내 consumer에 전달합니다.
+     *
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 근사 크기 (동시 생산/소비 중에는 정확하지 않음)
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+}
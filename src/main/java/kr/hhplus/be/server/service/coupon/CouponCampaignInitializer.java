@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.service.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponCampaign;
+import kr.hhplus.be.server.domain.coupon.CouponCampaignRepository;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 쿠폰 캠페인 초기화
+ * 기동 시 기본 선착순 캠페인을 보장하고, Redis 발급 카운터와 당첨자 Set을 DB 기준으로 맞춥니다.
+ * 로컬 Bloom 필터도 DB의 당첨자로 다시 만듭니다.
+ *
+ * 기본 캠페인을 처음 만들 때는 캠페인 도입 전에 발급된 쿠폰(campaign_id 없음)을 같은 트랜잭션에서
+ * 사용자별 한 장씩 기본 캠페인으로 편입하고 발급 수에 더합니다. 기존 당첨자가 다시 발급받거나 한도가 새로 열리지 않도록 하기 위함입니다.
+ * 다른 인스턴스가 먼저 캠페인을 만들어 생성이 실패하면, 캠페인을 다시 조회하여 있을 때만 정상으로 봅니다.
+ *
+ * Redis 카운터가 DB보다 작아지는 방향으로만 어긋나므로(진행 중인 발급이 아직 커밋되지 않은 경우)
+ * 초과 발급은 캠페인 행의 조건부 UPDATE가 막습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCampaignInitializer {
+
+    private static final String DEFAULT_CAMPAIGN_NAME = "선착순 할인 쿠폰";
+    private static final int DEFAULT_DISCOUNT_RATE = 10;
+    private static final int DEFAULT_VALID_DAYS = 30;
+    private static final int DEFAULT_TOTAL_QUANTITY = 100;
+    private static final int ASSIGN_CHUNK_SIZE = 1000;
+
+    private final CouponCampaignRepository couponCampaignRepository;
+    private final CouponRepository couponRepository;
+    private final CouponIssueLimiter couponIssueLimiter;
+    private final IssuedUserFilter issuedUserFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            ensureDefaultCampaign();
+            for (CouponCampaign campaign : couponCampaignRepository.findAll()) {
+                List<Long> winnerIds = couponRepository.findUserIdsByCampaignId(campaign.getId());
+                couponIssueLimiter.synchronize(campaign.getCode(), campaign.getIssuedCount());
+                couponIssueLimiter.synchronizeWinners(campaign.getCode(), winnerIds);
+                issuedUserFilter.rebuild(campaign.getCode(), campaign.getTotalQuantity(), winnerIds);
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 캠페인 초기화 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    private void ensureDefaultCampaign() {
+        if (couponCampaignRepository.findByCode(CouponService.DEFAULT_CAMPAIGN_CODE).isPresent()) {
+            return;
+        }
+        Boolean created = transactionTemplate.execute(status -> {
+            CouponCampaign campaign;
+            try {
+                campaign = couponCampaignRepository.saveAndFlush(CouponCampaign.builder()
+                        .code(CouponService.DEFAULT_CAMPAIGN_CODE)
+                        .name(DEFAULT_CAMPAIGN_NAME)
+                        .discountRate(DEFAULT_DISCOUNT_RATE)
+                        .validDays(DEFAULT_VALID_DAYS)
+                        .totalQuantity(DEFAULT_TOTAL_QUANTITY)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 생성했을 수 있으므로 롤백 후 다시 조회하여 확인
+                status.setRollbackOnly();
+                return false;
+            }
+            int assigned = assignLegacyCoupons(campaign);
+            log.info("기본 쿠폰 캠페인 생성: code={}, assignedCoupons={}", CouponService.DEFAULT_CAMPAIGN_CODE, assigned);
+            return true;
+        });
+        if (Boolean.TRUE.equals(created)) {
+            return;
+        }
+        if (couponCampaignRepository.findByCode(CouponService.DEFAULT_CAMPAIGN_CODE).isEmpty()) {
+            throw new IllegalStateException("기본 쿠폰 캠페인 생성 실패: code=" + CouponService.DEFAULT_CAMPAIGN_CODE);
+        }
+        log.debug("기본 쿠폰 캠페인이 이미 존재합니다: code={}", CouponService.DEFAULT_CAMPAIGN_CODE);
+    }
+
+    /**
+     * 캠페인 도입 전 발급분을 기본 캠페인의 발급 수와 당첨자로 편입합니다.
+     * 캠페인당 사용자 1장이므로 사용자별로 가장 먼저 발급된 쿠폰 한 장만 편입하고, 나머지는 캠페인 없이 그대로 둡니다.
+     * 편입 수가 한도를 넘으면 발급 수는 한도에서 멈춰 추가 발급만 막습니다.
+     */
+    private int assignLegacyCoupons(CouponCampaign campaign) {
+        List<Long> couponIds = couponRepository.findFirstUnassignedCouponIdPerUser();
+        int assigned = 0;
+        for (int from = 0; from < couponIds.size(); from += ASSIGN_CHUNK_SIZE) {
+            List<Long> chunk = couponIds.subList(from, Math.min(from + ASSIGN_CHUNK_SIZE, couponIds.size()));
+            assigned += couponRepository.assignCampaign(campaign.getId(), chunk);
+        }
+        if (assigned > 0) {
+            couponCampaignRepository.addIssuedCount(campaign.getId(), assigned);
+        }
+        if (assigned > campaign.getTotalQuantity()) {
+            log.warn("기존 발급 쿠폰이 캠페인 한도를 초과하여 발급 수를 한도로 제한: code={}, assigned={}, totalQuantity={}",
+                    campaign.getCode(), assigned, campaign.getTotalQuantity());
+        }
+        return assigned;
+    }
+}
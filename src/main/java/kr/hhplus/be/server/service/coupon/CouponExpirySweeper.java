@@ -0,0 +1,165 @@
+package kr.hhplus.be.server.service.coupon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 만료 쿠폰 정리 배치
+ * 유효기간이 지난 ACTIVE 쿠폰을 EXPIRED로 바꿔, ACTIVE 조회가 만료된 행을 계속 훑지 않도록 합니다.
+ *
+ * 설계:
+ * - 키셋 페이지네이션: (expired_at, id) 커서 이후의 만료 대상 ID를 chunk-size만큼 조회
+ *   (idx_coupons_status_expired_at 인덱스 범위 스캔, OFFSET 없음)
+ * - 청크마다 ID 목록으로 벌크 UPDATE 1회 (단일 문장 자동 커밋, 긴 트랜잭션/락 없음)
+ * - 스로틀: 청크 사이 chunk-pause-ms 대기, 한 번 실행에 max-chunks-per-run 청크까지만 처리
+ * - 분산락(대기 없음)으로 여러 인스턴스 중 하나만 실행
+ * - 지표: coupon.expiry.expired(만료 처리 수), coupon.expiry.chunks(청크 수), coupon.expiry.run(실행 시간)
+ */
+@Slf4j
+@Component
+public class CouponExpirySweeper {
+
+    private static final String LOCK_KEY = "coupon:expiry:sweeper";
+    private static final LocalDateTime INITIAL_CURSOR = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT id, expired_at FROM coupons " +
+            "WHERE status = 'ACTIVE' AND expired_at < ? " +
+            "AND (expired_at > ? OR (expired_at = ? AND id > ?)) " +
+            "ORDER BY expired_at, id LIMIT ?";
+    private static final String EXPIRE_SQL_PREFIX =
+            "UPDATE coupons SET status = 'EXPIRED', updated_at = ? WHERE status = 'ACTIVE' AND id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DistributedLock distributedLock;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int maxChunksPerRun;
+
+    private final Counter expiredCounter;
+    private final Counter chunkCounter;
+    private final Timer runTimer;
+
+    public CouponExpirySweeper(JdbcTemplate jdbcTemplate,
+                               DistributedLock distributedLock,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.coupon.expiry.chunk-size:1000}") int chunkSize,
+                               @Value("${app.coupon.expiry.chunk-pause-ms:50}") long chunkPauseMs,
+                               @Value("${app.coupon.expiry.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.distributedLock = distributedLock;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.expiredCounter = Counter.builder("coupon.expiry.expired")
+                .description("만료 처리된 쿠폰 수")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("coupon.expiry.chunks")
+                .description("처리한 만료 청크 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("coupon.expiry.run")
+                .description("만료 정리 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.coupon.expiry.cron:0 */10 * * * *}")
+    public void run() {
+        // 락 유지 시간: 처리 시간 + 청크 간 대기의 상한
+        long leaseTime = maxChunksPerRun * (chunkPauseMs + 1_000L);
+        try {
+            distributedLock.executeWithLock(LOCK_KEY, 0, leaseTime, () -> {
+                Timer.Sample sample = Timer.start();
+                try {
+                    sweep(LocalDateTime.now());
+                } finally {
+                    sample.stop(runTimer);
+                }
+            });
+        } catch (LockAcquisitionException e) {
+            log.debug("쿠폰 만료 정리 락 획득 실패, 다른 인스턴스가 실행 중");
+        } catch (Exception e) {
+            log.error("쿠폰 만료 정리 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 만료된 ACTIVE 쿠폰을 청크 단위로 EXPIRED 처리합니다.
+     *
+     * @param now 만료 기준 시각
+     * @return EXPIRED로 바뀐 쿠폰 수
+     */
+    public int sweep(LocalDateTime now) {
+        Timestamp cutoff = Timestamp.valueOf(now);
+        Timestamp cursorExpiredAt = Timestamp.valueOf(INITIAL_CURSOR);
+        long cursorId = 0L;
+        int total = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<ExpiryKey> keys = jdbcTemplate.query(SELECT_CHUNK_SQL,
+                    (rs, rowNum) -> new ExpiryKey(rs.getLong("id"), rs.getTimestamp("expired_at")),
+                    cutoff, cursorExpiredAt, cursorExpiredAt, cursorId, chunkSize);
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            int expired = expire(keys, cutoff);
+            total += expired;
+            expiredCounter.increment(expired);
+            chunkCounter.increment();
+
+            ExpiryKey last = keys.get(keys.size() - 1);
+            cursorExpiredAt = last.expiredAt();
+            cursorId = last.id();
+
+            if (keys.size() < chunkSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("쿠폰 만료 처리 완료: expired={}, cutoff={}", total, now);
+        }
+        return total;
+    }
+
+    private int expire(List<ExpiryKey> keys, Timestamp updatedAt) {
+        String sql = EXPIRE_SQL_PREFIX + String.join(",", Collections.nCopies(keys.size(), "?")) + ")";
+        List<Object> args = new ArrayList<>(keys.size() + 1);
+        args.add(updatedAt);
+        keys.forEach(key -> args.add(key.id()));
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private boolean pause() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    record ExpiryKey(long id, Timestamp expiredAt) {
+    }
+}
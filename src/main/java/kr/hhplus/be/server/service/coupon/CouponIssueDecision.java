@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.service.coupon;
+
+/**
+ * 선착순 발급 권한 요청 결과
+ */
+public enum CouponIssueDecision {
+    ACQUIRED,   // 당첨
+    DUPLICATE,  // 이미 당첨된 사용자
+    SOLD_OUT    // 발급 한도 도달
+}
@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.service.coupon;
+
+import java.util.Collection;
+
+/**
+ * 선착순 쿠폰 발급 한도 관리 인터페이스
+ * 캠페인별 발급 수를 원자적으로 확인/증가시켜 당첨 여부를 결정합니다.
+ */
+public interface CouponIssueLimiter {
+
+    /**
+     * 발급 한도 안에서 발급 건수를 1 증가시키고 당첨자로 기록합니다.
+     * 이미 당첨된 사용자는 발급 건수를 늘리지 않고 DUPLICATE를 반환합니다.
+     *
+     * @param campaign 캠페인 키
+     * @param userId 사용자 ID
+     * @param limit 캠페인 발급 한도
+     * @return 당첨(ACQUIRED), 중복(DUPLICATE), 한도 도달(SOLD_OUT)
+     */
+    CouponIssueDecision tryAcquire(String campaign, Long userId, int limit);
+
+    /**
+     * 당첨자로 기록된 사용자인지 확인합니다. (로컬 Bloom 필터 양성 확인용)
+     */
+    boolean isIssued(String campaign, Long userId);
+
+    /**
+     * 발급 권한을 반납합니다. (DB 저장 실패 시 보상)
+     *
+     * @param campaign 캠페인 키
+     * @param userId 사용자 ID
+     */
+    void release(String campaign, Long userId);
+
+    /**
+     * 발급 수를 DB에 기록된 값으로 맞춥니다. (기동 시, 캠페인 생성 시)
+     *
+     * @param campaign 캠페인 키
+     * @param issuedCount DB에 기록된 발급 수
+     */
+    void synchronize(String campaign, long issuedCount);
+
+    /**
+     * 발급 수가 주어진 값보다 작을 때만 올립니다. (대기열 일괄 발급 커밋 후)
+     * 동시에 진행 중인 즉시 발급의 증가분을 덮어써 한도가 다시 열리지 않도록 낮추지는 않습니다.
+     *
+     * @param campaign 캠페인 키
+     * @param issuedCount DB에 기록된 발급 수
+     */
+    void raiseIssuedCount(String campaign, long issuedCount);
+
+    /**
+     * 당첨자를 추가합니다. (대기열 일괄 발급 커밋 후)
+     */
+    void addWinners(String campaign, Collection<Long> userIds);
+
+    /**
+     * 당첨자 목록을 DB에 기록된 사용자로 교체합니다. (기동 시)
+     */
+    void synchronizeWinners(String campaign, Collection<Long> userIds);
+}
@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.service.coupon;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 쿠폰 발급 대기열 인터페이스
+ * 발급 요청을 도착 순서대로 쌓고, 워커가 앞에서부터 일괄 처리합니다.
+ */
+public interface CouponIssueQueue {
+
+    /**
+     * 발급 요청을 대기열 끝에 추가합니다.
+     *
+     * @return 처리 결과 조회용 티켓
+     */
+    String enqueue(Long userId, Long campaignId);
+
+    /**
+     * 대기열 앞에서부터 요청을 제거하지 않고 조회합니다.
+     *
+     * @param count 최대 조회 개수
+     */
+    List<CouponIssueTicket> peek(int count);
+
+    /**
+     * 처리가 끝난 요청을 대기열 앞에서부터 제거하고 처리 결과를 기록합니다.
+     * 제거와 기록은 원자적으로 수행되어, 제거되었는데 결과가 없는(또는 그 반대의) 요청이 남지 않습니다.
+     *
+     * @param results peek으로 조회한 요청과 같은 순서, 같은 개수의 처리 결과
+     */
+    void complete(List<CouponIssueResult> results);
+
+    /**
+     * 대기열 앞 요청의 처리 실패를 기록합니다.
+     *
+     * @param ticket 대기열 맨 앞 요청의 티켓
+     * @return 누적 실패 횟수
+     */
+    int recordFailure(String ticket);
+
+    /**
+     * 반복해서 실패한 요청을 대기열에서 데드레터 목록으로 옮기고 거절 결과를 기록합니다.
+     *
+     * @param tickets peek으로 조회한 요청
+     * @param reason  거절 사유
+     */
+    void deadLetter(List<CouponIssueTicket> tickets, String reason);
+
+    /**
+     * 요청의 처리 결과를 기록합니다.
+     */
+    void record(CouponIssueResult result);
+
+    /**
+     * 요청의 처리 결과를 조회합니다.
+     */
+    Optional<CouponIssueResult> find(String ticket);
+}
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.service.coupon;
+
+/**
+ * 대기열 쿠폰 발급 요청의 처리 결과
+ */
+public record CouponIssueResult(
+        String ticket,
+        CouponIssueStatus status,
+        Long couponId,
+        String reason
+) {
+
+    public static CouponIssueResult pending(String ticket) {
+        return new CouponIssueResult(ticket, CouponIssueStatus.PENDING, null, null);
+    }
+
+    public static CouponIssueResult issued(String ticket, Long couponId) {
+        return new CouponIssueResult(ticket, CouponIssueStatus.ISSUED, couponId, null);
+    }
+
+    public static CouponIssueResult rejected(String ticket, String reason) {
+        return new CouponIssueResult(ticket, CouponIssueStatus.REJECTED, null, reason);
+    }
+}
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.service.coupon;
+
+public enum CouponIssueStatus {
+    PENDING,
+    ISSUED,
+    REJECTED
+}
@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.service.coupon;
+
+/**
+ * 발급 대기열에 쌓인 쿠폰 발급 요청
+ *
+ * @param ticket 요청 티켓
+ * @param userId 사용자 ID
+ * @param campaignId 캠페인 ID (null이면 기본 선착순 캠페인)
+ */
+public record CouponIssueTicket(
+        String ticket,
+        Long userId,
+        Long campaignId
+) {
+}
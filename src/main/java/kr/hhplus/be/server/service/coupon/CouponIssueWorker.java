@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.service.coupon;
+
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 쿠폰 발급 대기열 워커
+ * 대기열 앞에서부터 요청을 배치 단위로 꺼내 발급하고 결과를 티켓에 기록합니다.
+ *
+ * 설계:
+ * - 분산락(대기 없음)으로 여러 인스턴스 중 하나만 대기열을 처리하여 도착 순서를 보장
+ * - 한 배치 = 한 트랜잭션 (CouponService.issueQueued), 커밋 후에만 대기열에서 제거 (제거와 결과 기록은 원자적)
+ * - 처리 중 장애 시 요청이 대기열에 남아 다음 주기에 재처리 (이미 발급된 사용자는 기존 쿠폰 ID로 발급 완료 처리)
+ * - 같은 배치가 max-attempts번 연속 실패하면 데드레터 목록으로 옮기고 거절로 기록하여 대기열이 막히지 않게 함
+ * - 락 유지 시간 안에 끝나도록 한 주기에 max-batches-per-run 배치까지만 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.coupon.issue-queue.enabled", havingValue = "true")
+public class CouponIssueWorker {
+
+	private static final String WORKER_LOCK_KEY = "coupon:issue:worker";
+	private static final long LOCK_LEASE_TIME = 10_000L;
+	private static final String DEAD_LETTER_REASON = "쿠폰 발급 처리에 실패했습니다.";
+
+	private final CouponIssueQueue couponIssueQueue;
+	private final CouponService couponService;
+	private final DistributedLock distributedLock;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+	private final int maxAttempts;
+
+	public CouponIssueWorker(CouponIssueQueue couponIssueQueue,
+	                         CouponService couponService,
+	                         DistributedLock distributedLock,
+	                         @Value("${app.coupon.issue-queue.batch-size:500}") int batchSize,
+	                         @Value("${app.coupon.issue-queue.max-batches-per-run:10}") int maxBatchesPerRun,
+	                         @Value("${app.coupon.issue-queue.max-attempts:5}") int maxAttempts) {
+		this.couponIssueQueue = couponIssueQueue;
+		this.couponService = couponService;
+		this.distributedLock = distributedLock;
+		this.batchSize = batchSize;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+		this.maxAttempts = maxAttempts;
+	}
+
+	@Scheduled(fixedDelayString = "${app.coupon.issue-queue.poll-interval-ms:100}")
+	public void drain() {
+		try {
+			distributedLock.executeWithLock(WORKER_LOCK_KEY, 0, LOCK_LEASE_TIME, this::drainBatches);
+		} catch (LockAcquisitionException e) {
+			// 다른 인스턴스가 처리 중
+			log.debug("쿠폰 발급 워커 락 획득 실패, 이번 주기 건너뜀");
+		} catch (Exception e) {
+			log.error("쿠폰 발급 대기열 처리 실패, 다음 주기에 재시도: error={}", e.getMessage(), e);
+		}
+	}
+
+	private void drainBatches() {
+		for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+			List<CouponIssueTicket> tickets = couponIssueQueue.peek(batchSize);
+			if (tickets.isEmpty()) {
+				return;
+			}
+
+			List<CouponIssueResult> results;
+			try {
+				results = couponService.issueQueued(tickets);
+			} catch (RuntimeException e) {
+				int attempts = couponIssueQueue.recordFailure(tickets.get(0).ticket());
+				if (attempts < maxAttempts) {
+					throw e;
+				}
+				log.error("쿠폰 발급 배치 {}회 연속 실패, 데드레터로 이동: size={}, firstTicket={}, error={}",
+						attempts, tickets.size(), tickets.get(0).ticket(), e.getMessage(), e);
+				couponIssueQueue.deadLetter(tickets, DEAD_LETTER_REASON);
+				continue;
+			}
+			couponIssueQueue.complete(results);
+
+			if (tickets.size() < batchSize) {
+				return;
+			}
+		}
+	}
+}
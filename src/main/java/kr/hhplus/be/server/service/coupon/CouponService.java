@@ -1,60 +1,307 @@
 package kr.hhplus.be.server.service.coupon;
 
+import kr.hhplus.be.server.api.coupon.dto.CouponCampaignResponse;
+import kr.hhplus.be.server.api.coupon.dto.CouponIssueTicketResponse;
 import kr.hhplus.be.server.api.coupon.dto.CouponResponse;
 import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponCampaign;
+import kr.hhplus.be.server.domain.coupon.CouponCampaignRepository;
 import kr.hhplus.be.server.domain.coupon.CouponRepository;
-import kr.hhplus.be.server.domain.coupon.CouponStatus;
 import kr.hhplus.be.server.domain.user.User;
 import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.event.CouponIssuedEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CouponService {
 
-    private static final int MAX_COUPON_COUNT = 100;
-    private static final int DISCOUNT_RATE = 10;
-    private static final int EXPIRY_DAYS = 30;
+    public static final String DEFAULT_CAMPAIGN_CODE = "FIRST_COME";
 
     private final CouponRepository couponRepository;
+    private final CouponCampaignRepository couponCampaignRepository;
     private final UserRepository userRepository;
+    private final CouponIssueLimiter couponIssueLimiter;
+    private final CouponIssueQueue couponIssueQueue;
+    private final IssuedUserFilter issuedUserFilter;
+    private final CouponWalletCache couponWalletCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 쿠폰 캠페인을 생성하고, 커밋 후 Redis 발급 카운터를 초기화합니다.
+     */
+    public CouponCampaignResponse createCampaign(String code, String name, Integer discountRate,
+                                                 Integer validDays, Integer totalQuantity) {
+        if (couponCampaignRepository.findByCode(code).isPresent()) {
+            throw new IllegalArgumentException("이미 존재하는 쿠폰 캠페인입니다.");
+        }
+
+        CouponCampaign campaign = couponCampaignRepository.save(CouponCampaign.builder()
+                .code(code)
+                .name(name)
+                .discountRate(discountRate)
+                .validDays(validDays)
+                .totalQuantity(totalQuantity)
+                .build());
+
+        afterCommit(() -> couponIssueLimiter.synchronize(code, 0));
+        return CouponCampaignResponse.from(campaign);
+    }
+
+    /**
+     * 기본 선착순 캠페인의 쿠폰을 발급합니다.
+     */
     public CouponResponse issueCoupon(Long userId) {
+        CouponCampaign campaign = couponCampaignRepository.findByCode(DEFAULT_CAMPAIGN_CODE)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰 캠페인을 찾을 수 없습니다."));
+        return issue(userId, campaign);
+    }
+
+    /**
+     * 지정한 캠페인의 쿠폰을 발급합니다.
+     */
+    public CouponResponse issueCoupon(Long userId, Long campaignId) {
+        CouponCampaign campaign = couponCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰 캠페인을 찾을 수 없습니다."));
+        return issue(userId, campaign);
+    }
+
+    private CouponResponse issue(Long userId, CouponCampaign campaign) {
+        String code = campaign.getCode();
+
+        // 로컬 Bloom 필터로 재요청을 먼저 거름 (양성이면 Redis 당첨자 Set으로 오탐 확인)
+        if (issuedUserFilter.mightContain(code, userId) && couponIssueLimiter.isIssued(code, userId)) {
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다.");
+        }
+
         // 사용자 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // SELECT FOR UPDATE를 사용한 선착순 쿠폰 발급 제한 확인 (동시성 제어)
-        // 비관적 락을 사용하여 동시 발급 시 초과 발급 방지
-        Long activeCouponCount = couponRepository.countActiveCouponsWithLock();
-        if (activeCouponCount >= MAX_COUPON_COUNT) {
+        // Redis 원자적 카운터(Lua)로 중복 여부와 선착순 당첨 여부 결정 (테이블 락 없음)
+        CouponIssueDecision decision = couponIssueLimiter.tryAcquire(code, userId, campaign.getTotalQuantity());
+        if (decision == CouponIssueDecision.DUPLICATE) {
+            issuedUserFilter.put(code, campaign.getTotalQuantity(), userId);
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다.");
+        }
+        if (decision == CouponIssueDecision.SOLD_OUT) {
             throw new IllegalStateException("쿠폰 발급 한도에 도달했습니다.");
         }
+        // 쿠폰 저장이 롤백되면 발급 권한 반납 (coupons 유니크 제약 위반 포함)
+        releaseOnRollback(code, userId);
 
-        // 쿠폰 생성
-        Coupon coupon = Coupon.builder()
-                .user(user)
-                .name("선착순 할인 쿠폰")
-                .discountRate(DISCOUNT_RATE)
-                .expiredAt(LocalDateTime.now().plusDays(EXPIRY_DAYS))
-                .build();
+        // 캠페인 행 조건부 UPDATE로 DB에서도 한도 보장 (Redis 카운터 유실 대비)
+        int updatedRows = couponCampaignRepository.increaseIssuedCountIfAvailable(campaign.getId());
+        if (updatedRows == 0) {
+            throw new IllegalStateException("쿠폰 발급 한도에 도달했습니다.");
+        }
 
+        // 쿠폰 생성
+        Coupon coupon = campaign.issueTo(user);
         couponRepository.save(coupon);
+        publishIssued(coupon);
+        afterCommit(() -> issuedUserFilter.put(code, campaign.getTotalQuantity(), userId));
 
         return CouponResponse.from(coupon);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 쿠폰 발급 요청을 대기열에 넣고 티켓을 반환합니다.
+     * DB에 접근하지 않으므로 트랜잭션(커넥션)을 잡지 않습니다.
+     *
+     * @param campaignId 캠페인 ID (null이면 기본 선착순 캠페인)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CouponIssueTicketResponse requestIssue(Long userId, Long campaignId) {
+        String ticket = couponIssueQueue.enqueue(userId, campaignId);
+        return CouponIssueTicketResponse.from(CouponIssueResult.pending(ticket));
+    }
+
+    /**
+     * 대기열 발급 요청의 처리 결과를 조회합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<CouponIssueTicketResponse> getIssueResult(String ticket) {
+        return couponIssueQueue.find(ticket).map(CouponIssueTicketResponse::from);
+    }
+
+    /**
+     * 대기열에서 꺼낸 발급 요청을 한 트랜잭션에서 일괄 처리합니다.
+     *
+     * 설계:
+     * - 캠페인 행을 잠근 뒤(PESSIMISTIC_WRITE) 남은 수량만큼 도착 순서대로 당첨 처리
+     * - 배치 내 중복 요청은 거절하고, 이미 발급받은 사용자는 IN 조회 1회로 찾아 기존 쿠폰 ID로 발급 완료 처리
+     * - 당첨 쿠폰은 saveAll로 저장 (Snowflake ID + JDBC 배치 INSERT)
+     * - 캠페인 발급 수는 당첨 수만큼 한 번에 증가시키고, 커밋 후 Redis 카운터를 DB 값 이상으로만 올림
+     *   (덮어쓰면 진행 중인 즉시 발급의 증가분이 사라져 한도가 다시 열림)
+     *
+     * @return 요청 순서와 같은 순서의 처리 결과
+     */
+    public List<CouponIssueResult> issueQueued(List<CouponIssueTicket> tickets) {
+        Map<String, CouponIssueResult> results = new LinkedHashMap<>();
+        tickets.forEach(ticket -> results.put(ticket.ticket(), null));
+
+        // 캠페인별로 묶되 캠페인 안에서는 도착 순서 유지
+        Map<Long, List<CouponIssueTicket>> ticketsByCampaign = new LinkedHashMap<>();
+        Long defaultCampaignId = null;
+        for (CouponIssueTicket ticket : tickets) {
+            Long campaignId = ticket.campaignId();
+            if (campaignId == null) {
+                if (defaultCampaignId == null) {
+                    defaultCampaignId = couponCampaignRepository.findByCode(DEFAULT_CAMPAIGN_CODE)
+                            .map(CouponCampaign::getId)
+                            .orElse(-1L);
+                }
+                campaignId = defaultCampaignId;
+            }
+            ticketsByCampaign.computeIfAbsent(campaignId, id -> new ArrayList<>()).add(ticket);
+        }
+
+        Set<Long> userIds = tickets.stream()
+                .map(CouponIssueTicket::userId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        for (Map.Entry<Long, List<CouponIssueTicket>> entry : ticketsByCampaign.entrySet()) {
+            issueCampaignBatch(entry.getKey(), entry.getValue(), users, results);
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    private void issueCampaignBatch(Long campaignId, List<CouponIssueTicket> tickets,
+                                    Map<Long, User> users, Map<String, CouponIssueResult> results) {
+        Optional<CouponCampaign> found = couponCampaignRepository.findByIdForUpdate(campaignId);
+        if (found.isEmpty()) {
+            tickets.forEach(ticket -> results.put(ticket.ticket(),
+                    CouponIssueResult.rejected(ticket.ticket(), "쿠폰 캠페인을 찾을 수 없습니다.")));
+            return;
+        }
+        CouponCampaign campaign = found.get();
+
+        Set<Long> requestedUserIds = tickets.stream()
+                .map(CouponIssueTicket::userId)
+                .filter(users::containsKey)
+                .collect(Collectors.toSet());
+        // 이미 발급받은 사용자는 기존 쿠폰으로 발급 완료 처리
+        // (커밋 후 결과 기록 전에 장애가 나 같은 배치를 다시 처리해도 당첨자가 거절되지 않음)
+        Map<Long, Long> issuedCouponIds = new HashMap<>();
+        if (!requestedUserIds.isEmpty()) {
+            for (Object[] row : couponRepository.findIssuedCouponIds(campaign.getId(), requestedUserIds)) {
+                issuedCouponIds.put((Long) row[0], (Long) row[1]);
+            }
+        }
+
+        int remaining = campaign.getRemainingQuantity();
+        Set<Long> batchUserIds = new HashSet<>();
+        Map<String, Coupon> winners = new LinkedHashMap<>();
+        for (CouponIssueTicket ticket : tickets) {
+            User user = users.get(ticket.userId());
+            if (user == null) {
+                results.put(ticket.ticket(), CouponIssueResult.rejected(ticket.ticket(), "사용자를 찾을 수 없습니다."));
+            } else if (!batchUserIds.add(user.getId())) {
+                results.put(ticket.ticket(), CouponIssueResult.rejected(ticket.ticket(), "이미 발급받은 쿠폰입니다."));
+            } else if (issuedCouponIds.containsKey(user.getId())) {
+                results.put(ticket.ticket(), CouponIssueResult.issued(ticket.ticket(), issuedCouponIds.get(user.getId())));
+            } else if (remaining == 0) {
+                results.put(ticket.ticket(), CouponIssueResult.rejected(ticket.ticket(), "쿠폰 발급 한도에 도달했습니다."));
+            } else {
+                winners.put(ticket.ticket(), campaign.issueTo(user));
+                remaining--;
+            }
+        }
+        if (winners.isEmpty()) {
+            return;
+        }
+
+        campaign.increaseIssuedCount(winners.size());
+        couponRepository.saveAll(winners.values());
+
+        winners.forEach((ticket, coupon) -> {
+            results.put(ticket, CouponIssueResult.issued(ticket, coupon.getId()));
+            publishIssued(coupon);
+        });
+
+        String code = campaign.getCode();
+        int issuedCount = campaign.getIssuedCount();
+        int totalQuantity = campaign.getTotalQuantity();
+        List<Long> winnerIds = winners.values().stream()
+                .map(coupon -> coupon.getUser().getId())
+                .toList();
+        afterCommit(() -> {
+            couponIssueLimiter.raiseIssuedCount(code, issuedCount);
+            couponIssueLimiter.addWinners(code, winnerIds);
+            winnerIds.forEach(userId -> issuedUserFilter.put(code, totalQuantity, userId));
+        });
+        log.info("쿠폰 일괄 발급: campaign={}, requested={}, issued={}, issuedCount={}",
+                code, tickets.size(), winners.size(), issuedCount);
+    }
+
+    private void publishIssued(Coupon coupon) {
+        eventPublisher.publishEvent(CouponIssuedEvent.builder()
+                .source(this)
+                .couponId(coupon.getId())
+                .userId(coupon.getUser().getId())
+                .campaignId(coupon.getCampaignId())
+                .build());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void releaseOnRollback(String campaign, Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    couponIssueLimiter.release(campaign, userId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 사용자의 ACTIVE 쿠폰 목록을 쿠폰 지갑 캐시에서 조회합니다.
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 시작하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CouponResponse> getUserCoupons(Long userId) {
-        List<Coupon> coupons = couponRepository.findByUserIdAndStatus(userId, CouponStatus.ACTIVE);
-        return coupons.stream()
+        return couponWalletCache.getWallet(userId).stream()
                 .map(CouponResponse::from)
                 .collect(Collectors.toList());
     }
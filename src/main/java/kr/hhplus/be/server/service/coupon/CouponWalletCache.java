@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.service.coupon;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 쿠폰 지갑 캐시 인터페이스
+ * 사용자의 ACTIVE 쿠폰 목록을 캐시하고, 발급/사용 이벤트로 무효화합니다.
+ */
+public interface CouponWalletCache {
+
+    /**
+     * 사용자의 ACTIVE 쿠폰 목록을 조회합니다. (캐시 미스 시 DB 적재, 만료일이 지난 쿠폰은 제외)
+     *
+     * @param userId 사용자 ID
+     * @return 쿠폰 ID 순으로 정렬된 지갑
+     */
+    List<CouponWalletEntry> getWallet(Long userId);
+
+    /**
+     * 사용자 지갑에서 쿠폰을 조회합니다.
+     *
+     * @return 지갑에 없으면(다른 사용자 쿠폰이거나 이미 사용된 쿠폰) empty
+     */
+    Optional<CouponWalletEntry> find(Long userId, Long couponId);
+
+    /**
+     * 사용자 지갑 캐시를 모든 인스턴스에서 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void evict(Long userId);
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.service.coupon;
+
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponView;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 쿠폰 지갑에 캐시되는 사용 가능(ACTIVE) 쿠폰
+ * 엔티티 대신 할인 계산과 응답에 필요한 값만 담습니다.
+ *
+ * Redis 해시 값 인코딩: "{discountRate}|{expiredAt epoch millis}|{name}"
+ * (JSON 직렬화 없이 필드 순서로만 구분, 이름에 구분자가 있어도 되도록 이름을 마지막에 둠)
+ */
+public record CouponWalletEntry(
+        Long id,
+        String name,
+        int discountRate,
+        LocalDateTime expiredAt
+) {
+
+    private static final char DELIMITER = '|';
+
+    public static CouponWalletEntry from(Coupon coupon) {
+        return new CouponWalletEntry(coupon.getId(), coupon.getName(), coupon.getDiscountRate(), coupon.getExpiredAt());
+    }
+
+    public static CouponWalletEntry from(CouponView view) {
+        return new CouponWalletEntry(view.id(), view.name(), view.discountRate(), view.expiredAt());
+    }
+
+    public boolean isUsable() {
+        return !LocalDateTime.now().isAfter(expiredAt);
+    }
+
+    public Long calculateDiscount(Long totalAmount) {
+        if (!isUsable()) {
+            return 0L;
+        }
+        return totalAmount * discountRate / 100;
+    }
+
+    public String encode() {
+        return String.valueOf(discountRate) + DELIMITER
+                + expiredAt.toInstant(ZoneOffset.UTC).toEpochMilli() + DELIMITER
+                + name;
+    }
+
+    public static CouponWalletEntry decode(Long id, String value) {
+        int first = value.indexOf(DELIMITER);
+        int second = value.indexOf(DELIMITER, first + 1);
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("잘못된 쿠폰 지갑 값입니다: " + value);
+        }
+        int discountRate = Integer.parseInt(value.substring(0, first));
+        long expiredAtMillis = Long.parseLong(value.substring(first + 1, second));
+        return new CouponWalletEntry(
+                id,
+                value.substring(second + 1),
+                discountRate,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(expiredAtMillis), ZoneOffset.UTC));
+    }
+}
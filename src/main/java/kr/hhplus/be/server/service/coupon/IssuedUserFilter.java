@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.service.coupon;
+
+import kr.hhplus.be.server.infrastructure.filter.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캠페인별 당첨 사용자 로컬 Bloom 필터 (중복 발급 1차 방어)
+ *
+ * 설계:
+ * - 1차: 로컬 Bloom 필터 - 이미 당첨된 사용자의 재요청을 DB/Lua 호출 없이 걸러냄
+ * - 2차: Redis 당첨자 Set (SISMEMBER/SADD) - 인스턴스 간 공유되는 권위 있는 판정
+ * - 3차: coupons(campaign_id, user_id) 유니크 제약 - 최종 안전장치
+ *
+ * 필터가 양성이면 오탐일 수 있으므로 Redis Set으로 확인한 뒤 거절합니다.
+ * 다른 인스턴스에서 당첨된 사용자는 Redis가 DUPLICATE로 응답할 때 필터에 추가되어
+ * 이후 같은 사용자의 재요청부터 로컬에서 걸러집니다.
+ */
+@Component
+public class IssuedUserFilter {
+
+    private static final int MIN_EXPECTED_INSERTIONS = 1_000;
+
+    private final Map<String, BloomFilter> filters = new ConcurrentHashMap<>();
+    private final double falsePositiveRate;
+
+    public IssuedUserFilter(@Value("${app.coupon.dedup.bloom-false-positive-rate:0.01}") double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean mightContain(String campaign, Long userId) {
+        BloomFilter filter = filters.get(campaign);
+        return filter != null && filter.mightContain(userId);
+    }
+
+    /**
+     * 당첨 사용자를 기록합니다.
+     *
+     * @param expectedWinners 캠페인 발급 한도 (필터 크기 결정)
+     */
+    public void put(String campaign, int expectedWinners, Long userId) {
+        filterFor(campaign, expectedWinners).put(userId);
+    }
+
+    /**
+     * DB에 기록된 당첨자로 필터를 다시 만듭니다. (기동 시)
+     */
+    public void rebuild(String campaign, int expectedWinners, Collection<Long> userIds) {
+        BloomFilter filter = newFilter(expectedWinners);
+        userIds.forEach(filter::put);
+        filters.put(campaign, filter);
+    }
+
+    private BloomFilter filterFor(String campaign, int expectedWinners) {
+        return filters.computeIfAbsent(campaign, key -> newFilter(expectedWinners));
+    }
+
+    private BloomFilter newFilter(int expectedWinners) {
+        return new BloomFilter(Math.max(expectedWinners, MIN_EXPECTED_INSERTIONS), falsePositiveRate);
+    }
+}
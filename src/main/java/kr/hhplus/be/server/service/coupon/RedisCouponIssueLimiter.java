@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 기반 선착순 쿠폰 발급 한도 구현체
+ * Lua 스크립트로 한도 확인, 발급 수 증가, 당첨자 기록을 한 번에 원자적으로 처리합니다.
+ *
+ * 설계:
+ * - Key: "coupon:campaign:{campaign}:issued" (String, 발급 수)
+ * - Key: "coupon:campaign:{campaign}:winners" (Set, Member: userId)
+ *
+ * DB 테이블 전체에 거는 COUNT ... FOR UPDATE와 달리 캠페인별 키 하나만 다루므로
+ * 발급 비용이 쿠폰 테이블 크기와 무관하고, 당첨 여부는 Redis 왕복 1회로 결정됩니다.
+ * 당첨자 Set은 사용자별 중복 발급을 막는 권위 있는 판정으로도 사용합니다. (SISMEMBER 후 SADD)
+ */
+@Slf4j
+@Service
+public class RedisCouponIssueLimiter implements CouponIssueLimiter {
+
+    private static final String KEY_PREFIX = "coupon:campaign:";
+    private static final String ISSUED_SUFFIX = ":issued";
+    private static final String WINNERS_SUFFIX = ":winners";
+
+    private static final int WINNERS_CHUNK_SIZE = 1_000;
+
+    // 반환값: 1 당첨, 0 한도 도달, -1 이미 당첨된 사용자
+    private static final String ACQUIRE_SCRIPT =
+        "if redis.call('sismember', KEYS[2], ARGV[2]) == 1 then " +
+        "  return -1 " +
+        "end " +
+        "local issued = tonumber(redis.call('get', KEYS[1]) or '0') " +
+        "if issued >= tonumber(ARGV[1]) then " +
+        "  return 0 " +
+        "end " +
+        "redis.call('incr', KEYS[1]) " +
+        "redis.call('sadd', KEYS[2], ARGV[2]) " +
+        "return 1";
+
+    private static final String RELEASE_SCRIPT =
+        "if tonumber(redis.call('get', KEYS[1]) or '0') > 0 then " +
+        "  redis.call('decr', KEYS[1]) " +
+        "end " +
+        "redis.call('srem', KEYS[2], ARGV[1]) " +
+        "return 1";
+
+    // 반환값: 반영 후 발급 수 (현재 값이 더 크면 그대로 둠)
+    private static final String RAISE_SCRIPT =
+        "local issued = tonumber(redis.call('get', KEYS[1]) or '0') " +
+        "local target = tonumber(ARGV[1]) " +
+        "if issued < target then " +
+        "  redis.call('set', KEYS[1], ARGV[1]) " +
+        "  return target " +
+        "end " +
+        "return issued";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> acquireScript;
+    private final DefaultRedisScript<Long> releaseScript;
+    private final DefaultRedisScript<Long> raiseScript;
+
+    public RedisCouponIssueLimiter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.acquireScript = new DefaultRedisScript<>(ACQUIRE_SCRIPT, Long.class);
+        this.releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+        this.raiseScript = new DefaultRedisScript<>(RAISE_SCRIPT, Long.class);
+    }
+
+    @Override
+    public CouponIssueDecision tryAcquire(String campaign, Long userId, int limit) {
+        Long result = redisTemplate.execute(
+                acquireScript,
+                List.of(issuedKey(campaign), winnersKey(campaign)),
+                String.valueOf(limit),
+                String.valueOf(userId));
+        if (result == null || result == 0L) {
+            return CouponIssueDecision.SOLD_OUT;
+        }
+        return result == 1L ? CouponIssueDecision.ACQUIRED : CouponIssueDecision.DUPLICATE;
+    }
+
+    @Override
+    public boolean isIssued(String campaign, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(winnersKey(campaign), String.valueOf(userId)));
+    }
+
+    @Override
+    public void release(String campaign, Long userId) {
+        try {
+            redisTemplate.execute(
+                    releaseScript,
+                    List.of(issuedKey(campaign), winnersKey(campaign)),
+                    String.valueOf(userId));
+            log.info("쿠폰 발급 권한 반납: campaign={}, userId={}", campaign, userId);
+        } catch (Exception e) {
+            // 반납 실패 시 한도가 1개 줄어든 상태로 남음 (초과 발급보다 안전)
+            log.error("쿠폰 발급 권한 반납 실패: campaign={}, userId={}, error={}",
+                    campaign, userId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void synchronize(String campaign, long issuedCount) {
+        redisTemplate.opsForValue().set(issuedKey(campaign), String.valueOf(issuedCount));
+        log.info("쿠폰 발급 수 동기화: campaign={}, issuedCount={}", campaign, issuedCount);
+    }
+
+    @Override
+    public void raiseIssuedCount(String campaign, long issuedCount) {
+        try {
+            Long current = redisTemplate.execute(raiseScript, List.of(issuedKey(campaign)), String.valueOf(issuedCount));
+            log.debug("쿠폰 발급 수 반영: campaign={}, issuedCount={}, current={}", campaign, issuedCount, current);
+        } catch (Exception e) {
+            // 반영 실패 시 Redis 발급 수가 작게 남지만 초과 발급은 캠페인 행의 조건부 UPDATE가 막음
+            log.error("쿠폰 발급 수 반영 실패: campaign={}, issuedCount={}, error={}",
+                    campaign, issuedCount, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void addWinners(String campaign, Collection<Long> userIds) {
+        try {
+            addAll(winnersKey(campaign), userIds);
+        } catch (Exception e) {
+            // 누락된 당첨자는 DB 중복 확인과 유니크 제약이 막음
+            log.error("쿠폰 당첨자 기록 실패: campaign={}, count={}, error={}",
+                    campaign, userIds.size(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void synchronizeWinners(String campaign, Collection<Long> userIds) {
+        String key = winnersKey(campaign);
+        redisTemplate.delete(key);
+        addAll(key, userIds);
+        log.info("쿠폰 당첨자 동기화: campaign={}, winners={}", campaign, userIds.size());
+    }
+
+    private void addAll(String key, Collection<Long> userIds) {
+        List<String> members = userIds.stream().map(String::valueOf).toList();
+        for (int from = 0; from < members.size(); from += WINNERS_CHUNK_SIZE) {
+            List<String> chunk = members.subList(from, Math.min(from + WINNERS_CHUNK_SIZE, members.size()));
+            redisTemplate.opsForSet().add(key, chunk.toArray(String[]::new));
+        }
+    }
+
+    private String issuedKey(String campaign) {
+        return KEY_PREFIX + campaign + ISSUED_SUFFIX;
+    }
+
+    private String winnersKey(String campaign) {
+        return KEY_PREFIX + campaign + WINNERS_SUFFIX;
+    }
+}
@@ -0,0 +1,178 @@
+package kr.hhplus.be.server.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 쿠폰 발급 대기열 구현체
+ *
+ * 설계:
+ * - Key: "coupon:issue:queue" (List, Value: "{ticket}:{userId}:{campaignId}", 도착 순서대로 RPUSH)
+ * - Key: "coupon:issue:ticket:{ticket}" (Hash, Field: status/couponId/reason, TTL 1일)
+ * - Key: "coupon:issue:attempts" (Hash, Field: 대기열 맨 앞 티켓, Value: 누적 처리 실패 횟수)
+ * - Key: "coupon:issue:dead-letter" (List, 반복 실패로 옮겨진 요청 원문)
+ *
+ * 워커는 LRANGE로 앞에서부터 조회하고, 처리 결과를 커밋한 뒤에만 제거합니다.
+ * LTRIM과 결과 기록(HSET)은 Lua 스크립트 하나로 실행하여, 둘 중 하나만 반영된 상태가 남지 않습니다.
+ * 처리 도중 장애가 나면 요청이 대기열에 남아 다음 주기에 다시 처리됩니다.
+ */
+@Slf4j
+@Service
+public class RedisCouponIssueQueue implements CouponIssueQueue {
+
+    private static final String QUEUE_KEY = "coupon:issue:queue";
+    private static final String TICKET_KEY_PREFIX = "coupon:issue:ticket:";
+    private static final String STATUS_FIELD = "status";
+    private static final String COUPON_ID_FIELD = "couponId";
+    private static final String REASON_FIELD = "reason";
+    private static final String DELIMITER = ":";
+    private static final String ATTEMPTS_KEY = "coupon:issue:attempts";
+    private static final String DEAD_LETTER_KEY = "coupon:issue:dead-letter";
+    private static final Duration TICKET_TTL = Duration.ofDays(1);
+
+    // KEYS[1]: 대기열, KEYS[2]: 데드레터 목록, KEYS[3]: 실패 횟수 해시, KEYS[4..]: 티켓 해시
+    // ARGV[1]: 제거할 개수, ARGV[2]: 티켓 TTL(초), ARGV[3]: 데드레터 이동 여부('1'), ARGV[4]: 맨 앞 티켓
+    // ARGV[5..]: 티켓마다 status, couponId(없으면 ''), reason(없으면 '')
+    private static final String COMPLETE_SCRIPT =
+        "local count = tonumber(ARGV[1]) " +
+        "if ARGV[3] == '1' then " +
+        "  local entries = redis.call('lrange', KEYS[1], 0, count - 1) " +
+        "  if #entries > 0 then redis.call('rpush', KEYS[2], unpack(entries)) end " +
+        "end " +
+        "redis.call('ltrim', KEYS[1], count, -1) " +
+        "redis.call('hdel', KEYS[3], ARGV[4]) " +
+        "for i = 4, #KEYS do " +
+        "  local base = 5 + (i - 4) * 3 " +
+        "  redis.call('hset', KEYS[i], 'status', ARGV[base]) " +
+        "  if ARGV[base + 1] ~= '' then redis.call('hset', KEYS[i], 'couponId', ARGV[base + 1]) end " +
+        "  if ARGV[base + 2] ~= '' then redis.call('hset', KEYS[i], 'reason', ARGV[base + 2]) end " +
+        "  redis.call('expire', KEYS[i], ARGV[2]) " +
+        "end " +
+        "return 1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> completeScript;
+
+    public RedisCouponIssueQueue(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.completeScript = new DefaultRedisScript<>(COMPLETE_SCRIPT, Long.class);
+    }
+
+    @Override
+    public String enqueue(Long userId, Long campaignId) {
+        String ticket = UUID.randomUUID().toString();
+        // 대기열에 넣기 전에 티켓을 먼저 만들어 조회 시 PENDING이 보이도록 함
+        record(CouponIssueResult.pending(ticket));
+        redisTemplate.opsForList().rightPush(QUEUE_KEY,
+                ticket + DELIMITER + userId + DELIMITER + (campaignId == null ? "" : campaignId));
+        return ticket;
+    }
+
+    @Override
+    public List<CouponIssueTicket> peek(int count) {
+        List<String> entries = redisTemplate.opsForList().range(QUEUE_KEY, 0, count - 1);
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+        List<CouponIssueTicket> tickets = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            tickets.add(parse(entry));
+        }
+        return tickets;
+    }
+
+    @Override
+    public void complete(List<CouponIssueResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        executeComplete(results, false);
+    }
+
+    @Override
+    public int recordFailure(String ticket) {
+        Long attempts = redisTemplate.opsForHash().increment(ATTEMPTS_KEY, ticket, 1);
+        redisTemplate.expire(ATTEMPTS_KEY, TICKET_TTL);
+        return attempts == null ? 1 : attempts.intValue();
+    }
+
+    @Override
+    public void deadLetter(List<CouponIssueTicket> tickets, String reason) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        executeComplete(tickets.stream()
+                .map(ticket -> CouponIssueResult.rejected(ticket.ticket(), reason))
+                .toList(), true);
+    }
+
+    private void executeComplete(List<CouponIssueResult> results, boolean deadLetter) {
+        List<String> keys = new ArrayList<>(results.size() + 3);
+        keys.add(QUEUE_KEY);
+        keys.add(DEAD_LETTER_KEY);
+        keys.add(ATTEMPTS_KEY);
+        List<Object> args = new ArrayList<>(results.size() * 3 + 4);
+        args.add(String.valueOf(results.size()));
+        args.add(String.valueOf(TICKET_TTL.toSeconds()));
+        args.add(deadLetter ? "1" : "0");
+        args.add(results.get(0).ticket());
+        for (CouponIssueResult result : results) {
+            keys.add(TICKET_KEY_PREFIX + result.ticket());
+            args.add(result.status().name());
+            args.add(result.couponId() == null ? "" : String.valueOf(result.couponId()));
+            args.add(result.reason() == null ? "" : result.reason());
+        }
+        redisTemplate.execute(completeScript, keys, args.toArray());
+    }
+
+    @Override
+    public void record(CouponIssueResult result) {
+        String key = TICKET_KEY_PREFIX + result.ticket();
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS_FIELD, result.status().name());
+        if (result.couponId() != null) {
+            fields.put(COUPON_ID_FIELD, String.valueOf(result.couponId()));
+        }
+        if (result.reason() != null) {
+            fields.put(REASON_FIELD, result.reason());
+        }
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, TICKET_TTL);
+    }
+
+    @Override
+    public Optional<CouponIssueResult> find(String ticket) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(TICKET_KEY_PREFIX + ticket);
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        Object couponId = fields.get(COUPON_ID_FIELD);
+        return Optional.of(new CouponIssueResult(
+                ticket,
+                CouponIssueStatus.valueOf((String) fields.get(STATUS_FIELD)),
+                couponId == null ? null : Long.valueOf((String) couponId),
+                (String) fields.get(REASON_FIELD)));
+    }
+
+    private CouponIssueTicket parse(String entry) {
+        String[] parts = entry.split(DELIMITER, -1);
+        try {
+            Long campaignId = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+            return new CouponIssueTicket(parts[0], Long.valueOf(parts[1]), campaignId);
+        } catch (RuntimeException e) {
+            // 형식이 깨진 요청은 사용자 없이 전달하여 거절 처리
+            log.warn("쿠폰 발급 대기열 손상 요청: entry={}", entry);
+            return new CouponIssueTicket(parts[0], null, null);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package kr.hhplus.be.server.service.coupon;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.CouponStatus;
+import kr.hhplus.be.server.infrastructure.event.CouponIssuedEvent;
+import kr.hhplus.be.server.infrastructure.event.CouponUsedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 2단계 쿠폰 지갑 캐시 구현체 (Caffeine L1 + Redis Hash L2)
+ *
+ * 설계:
+ * - L1: 인스턴스 로컬 Caffeine (userId -> 불변 지갑 목록, 짧은 TTL)
+ * - L2: Key "coupon:wallet:{userId}" (Hash, Field: couponId, Value: CouponWalletEntry 인코딩)
+ *       빈 지갑은 "-" 필드 하나로 기록하여 쿠폰 없는 사용자도 DB를 다시 조회하지 않음
+ * - Channel: "coupon:wallet:invalidate" (Message: userId)
+ * - 버전: Key "coupon:wallet:version:{userId}" (String, Value: 무효화 순번, TTL = L2 TTL)
+ *         순번은 "coupon:wallet:version-seq" 전역 카운터에서 받으므로 버전 키가 만료된 뒤 다시 생겨도 이전 값과 겹치지 않음
+ *
+ * 무효화:
+ * 1. 쿠폰 발급/사용 트랜잭션이 커밋되면 Redis 해시를 삭제하고 버전을 증가시킨 뒤 Pub/Sub으로 모든 인스턴스의 L1을 비움
+ * 2. L2 적재는 DB 조회 전에 읽은 버전이 그대로일 때만 기록 (조회 도중 무효화되었으면 쓰지 않음)
+ *    L1은 적재 중인 키의 무효화가 적재 완료를 기다리므로(Caffeine) 낡은 값이 남지 않고, TTL로 수명을 제한
+ * 3. 버전 키는 TTL로 사라지며, 사라진 뒤 시작된 적재만 빈 버전을 기대하므로 그 전에 시작된 적재는 기록되지 않음
+ *
+ * 만료일이 지난 쿠폰은 만료 정리 배치가 무효화하지 않으므로, 캐시된 지갑을 반환할 때 만료된 항목을 제외합니다.
+ */
+@Slf4j
+@Service
+public class RedisCouponWalletCache implements CouponWalletCache, MessageListener {
+
+    private static final String KEY_PREFIX = "coupon:wallet:";
+    private static final String CHANNEL = "coupon:wallet:invalidate";
+    private static final String EMPTY_FIELD = "-";
+    private static final String VERSION_KEY_PREFIX = "coupon:wallet:version:";
+    private static final String VERSION_SEQUENCE_KEY = "coupon:wallet:version-seq";
+
+    // 반환값: 기록 여부 (KEYS[1]: 지갑 해시, KEYS[2]: 버전 키)
+    // ARGV[1]: DB 조회 전에 읽은 버전(없으면 ''), ARGV[2]: TTL(ms), ARGV[3..]: field, value 쌍
+    private static final String STORE_SCRIPT =
+        "local current = redis.call('get', KEYS[2]) " +
+        "if (current or '') ~= ARGV[1] then " +
+        "  return 0 " +
+        "end " +
+        "redis.call('del', KEYS[1]) " +
+        "redis.call('hset', KEYS[1], unpack(ARGV, 3)) " +
+        "redis.call('pexpire', KEYS[1], ARGV[2]) " +
+        "return 1";
+
+    // KEYS[1]: 지갑 해시, KEYS[2]: 버전 키, KEYS[3]: 버전 순번 카운터, ARGV[1]: 버전 키 TTL(ms)
+    private static final String EVICT_SCRIPT =
+        "redis.call('del', KEYS[1]) " +
+        "local version = redis.call('incr', KEYS[3]) " +
+        "redis.call('set', KEYS[2], version, 'PX', ARGV[1]) " +
+        "return version";
+    private static final long MAX_LOCAL_WALLETS = 100_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final CouponRepository couponRepository;
+    private final DefaultRedisScript<Long> storeScript;
+    private final DefaultRedisScript<Long> evictScript;
+    private final Duration redisTtl;
+    private final Cache<Long, List<CouponWalletEntry>> localWallets;
+
+    public RedisCouponWalletCache(RedisTemplate<String, String> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  CouponRepository couponRepository,
+                                  @Value("${app.coupon.wallet.local-ttl-ms:30000}") long localTtlMs,
+                                  @Value("${app.coupon.wallet.redis-ttl-ms:600000}") long redisTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.couponRepository = couponRepository;
+        this.storeScript = new DefaultRedisScript<>(STORE_SCRIPT, Long.class);
+        this.evictScript = new DefaultRedisScript<>(EVICT_SCRIPT, Long.class);
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        this.localWallets = Caffeine.newBuilder()
+                .maximumSize(MAX_LOCAL_WALLETS)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public List<CouponWalletEntry> getWallet(Long userId) {
+        return withoutExpired(localWallets.get(userId, this::loadRemote));
+    }
+
+    @Override
+    public Optional<CouponWalletEntry> find(Long userId, Long couponId) {
+        if (userId == null || couponId == null) {
+            return Optional.empty();
+        }
+        return getWallet(userId).stream()
+                .filter(entry -> entry.id().equals(couponId))
+                .findFirst();
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        localWallets.invalidate(userId);
+        try {
+            // 삭제 이전에 시작된 적재가 낡은 지갑을 다시 쓰지 않도록 삭제와 함께 버전 갱신
+            redisTemplate.execute(evictScript,
+                    List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId, VERSION_SEQUENCE_KEY),
+                    String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            // 무효화 실패 시 TTL이 지나면 갱신됨
+            log.error("쿠폰 지갑 무효화 실패: userId={}, error={}", userId, e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCouponIssued(CouponIssuedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCouponUsed(CouponUsedEvent event) {
+        evict(event.getUserId());
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 무효화 메시지를 L1에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localWallets.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 쿠폰 지갑 메시지: body={}", body);
+        }
+    }
+
+    private List<CouponWalletEntry> loadRemote(Long userId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+            if (fields != null && !fields.isEmpty()) {
+                return decode(fields);
+            }
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 Redis 조회 실패, DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+        }
+
+        // DB 조회 전에 버전을 읽어 두고, 조회 도중 무효화되지 않았을 때만 L2에 기록
+        String expectedVersion = readVersionForStore(userId);
+        List<CouponWalletEntry> wallet = couponRepository.findViewsByUserIdAndStatus(userId, CouponStatus.ACTIVE).stream()
+                .map(CouponWalletEntry::from)
+                .toList();
+        if (expectedVersion != null) {
+            storeRemote(key, userId, wallet, expectedVersion);
+        }
+        return wallet;
+    }
+
+    /**
+     * @return 현재 버전 (없으면 빈 문자열), 조회에 실패하면 null (기록하지 않음)
+     */
+    private String readVersionForStore(Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + userId);
+            return version == null ? "" : version;
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 버전 조회 실패, 캐시 저장 생략: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeRemote(String key, Long userId, List<CouponWalletEntry> wallet, String expectedVersion) {
+        List<String> args = new ArrayList<>(2 + Math.max(2, wallet.size() * 2));
+        args.add(expectedVersion);
+        args.add(String.valueOf(redisTtl.toMillis()));
+        if (wallet.isEmpty()) {
+            args.add(EMPTY_FIELD);
+            args.add("");
+        }
+        for (CouponWalletEntry entry : wallet) {
+            args.add(String.valueOf(entry.id()));
+            args.add(entry.encode());
+        }
+        try {
+            Long stored = redisTemplate.execute(storeScript, List.of(key, VERSION_KEY_PREFIX + userId), args.toArray());
+            if (stored == null || stored == 0L) {
+                log.debug("조회 도중 쿠폰 지갑이 무효화되어 캐시 저장 생략: key={}", key);
+            }
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 Redis 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 뒤 만료일이 지난 쿠폰을 제외합니다. (만료된 항목이 없으면 캐시된 목록을 그대로 반환)
+     */
+    private List<CouponWalletEntry> withoutExpired(List<CouponWalletEntry> wallet) {
+        for (CouponWalletEntry entry : wallet) {
+            if (!entry.isUsable()) {
+                return wallet.stream()
+                        .filter(CouponWalletEntry::isUsable)
+                        .toList();
+            }
+        }
+        return wallet;
+    }
+
+    private List<CouponWalletEntry> decode(Map<Object, Object> fields) {
+        List<CouponWalletEntry> wallet = new ArrayList<>(fields.size());
+        for (Map.Entry<Object, Object> field : fields.entrySet()) {
+            String couponId = (String) field.getKey();
+            if (EMPTY_FIELD.equals(couponId)) {
+                continue;
+            }
+            wallet.add(CouponWalletEntry.decode(Long.valueOf(couponId), (String) field.getValue()));
+        }
+        wallet.sort(Comparator.comparing(CouponWalletEntry::id));
+        return List.copyOf(wallet);
+    }
+}
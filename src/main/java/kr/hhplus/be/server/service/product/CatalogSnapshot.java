@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.service.product;
+
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화한 카탈로그 응답 (불변, 배열을 수정하지 않음)
+ * JSON 원문과 gzip 압축본을 함께 보관하여 요청마다 직렬화/압축하지 않습니다.
+ *
+ * @param json       JSON 본문
+ * @param gzip       gzip으로 압축한 JSON 본문
+ * @param eTag       JSON 본문의 ETag (MD5)
+ * @param nextCursor 다음 페이지 커서 (목록 첫 페이지 전용, 없으면 null)
+ */
+public record CatalogSnapshot(byte[] json, byte[] gzip, String eTag, Long nextCursor) {
+
+    public static CatalogSnapshot of(byte[] json, Long nextCursor) {
+        return new CatalogSnapshot(json, compress(json), "\"" + DigestUtils.md5DigestAsHex(json) + "\"", nextCursor);
+    }
+
+    /**
+     * gzip 본문의 ETag (강한 ETag는 표현마다 달라야 하므로 JSON 본문과 구분)
+     */
+    public String gzipETag() {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
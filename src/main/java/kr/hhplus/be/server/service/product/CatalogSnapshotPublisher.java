@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 카탈로그 응답 스냅샷 발행기
+ * 가장 많이 조회되는 상품 목록 첫 페이지와 인기 상품 목록을 미리 JSON/gzip 바이트로 만들어 두고,
+ * 컨트롤러는 요청마다 조회/직렬화 없이 그 바이트를 그대로 응답합니다.
+ *
+ * 설계:
+ * - 스냅샷: 불변 CatalogSnapshot을 volatile 필드로 교체 (조회는 락 없음)
+ * - 갱신: refresh-interval-ms 주기로 원본을 다시 조회하여, 내용이 바뀐 경우에만 새 스냅샷으로 교체
+ *   - 목록 첫 페이지: 기본 크기 페이지를 조회해 직렬화한 JSON이 이전과 같으면 압축하지 않고 기존 스냅샷 유지
+ *     (재고는 다른 인스턴스의 주문으로도 바뀌므로 이벤트가 아닌 주기 조회로 반영)
+ *   - 인기 상품: 캐시된 목록의 ETag가 같으면 직렬화도 하지 않음
+ * - 기동 시 생성, 생성 전 요청은 처음 한 번만 동기로 생성
+ * - 갱신 실패 시 이전 스냅샷을 계속 사용 (반영 지연은 주기 + 인기 상품 캐시 TTL 이내)
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotPublisher {
+
+    private final ProductService productService;
+    private final PopularProductService popularProductService;
+    private final ObjectMapper objectMapper;
+
+    private volatile CatalogSnapshot firstPage;
+    private volatile CatalogSnapshot popular;
+    private String popularSourceETag;
+
+    public CatalogSnapshotPublisher(ProductService productService,
+                                    PopularProductService popularProductService,
+                                    ObjectMapper objectMapper) {
+        this.productService = productService;
+        this.popularProductService = popularProductService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 상품 목록 첫 페이지 (기본 페이지 크기) 스냅샷
+     */
+    public CatalogSnapshot firstPage() {
+        CatalogSnapshot snapshot = firstPage;
+        return snapshot != null ? snapshot : initializeFirstPage();
+    }
+
+    /**
+     * 인기 상품 목록 스냅샷
+     */
+    public CatalogSnapshot popular() {
+        CatalogSnapshot snapshot = popular;
+        return snapshot != null ? snapshot : initializePopular();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.snapshot.refresh-interval-ms:1000}",
+               initialDelayString = "${app.product.snapshot.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            refreshFirstPage();
+        } catch (Exception e) {
+            log.warn("상품 목록 스냅샷 갱신 실패, 이전 스냅샷 사용: error={}", e.getMessage());
+        }
+        try {
+            refreshPopular();
+        } catch (Exception e) {
+            log.warn("인기 상품 스냅샷 갱신 실패, 이전 스냅샷 사용: error={}", e.getMessage());
+        }
+    }
+
+    synchronized void refreshFirstPage() {
+        ProductPage page = productService.getProducts(null, null);
+        byte[] json = serialize(page.items());
+        CatalogSnapshot current = firstPage;
+        if (current != null && Arrays.equals(current.json(), json) && Objects.equals(current.nextCursor(), page.nextCursor())) {
+            return;
+        }
+        firstPage = CatalogSnapshot.of(json, page.nextCursor());
+        log.debug("상품 목록 스냅샷 교체: bytes={}, gzipBytes={}", json.length, firstPage.gzip().length);
+    }
+
+    synchronized void refreshPopular() {
+        PopularProducts products = popularProductService.getPopularProductsWithETag();
+        if (popular != null && products.eTag().equals(popularSourceETag)) {
+            return;
+        }
+        byte[] json = serialize(products.products());
+        popular = CatalogSnapshot.of(json, null);
+        popularSourceETag = products.eTag();
+        log.debug("인기 상품 스냅샷 교체: bytes={}, gzipBytes={}", json.length, popular.gzip().length);
+    }
+
+    private synchronized CatalogSnapshot initializeFirstPage() {
+        if (firstPage == null) {
+            refreshFirstPage();
+        }
+        return firstPage;
+    }
+
+    private synchronized CatalogSnapshot initializePopular() {
+        if (popular == null) {
+            refreshPopular();
+        }
+        return popular;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 스냅샷 직렬화 실패", e);
+        }
+    }
+}
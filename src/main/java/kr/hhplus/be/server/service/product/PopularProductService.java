@@ -1,16 +1,16 @@
 package kr.hhplus.be.server.service.product;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.hhplus.be.server.api.product.dto.ProductResponse;
-import kr.hhplus.be.server.domain.product.Product;
-import kr.hhplus.be.server.domain.product.ProductRepository;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.infrastructure.cache.CoalescingCache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 인기 상품 서비스
@@ -23,40 +23,63 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PopularProductService {
 
     private static final int TOP_COUNT = 5;
+    private static final long MAX_CACHED_LISTS = 16;
 
     private final RankingService rankingService;
-    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final CoalescingCache<Integer, PopularProducts> popularLists;
+
+    public PopularProductService(RankingService rankingService,
+                                 ProductCache productCache,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.product.popular.cache-ttl-ms:5000}") long cacheTtlMs) {
+        this.rankingService = rankingService;
+        this.productCache = productCache;
+        this.popularLists = new CoalescingCache<Integer, PopularProducts>(
+                this::loadPopularProducts,
+                Duration.ofMillis(cacheTtlMs),
+                MAX_CACHED_LISTS)
+                .monitor(meterRegistry, "product.popular");
+    }
 
     /**
      * 가장 많이 주문한 상위 상품을 조회합니다.
-     * Redis Sorted Set에서 상위 N개의 상품 ID를 조회한 후, 상품 정보를 조회하여 반환합니다.
-     * 
+     * 목록은 짧은 TTL로 로컬에 캐시하며, 만료 시 동시 요청의 재조회는 1회로 병합되고
+     * 만료 직전에는 확률적으로 미리 갱신됩니다. (랭킹 반영은 TTL만큼 늦어질 수 있음)
+     *
      * @return 인기 상품 목록 (주문 수량 내림차순)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProductResponse> getPopularProducts() {
+        return popularLists.get(TOP_COUNT).products();
+    }
+
+    /**
+     * 인기 상품 목록과 목록 내용으로 만든 ETag를 함께 조회합니다. (캐시된 목록을 그대로 사용하므로 추가 비용 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PopularProducts getPopularProductsWithETag() {
+        return popularLists.get(TOP_COUNT);
+    }
+
+    /**
+     * Redis Sorted Set에서 상위 N개의 상품 ID를 조회한 후, 상품 캐시에서 상품 정보를 조회합니다.
+     */
+    private PopularProducts loadPopularProducts(int count) {
         // Redis에서 상위 N개의 상품 ID 조회
-        List<Long> productIds = rankingService.getTopRankingProductIds(TOP_COUNT);
+        List<Long> productIds = rankingService.getTopRankingProductIds(count);
 
         if (productIds.isEmpty()) {
             log.debug("랭킹 데이터가 없습니다.");
-            return List.of();
+            return PopularProducts.of(List.of());
         }
 
-        // 상품 정보 조회
-        List<Product> products = productRepository.findAllByIds(productIds);
-        Map<Long, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, p -> p));
-
-        // 랭킹 순서대로 정렬하여 반환 (Redis에서 이미 정렬되어 있음)
-        return productIds.stream()
-                .map(productMap::get)
-                .filter(product -> product != null)
+        // 랭킹 순서대로 상품 정보 조회 (Redis에서 이미 정렬되어 있음, 삭제된 상품은 제외)
+        return PopularProducts.of(productCache.getAll(productIds).stream()
                 .map(ProductResponse::from)
-                .collect(Collectors.toList());
+                .toList());
     }
 }
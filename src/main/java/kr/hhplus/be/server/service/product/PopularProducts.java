@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.service.product;
+
+import kr.hhplus.be.server.api.product.dto.ProductResponse;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 인기 상품 목록과 그 내용으로 만든 ETag
+ * 목록을 적재할 때 한 번만 계산하므로, 조건부 요청은 직렬화 없이 ETag 비교만으로 304를 응답합니다.
+ */
+public record PopularProducts(List<ProductResponse> products, String eTag) {
+
+    public static PopularProducts of(List<ProductResponse> products) {
+        StringBuilder content = new StringBuilder(products.size() * 32);
+        for (ProductResponse product : products) {
+            content.append(product.getId()).append('\t')
+                    .append(product.getName()).append('\t')
+                    .append(product.getPrice()).append('\t')
+                    .append(product.getStock()).append('\n');
+        }
+        String hash = DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+        return new PopularProducts(products, "\"" + hash + "\"");
+    }
+}
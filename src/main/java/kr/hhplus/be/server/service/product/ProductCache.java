@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.service.product;
+
+import kr.hhplus.be.server.domain.product.ProductView;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 조회 캐시 인터페이스
+ * 이름/가격은 불변 스냅샷으로, 재고는 주문마다 바뀌므로 별도 값으로 관리합니다.
+ */
+public interface ProductCache {
+
+    /**
+     * 상품 스냅샷과 현재 재고를 조회합니다. (캐시 미스 시 DB 적재)
+     *
+     * @param productId 상품 ID
+     * @return 상품이 없으면 empty
+     */
+    Optional<ProductView> get(Long productId);
+
+    /**
+     * 여러 상품을 한 번에 조회합니다. (재고는 Redis 왕복 1회로 조회)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 요청 순서대로 정렬된 상품 목록 (없는 상품은 제외)
+     */
+    List<ProductView> getAll(List<Long> productIds);
+
+    /**
+     * 상품 스냅샷과 재고를 모든 인스턴스에서 무효화합니다. (가격 변경 등)
+     *
+     * @param productId 상품 ID
+     */
+    void evict(Long productId);
+
+    /**
+     * 캐시된 재고에 변경량을 반영합니다. 캐시되지 않은 상품은 무시합니다.
+     *
+     * @param productId 상품 ID
+     * @param delta     재고 변경량 (차감은 음수)
+     */
+    void adjustStock(Long productId, int delta);
+
+    /**
+     * 상품 응답의 버전을 조회합니다. 이름/가격/재고가 바뀔 때마다 증가하므로 조건부 요청(ETag) 검증에 사용합니다.
+     * 상품 정보를 적재하지 않고 버전만 조회합니다.
+     *
+     * @param productId 상품 ID
+     * @return 아직 버전이 없거나 조회에 실패하면 empty (호출자는 검증 없이 전체 응답)
+     */
+    Optional<Long> version(Long productId);
+}
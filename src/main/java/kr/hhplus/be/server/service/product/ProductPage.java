@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.service.product;
+
+import kr.hhplus.be.server.api.product.dto.ProductResponse;
+
+import java.util.List;
+
+/**
+ * 상품 목록 한 페이지 (ID 커서 기반)
+ *
+ * @param nextCursor 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+ */
+public record ProductPage(List<ProductResponse> items, Long nextCursor) {
+}
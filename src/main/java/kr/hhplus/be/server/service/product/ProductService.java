@@ -1,17 +1,27 @@
 package kr.hhplus.be.server.service.product;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.api.product.dto.ProductResponse;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
-import kr.hhplus.be.server.infrastructure.kafka.KafkaMessagePublisher;
-import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchMessage;
+import kr.hhplus.be.server.domain.product.ProductView;
+import kr.hhplus.be.server.infrastructure.event.ProductChangedEvent;
+import kr.hhplus.be.server.infrastructure.event.ProductRestockedEvent;
+import kr.hhplus.be.server.service.product.search.ProductSearchIndex;
+import kr.hhplus.be.server.service.product.search.SearchTelemetry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,41 +29,157 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     private final ProductRepository productRepository;
-    private final KafkaMessagePublisher kafkaMessagePublisher;
+    private final ObjectMapper objectMapper;
+    private final SearchTelemetry searchTelemetry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductCache productCache;
+    private final ProductSearchIndex productSearchIndex;
+
+    /**
+     * 상품 목록 조회 (ID 커서 기반 페이지네이션)
+     * 한 건을 더 조회하여 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 없습니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (기본 20, 최대 100)
+     */
+    public ProductPage getProducts(Long cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
 
-    public List<ProductResponse> getAllProducts() {
-        List<Product> products = productRepository.findAll();
-        return products.stream()
+        List<ProductView> views = productRepository.findPageAfter(cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+        boolean hasNext = views.size() > pageSize;
+        List<ProductResponse> items = views.stream()
+                .limit(pageSize)
                 .map(ProductResponse::from)
                 .collect(Collectors.toList());
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new ProductPage(items, nextCursor);
+    }
+
+    /**
+     * 전체 상품을 JSON 배열로 내보냅니다.
+     * 키셋 페이지 단위로 조회하여 쓰므로 카탈로그 크기와 무관하게 메모리 사용량이 일정합니다.
+     * 트랜잭션 없이 페이지마다 커넥션을 빌렸다가 바로 반납하므로, 느린 클라이언트에 응답을 쓰는 동안
+     * 커넥션 풀을 점유하지 않습니다. (페이지 사이에 변경된 상품은 최신 값으로 내보내짐)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportProducts(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 호출자가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            long cursor = 0L;
+            List<ProductView> page;
+            do {
+                page = productRepository.findPageAfter(cursor, Limit.of(EXPORT_PAGE_SIZE));
+                for (ProductView view : page) {
+                    generator.writeObject(ProductResponse.from(view));
+                }
+                if (!page.isEmpty()) {
+                    cursor = page.get(page.size() - 1).id();
+                    generator.flush();
+                }
+            } while (page.size() == EXPORT_PAGE_SIZE);
+            generator.writeEndArray();
+        }
     }
 
+    /**
+     * 상품 상세 조회 (상품 캐시 경유)
+     * 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponse getProduct(Long productId) {
-        Product product = productRepository.findById(productId)
+        ProductView product = productCache.get(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
         return ProductResponse.from(product);
     }
 
+    /**
+     * 상품 상세 응답의 ETag
+     * 상품 정보는 적재하지 않고 버전만 조회하므로, 변경이 없으면 본문 조회/직렬화 없이 304로 응답할 수 있습니다.
+     * 본문보다 먼저 조회해야 합니다. (그 사이 변경되면 다음 요청에서 버전이 달라 다시 전체 응답)
+     *
+     * @return 버전이 아직 없으면 empty
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> getProductETag(Long productId) {
+        return productCache.version(productId)
+                .map(version -> "\"" + productId + "-" + version + "\"");
+    }
+
+    /**
+     * 상품명 검색 (n-gram 역색인 경유)
+     * 색인에서 찾은 상품 ID를 상품 캐시로 조회하므로 정상 상태에서는 DB를 거치지 않습니다.
+     * 기동 직후 색인이 구축되기 전에만 LIKE 검색으로 대체합니다.
+     * 결과는 상품 ID 순으로 최대 100건입니다.
+     * 검색 통계는 사용자별이 아닌 검색어/분 단위 집계로만 발행하므로 userId는 사용하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProductResponse> searchProducts(String keyword, Long userId) {
         if (!StringUtils.hasText(keyword)) {
             throw new IllegalArgumentException("검색어를 입력해 주세요.");
         }
 
         String normalizedKeyword = keyword.trim();
-        List<Product> products = productRepository.findByNameContainingIgnoreCase(normalizedKeyword);
-        List<ProductResponse> responses = products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = productSearchIndex.search(normalizedKeyword, MAX_SEARCH_RESULTS)
+                .map(productIds -> productCache.getAll(productIds).stream()
+                        .map(ProductResponse::from)
+                        .collect(Collectors.toList()))
+                .orElseGet(() -> productRepository.findViewsByNameContaining(normalizedKeyword, Limit.of(MAX_SEARCH_RESULTS)).stream()
+                        .map(ProductResponse::from)
+                        .collect(Collectors.toList()));
 
-        RestaurantSearchMessage searchMessage = new RestaurantSearchMessage(
-                userId,
-                normalizedKeyword,
-                responses.size(),
-                LocalDateTime.now()
-        );
-        kafkaMessagePublisher.publishRestaurantSearch(searchMessage);
+        // 검색 통계는 버퍼에 기록만 하고 집계/발행은 SearchTelemetry가 백그라운드에서 처리
+        searchTelemetry.record(normalizedKeyword, responses.size());
 
         return responses;
     }
+
+    /**
+     * 상품 재입고
+     * 재고를 원자적으로 증가시키고, 커밋 후 품절 상태가 해제되도록 이벤트를 발행합니다.
+     */
+    @Transactional
+    public void restock(Long productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("입고 수량은 0보다 커야 합니다.");
+        }
+
+        int updatedRows = productRepository.increaseStock(productId, quantity);
+        if (updatedRows == 0) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다.");
+        }
+
+        eventPublisher.publishEvent(ProductRestockedEvent.builder()
+                .source(this)
+                .productId(productId)
+                .quantity(quantity)
+                .build());
+    }
+
+    /**
+     * 상품 가격 변경
+     * 커밋 후 모든 인스턴스의 상품 캐시가 무효화되도록 이벤트를 발행합니다.
+     */
+    @Transactional
+    public void changePrice(Long productId, Long price) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        product.changePrice(price);
+
+        eventPublisher.publishEvent(ProductChangedEvent.builder()
+                .source(this)
+                .productId(productId)
+                .price(price)
+                .build());
+    }
 }
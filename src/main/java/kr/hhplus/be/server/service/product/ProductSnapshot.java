@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.service.product;
+
+import kr.hhplus.be.server.domain.product.ProductView;
+
+/**
+ * 상품 캐시에 보관하는 불변 스냅샷 (자주 바뀌는 재고는 제외)
+ * 가격/이름이 바뀌면 스냅샷을 고치지 않고 무효화한 뒤 다시 적재합니다.
+ */
+public record ProductSnapshot(Long id, String name, Long price) {
+
+    public static ProductSnapshot from(ProductView view) {
+        return new ProductSnapshot(view.id(), view.name(), view.price());
+    }
+
+    public ProductView withStock(Integer stock) {
+        return new ProductView(id, name, price, stock);
+    }
+}
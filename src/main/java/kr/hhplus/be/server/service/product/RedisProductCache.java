@@ -0,0 +1,362 @@
+package kr.hhplus.be.server.service.product;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductView;
+import kr.hhplus.be.server.infrastructure.cache.CoalescingCache;
+import kr.hhplus.be.server.infrastructure.cache.SingleFlight;
+import kr.hhplus.be.server.infrastructure.event.ProductChangedEvent;
+import kr.hhplus.be.server.infrastructure.event.ProductRestockedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 2단계 상품 캐시 구현체 (Caffeine L1 + Redis Hash L2)
+ * 상품 상세 조회가 정상 상태에서 MySQL을 거치지 않도록 합니다.
+ *
+ * 설계:
+ * - L1: 인스턴스 로컬 CoalescingCache (productId -> 불변 ProductSnapshot, 재고 제외)
+ *       미스는 같은 상품끼리 적재 1회로 병합하고, 만료 직전에는 확률적으로 미리 갱신
+ * - L2: Key "product:cache:{productId}" (Hash, Field: name, price, stock)
+ *       재고는 스냅샷과 분리된 stock 필드로, 주문/재입고 커밋 후 HINCRBY로 변경량만 반영
+ * - Channel: "product:cache:invalidate" (Message: productId)
+ * - 버전: Key "product:versions" (Hash, Field: productId, Value: 응답 버전)
+ *         재고 반영/무효화 후 HINCRBY로 증가, 처음 만들 때는 현재 시각(마이크로초)에서 시작하여
+ *         Redis 데이터가 유실되어 다시 만들어도 이전에 발급한 버전과 겹치지 않음
+ * - 조회: L1 스냅샷 + L2 stock 필드(HGET 1회), L1 미스 시 L2 전체(HGETALL), L2 미스 시 DB 적재
+ *       L2 해시가 만료되어 재고가 없으면 같은 상품의 재적재도 1회로 병합
+ *
+ * 무효화:
+ * 1. 가격 변경 트랜잭션이 커밋되면 Redis 해시를 삭제하고 Pub/Sub으로 모든 인스턴스의 L1을 비움
+ * 2. 재고 변경량은 해시가 있을 때만 반영 (없으면 다음 조회가 DB의 최신 재고로 적재)
+ * 3. L2 적재는 DB 조회 전에 읽은 버전이 그대로일 때만 기록 (조회 도중 무효화/재고 반영으로 버전이 바뀌었으면 쓰지 않음)
+ *    L1은 무효화 메시지와 TTL로 수명을 제한
+ * 4. 버전은 변경이 캐시에 반영된 뒤에 증가 (버전을 먼저 읽고 본문을 읽는 조회자가 이전 본문에 새 버전을 붙이지 않도록)
+ *    L1은 인스턴스마다 무효화 메시지를 받은 시점이 다르므로, 각 인스턴스가 자기 L1을 비운 뒤 다시 버전을 증가
+ * 캐시된 재고는 표시용이며, 실제 차감 여부는 주문 경로의 조건부 UPDATE가 판단합니다.
+ *
+ * 지표: product.cache.local (Caffeine 적중/미스, cache.gets 등), product.cache.remote (L2 적중/미스)
+ */
+@Slf4j
+@Service
+public class RedisProductCache implements ProductCache, MessageListener {
+
+    private static final String KEY_PREFIX = "product:cache:";
+    private static final String CHANNEL = "product:cache:invalidate";
+    private static final String NAME_FIELD = "name";
+    private static final String PRICE_FIELD = "price";
+    private static final String STOCK_FIELD = "stock";
+    private static final String VERSIONS_KEY = "product:versions";
+    private static final long MAX_LOCAL_PRODUCTS = 100_000;
+
+    // 반환값: 반영 후 재고, 캐시되지 않은 상품이면 -1
+    private static final String ADJUST_STOCK_SCRIPT =
+        "if redis.call('exists', KEYS[1]) == 0 then " +
+        "  return -1 " +
+        "end " +
+        "return redis.call('hincrby', KEYS[1], 'stock', ARGV[1])";
+
+    // 반환값: 증가한 버전 (ARGV[1]: productId, ARGV[2]: 버전이 없을 때의 시작값)
+    private static final String BUMP_VERSION_SCRIPT =
+        "redis.call('hsetnx', KEYS[1], ARGV[1], ARGV[2]) " +
+        "return redis.call('hincrby', KEYS[1], ARGV[1], 1)";
+
+    // 반환값: 기록 여부 (KEYS[1]: 상품 해시, KEYS[2]: 버전 해시)
+    // ARGV[1]: productId, ARGV[2]: DB 조회 전에 읽은 버전(없으면 ''), ARGV[3..5]: name/price/stock,
+    // ARGV[6]: TTL(ms), ARGV[7]: 버전이 없을 때의 시작값
+    private static final String STORE_SCRIPT =
+        "local current = redis.call('hget', KEYS[2], ARGV[1]) " +
+        "if (current or '') ~= ARGV[2] then " +
+        "  return 0 " +
+        "end " +
+        "redis.call('hset', KEYS[1], 'name', ARGV[3], 'price', ARGV[4], 'stock', ARGV[5]) " +
+        "redis.call('pexpire', KEYS[1], ARGV[6]) " +
+        "if not current then " +
+        "  redis.call('hset', KEYS[2], ARGV[1], ARGV[7]) " +
+        "end " +
+        "return 1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ProductRepository productRepository;
+    private final DefaultRedisScript<Long> adjustStockScript;
+    private final DefaultRedisScript<Long> bumpVersionScript;
+    private final DefaultRedisScript<Long> storeScript;
+    private final Duration redisTtl;
+    private final CoalescingCache<Long, ProductSnapshot> localSnapshots;
+    private final SingleFlight<Long, Integer> stockLoads = new SingleFlight<>();
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+
+    public RedisProductCache(RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             ProductRepository productRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.product.cache.local-ttl-ms:30000}") long localTtlMs,
+                             @Value("${app.product.cache.redis-ttl-ms:600000}") long redisTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.productRepository = productRepository;
+        this.adjustStockScript = new DefaultRedisScript<>(ADJUST_STOCK_SCRIPT, Long.class);
+        this.bumpVersionScript = new DefaultRedisScript<>(BUMP_VERSION_SCRIPT, Long.class);
+        this.storeScript = new DefaultRedisScript<>(STORE_SCRIPT, Long.class);
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        this.localSnapshots = new CoalescingCache<Long, ProductSnapshot>(
+                productId -> loadRemote(productId).map(ProductSnapshot::from).orElse(null),
+                Duration.ofMillis(localTtlMs),
+                MAX_LOCAL_PRODUCTS)
+                .monitor(meterRegistry, "product.cache.local");
+        this.remoteHitCounter = Counter.builder("product.cache.remote")
+                .tag("result", "hit")
+                .description("Redis 상품 캐시 적중 수")
+                .register(meterRegistry);
+        this.remoteMissCounter = Counter.builder("product.cache.remote")
+                .tag("result", "miss")
+                .description("Redis 상품 캐시 미스 수 (DB 적재)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public Optional<ProductView> get(Long productId) {
+        if (productId == null) {
+            return Optional.empty();
+        }
+        ProductSnapshot snapshot = localSnapshots.get(productId);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        Integer stock = readStock(productId);
+        if (stock == null) {
+            // L2가 만료되었으면 DB에서 다시 적재 (스냅샷은 무효화 메시지가 없었으므로 그대로 사용)
+            stock = stockLoads.load(productId, () -> loadRemote(productId).map(ProductView::stock).orElse(null));
+        }
+        return stock == null ? Optional.empty() : Optional.of(snapshot.withStock(stock));
+    }
+
+    /**
+     * 스냅샷은 L1에서, 재고는 HGET 파이프라인으로 조회합니다.
+     * 재고가 없는(L2가 만료된) 상품만 단건 조회로 다시 적재합니다.
+     */
+    @Override
+    public List<ProductView> getAll(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        List<ProductSnapshot> snapshots = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            snapshots.add(productId == null ? null : localSnapshots.get(productId));
+        }
+
+        List<Object> stocks;
+        try {
+            byte[] stockField = STOCK_FIELD.getBytes(StandardCharsets.UTF_8);
+            stocks = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ProductSnapshot snapshot : snapshots) {
+                    if (snapshot != null) {
+                        connection.hashCommands().hGet(
+                                (KEY_PREFIX + snapshot.id()).getBytes(StandardCharsets.UTF_8), stockField);
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("상품 캐시 재고 일괄 조회 실패, 단건 조회로 대체: size={}, error={}", productIds.size(), e.getMessage());
+            stocks = List.of();
+        }
+
+        List<ProductView> views = new ArrayList<>(productIds.size());
+        int stockIndex = 0;
+        for (ProductSnapshot snapshot : snapshots) {
+            if (snapshot == null) {
+                continue;
+            }
+            Object stock = stockIndex < stocks.size() ? stocks.get(stockIndex) : null;
+            stockIndex++;
+            if (stock != null) {
+                views.add(snapshot.withStock(Integer.valueOf(stock.toString())));
+            } else {
+                get(snapshot.id()).ifPresent(views::add);
+            }
+        }
+        return views;
+    }
+
+    @Override
+    public void evict(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        localSnapshots.invalidate(productId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + productId);
+            bumpVersion(productId);
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(productId));
+        } catch (Exception e) {
+            // 무효화 실패 시 TTL이 지나면 갱신됨
+            log.error("상품 캐시 무효화 실패: productId={}, error={}", productId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void adjustStock(Long productId, int delta) {
+        if (productId == null || delta == 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(adjustStockScript, List.of(KEY_PREFIX + productId), String.valueOf(delta));
+            bumpVersion(productId);
+        } catch (Exception e) {
+            // 반영 실패 시 캐시된 재고가 어긋나므로 해시를 지워 다음 조회가 DB에서 적재하도록 함
+            log.warn("상품 캐시 재고 반영 실패: productId={}, delta={}, error={}", productId, delta, e.getMessage());
+            evict(productId);
+        }
+    }
+
+    @Override
+    public Optional<Long> version(Long productId) {
+        if (productId == null) {
+            return Optional.empty();
+        }
+        try {
+            Object version = redisTemplate.opsForHash().get(VERSIONS_KEY, String.valueOf(productId));
+            return version == null ? Optional.empty() : Optional.of(Long.valueOf(version.toString()));
+        } catch (Exception e) {
+            log.warn("상품 버전 조회 실패: productId={}, error={}", productId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductRestocked(ProductRestockedEvent event) {
+        adjustStock(event.getProductId(), event.getQuantity());
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 무효화 메시지를 L1에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        long productId;
+        try {
+            productId = Long.parseLong(body);
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 상품 캐시 메시지: body={}", body);
+            return;
+        }
+        localSnapshots.invalidate(productId);
+        try {
+            // 이 인스턴스의 L1이 비워지기 전에 발급된 ETag가 이전 본문을 가리키지 않도록 다시 증가
+            bumpVersion(productId);
+        } catch (Exception e) {
+            log.warn("상품 버전 증가 실패: productId={}, error={}", productId, e.getMessage());
+        }
+    }
+
+    private void bumpVersion(Long productId) {
+        redisTemplate.execute(bumpVersionScript, List.of(VERSIONS_KEY),
+                String.valueOf(productId), String.valueOf(initialVersion()));
+    }
+
+    private static long initialVersion() {
+        return System.currentTimeMillis() * 1_000L;
+    }
+
+    private Integer readStock(Long productId) {
+        try {
+            Object stock = redisTemplate.opsForHash().get(KEY_PREFIX + productId, STOCK_FIELD);
+            return stock == null ? null : Integer.valueOf(stock.toString());
+        } catch (Exception e) {
+            log.warn("상품 캐시 재고 조회 실패, DB 조회로 대체: productId={}, error={}", productId, e.getMessage());
+            return productRepository.findStockById(productId);
+        }
+    }
+
+    private Optional<ProductView> loadRemote(Long productId) {
+        String key = KEY_PREFIX + productId;
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+            if (fields != null && fields.containsKey(NAME_FIELD)
+                    && fields.containsKey(PRICE_FIELD) && fields.containsKey(STOCK_FIELD)) {
+                remoteHitCounter.increment();
+                return Optional.of(new ProductView(
+                        productId,
+                        (String) fields.get(NAME_FIELD),
+                        Long.valueOf((String) fields.get(PRICE_FIELD)),
+                        Integer.valueOf((String) fields.get(STOCK_FIELD))));
+            }
+        } catch (Exception e) {
+            log.warn("상품 캐시 Redis 조회 실패, DB 조회로 대체: productId={}, error={}", productId, e.getMessage());
+        }
+
+        remoteMissCounter.increment();
+        // DB 조회 전에 버전을 읽어 두고, 조회 도중 무효화/재고 반영이 없었을 때만 L2에 기록
+        String expectedVersion = readVersionForStore(productId);
+        Optional<ProductView> view = productRepository.findViewById(productId);
+        if (expectedVersion != null) {
+            view.ifPresent(v -> storeRemote(key, v, expectedVersion));
+        }
+        return view;
+    }
+
+    /**
+     * @return 현재 버전 (없으면 빈 문자열), 조회에 실패하면 null (기록하지 않음)
+     */
+    private String readVersionForStore(Long productId) {
+        try {
+            Object version = redisTemplate.opsForHash().get(VERSIONS_KEY, String.valueOf(productId));
+            return version == null ? "" : version.toString();
+        } catch (Exception e) {
+            log.warn("상품 버전 조회 실패, 캐시 저장 생략: productId={}, error={}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeRemote(String key, ProductView view, String expectedVersion) {
+        try {
+            // 버전이 없던 상품은 기록과 함께 버전을 만들되, DB에 있는 상품만 만들어 존재하지 않는 ID 조회로 버전 해시가 커지지 않도록 함
+            Long stored = redisTemplate.execute(storeScript, List.of(key, VERSIONS_KEY),
+                    String.valueOf(view.id()),
+                    expectedVersion,
+                    view.name(),
+                    String.valueOf(view.price()),
+                    String.valueOf(view.stock()),
+                    String.valueOf(redisTtl.toMillis()),
+                    String.valueOf(initialVersion()));
+            if (stored == null || stored == 0L) {
+                log.debug("조회 도중 상품이 변경되어 캐시 저장 생략: key={}", key);
+            }
+        } catch (Exception e) {
+            log.warn("상품 캐시 Redis 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+}
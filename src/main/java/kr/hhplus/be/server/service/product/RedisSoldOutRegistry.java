@@ -0,0 +1,197 @@
+package kr.hhplus.be.server.service.product;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.infrastructure.event.ProductRestockedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 품절 상품 레지스트리 구현체
+ * Redis Set을 원본으로 두고, 각 인스턴스는 로컬 Near Cache로 조회합니다.
+ *
+ * 설계:
+ * - Key: "product:sold_out" (Set, Member: productId)
+ * - Channel: "product:sold_out:events" (Message: "+{productId}" 품절 등록, "-{productId}" 품절 해제)
+ * - 로컬 캐시: 불변 Set을 volatile로 교체 (조회는 락 없이 메모리 조회 1회)
+ *
+ * 동기화:
+ * 1. 등록/해제 시 Redis Set 갱신 후 Pub/Sub으로 다른 인스턴스에 전파
+ * 2. 기동 시와 주기적으로 Redis Set을 DB 재고와 대조하여 재고가 남아있는(또는 존재하지 않는) 상품은 제거한 뒤
+ *    로컬 캐시를 교체 (Pub/Sub 메시지 유실, 재입고 해제보다 늦게 도착한 품절 등록을 정리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisSoldOutRegistry implements SoldOutRegistry, MessageListener {
+
+    private static final String SOLD_OUT_KEY = "product:sold_out";
+    private static final String CHANNEL = "product:sold_out:events";
+    private static final String MARK_PREFIX = "+";
+    private static final String CLEAR_PREFIX = "-";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ProductRepository productRepository;
+
+    private volatile Set<Long> localSoldOut = Set.of();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void markSoldOut(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        addLocal(productId);
+        try {
+            redisTemplate.opsForSet().add(SOLD_OUT_KEY, String.valueOf(productId));
+            redisTemplate.convertAndSend(CHANNEL, MARK_PREFIX + productId);
+            log.info("상품 품절 등록: productId={}", productId);
+        } catch (Exception e) {
+            // 품절 등록 실패는 주문 처리에 영향을 주지 않도록 예외를 던지지 않음
+            log.error("상품 품절 등록 실패: productId={}, error={}", productId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void clear(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        removeLocal(productId);
+        try {
+            redisTemplate.opsForSet().remove(SOLD_OUT_KEY, String.valueOf(productId));
+            redisTemplate.convertAndSend(CHANNEL, CLEAR_PREFIX + productId);
+            log.info("상품 품절 해제: productId={}", productId);
+        } catch (Exception e) {
+            log.error("상품 품절 해제 실패: productId={}, error={}", productId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isSoldOut(Long productId) {
+        return productId != null && localSoldOut.contains(productId);
+    }
+
+    /**
+     * 재입고가 커밋되면 품절 상태를 해제합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductRestocked(ProductRestockedEvent event) {
+        clear(event.getProductId());
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 품절 등록/해제 메시지를 로컬 캐시에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long productId = Long.parseLong(body.substring(1));
+            if (body.startsWith(MARK_PREFIX)) {
+                addLocal(productId);
+            } else if (body.startsWith(CLEAR_PREFIX)) {
+                removeLocal(productId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("알 수 없는 품절 메시지: body={}", body);
+        }
+    }
+
+    /**
+     * 기동 시 Redis Set을 DB 재고와 대조하여 정리한 뒤 로컬 캐시를 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            Set<Long> soldOut = reconcileWithStock();
+            log.info("품절 상품 레지스트리 적재 완료: count={}", soldOut.size());
+        } catch (Exception e) {
+            log.error("품절 상품 레지스트리 적재 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주기적으로 DB 재고와 다시 대조하여 로컬 캐시를 교체합니다.
+     * 재입고의 해제(clear) 이후에 도착한 품절 등록처럼 Redis Set 자체가 어긋난 경우도 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.product.sold-out.resync-interval-ms:10000}")
+    public void resync() {
+        try {
+            reconcileWithStock();
+        } catch (Exception e) {
+            log.warn("품절 상품 레지스트리 재동기화 실패: error={}", e.getMessage());
+        }
+    }
+
+    private Set<Long> reconcileWithStock() {
+        Set<Long> remote = loadRemote();
+        if (!remote.isEmpty()) {
+            Set<Long> soldOut = new HashSet<>(productRepository.findSoldOutIds(remote));
+            Object[] stale = remote.stream()
+                    .filter(id -> !soldOut.contains(id))
+                    .map(String::valueOf)
+                    .toArray();
+            if (stale.length > 0) {
+                redisTemplate.opsForSet().remove(SOLD_OUT_KEY, stale);
+                log.info("재고가 남은 상품의 품절 등록 정리: count={}", stale.length);
+            }
+            remote = soldOut;
+        }
+        replaceLocal(remote);
+        return remote;
+    }
+
+    private Set<Long> loadRemote() {
+        Set<String> members = redisTemplate.opsForSet().members(SOLD_OUT_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    private synchronized void replaceLocal(Set<Long> productIds) {
+        localSoldOut = Set.copyOf(productIds);
+    }
+
+    private synchronized void addLocal(Long productId) {
+        if (localSoldOut.contains(productId)) {
+            return;
+        }
+        Set<Long> updated = new HashSet<>(localSoldOut);
+        updated.add(productId);
+        localSoldOut = Set.copyOf(updated);
+    }
+
+    private synchronized void removeLocal(Long productId) {
+        if (!localSoldOut.contains(productId)) {
+            return;
+        }
+        Set<Long> updated = new HashSet<>(localSoldOut);
+        updated.remove(productId);
+        localSoldOut = Set.copyOf(updated);
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.service.product;
+
+/**
+ * 품절 상품 레지스트리 인터페이스
+ * 품절된 상품 ID를 인스턴스 간에 공유하고, 조회는 로컬 메모리에서 처리합니다.
+ */
+public interface SoldOutRegistry {
+
+    /**
+     * 상품을 품절로 등록합니다.
+     *
+     * @param productId 상품 ID
+     */
+    void markSoldOut(Long productId);
+
+    /**
+     * 상품의 품절 상태를 해제합니다. (재입고)
+     *
+     * @param productId 상품 ID
+     */
+    void clear(Long productId);
+
+    /**
+     * 상품의 품절 여부를 조회합니다.
+     * 로컬 캐시만 조회하므로 네트워크 호출이 없습니다.
+     *
+     * @param productId 상품 ID
+     * @return 품절 여부
+     */
+    boolean isSoldOut(Long productId);
+}
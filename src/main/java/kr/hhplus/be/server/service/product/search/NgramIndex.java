@@ -0,0 +1,260 @@
+package kr.hhplus.be.server.service.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품명 n-gram 역색인 (불변)
+ * LIKE '%keyword%' 와 같은 부분 문자열 검색을 테이블 스캔 없이 메모리에서 처리합니다.
+ *
+ * 설계:
+ * - 문서 번호(docId): 색인에 추가된 순서의 int, productIds[docId]로 상품 ID를 찾음
+ * - 포스팅: gram -> 오름차순 docId int 배열 (1-gram, 2-gram 모두 색인하여 한 글자 검색도 지원)
+ * - 정규화: NFC + 소문자 (한글 음절은 그대로 1글자, 공백도 일반 문자로 취급하여 LIKE와 같은 의미)
+ * - 검색: 검색어의 2-gram(한 글자면 1-gram) 포스팅을 짧은 것부터 교집합한 뒤,
+ *         보관한 정규화 이름에 검색어가 실제로 포함되는지 확인하여 오탐을 제거
+ * - 갱신: 바뀐 gram의 포스팅만 복사한 새 색인을 반환 (읽기는 락 없이 기존 색인을 계속 사용)
+ *         이름이 바뀐 상품은 기존 docId를 삭제 표시하고 새 docId를 추가 (전체 재구축 시 정리)
+ */
+public final class NgramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<String, int[]> postings;
+    private final long[] productIds;
+    private final String[] names;
+    private final Map<Long, Integer> docIds;
+
+    private NgramIndex(Map<String, int[]> postings, long[] productIds, String[] names, Map<Long, Integer> docIds) {
+        this.postings = postings;
+        this.productIds = productIds;
+        this.names = names;
+        this.docIds = docIds;
+    }
+
+    public static NgramIndex empty() {
+        return new NgramIndex(Map.of(), new long[0], new String[0], Map.of());
+    }
+
+    /**
+     * 색인 구축기를 생성합니다. 상품을 ID 순으로 추가하면 포스팅이 정렬된 상태로 만들어집니다.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return docIds.size();
+    }
+
+    /**
+     * @return 색인된 상품의 정규화한 이름, 없으면 null
+     */
+    public String nameOf(long productId) {
+        Integer docId = docIds.get(productId);
+        return docId == null ? null : names[docId];
+    }
+
+    /**
+     * 이름에 검색어가 포함된 상품 ID를 오름차순으로 조회합니다.
+     *
+     * @param keyword 검색어
+     * @param limit   최대 결과 수
+     */
+    public List<Long> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<String> grams = query.codePointCount(0, query.length()) == 1 ? Set.of(query) : bigrams(query);
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] list = postings.getOrDefault(gram, EMPTY);
+            if (list.length == 0) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        long[] matched = new long[candidates.length];
+        int count = 0;
+        for (int docId : candidates) {
+            String name = names[docId];
+            if (name != null && name.contains(query)) {
+                matched[count++] = productIds[docId];
+            }
+        }
+        Arrays.sort(matched, 0, count);
+
+        List<Long> result = new ArrayList<>(Math.min(count, limit));
+        for (int i = 0; i < count && i < limit; i++) {
+            result.add(matched[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 상품을 추가하거나 이름을 바꾼 새 색인을 반환합니다. 이름이 같으면 자기 자신을 반환합니다.
+     */
+    public NgramIndex withProduct(long productId, String name) {
+        String normalized = normalize(name);
+        Integer existing = docIds.get(productId);
+        if (existing != null && normalized.equals(names[existing])) {
+            return this;
+        }
+
+        int docId = productIds.length;
+        long[] newProductIds = Arrays.copyOf(productIds, docId + 1);
+        String[] newNames = Arrays.copyOf(names, docId + 1);
+        newProductIds[docId] = productId;
+        newNames[docId] = normalized;
+        if (existing != null) {
+            newNames[existing] = null;
+        }
+
+        Map<String, int[]> newPostings = new HashMap<>(postings);
+        for (String gram : grams(normalized)) {
+            int[] list = newPostings.getOrDefault(gram, EMPTY);
+            int[] appended = Arrays.copyOf(list, list.length + 1);
+            appended[list.length] = docId;
+            newPostings.put(gram, appended);
+        }
+
+        Map<Long, Integer> newDocIds = new HashMap<>(docIds);
+        newDocIds.put(productId, docId);
+        return new NgramIndex(newPostings, newProductIds, newNames, newDocIds);
+    }
+
+    /**
+     * 상품을 제외한 새 색인을 반환합니다. (포스팅은 유지하고 이름만 삭제 표시)
+     */
+    public NgramIndex withoutProduct(long productId) {
+        Integer existing = docIds.get(productId);
+        if (existing == null) {
+            return this;
+        }
+        String[] newNames = names.clone();
+        newNames[existing] = null;
+        Map<Long, Integer> newDocIds = new HashMap<>(docIds);
+        newDocIds.remove(productId);
+        return new NgramIndex(postings, productIds, newNames, newDocIds);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인할 gram 목록 (1-gram + 2-gram, 중복 제거)
+     */
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> bigrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 전체 구축용 빌더 (단일 스레드 전용)
+     */
+    public static final class Builder {
+
+        private final Map<String, int[]> postings = new HashMap<>();
+        private final Map<String, Integer> lengths = new HashMap<>();
+        private final Map<Long, Integer> docIds = new HashMap<>();
+        private long[] productIds = new long[1024];
+        private String[] names = new String[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(long productId, String name) {
+            if (docIds.containsKey(productId)) {
+                throw new IllegalArgumentException("이미 색인된 상품입니다: " + productId);
+            }
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                names = Arrays.copyOf(names, size * 2);
+            }
+            int docId = size++;
+            String normalized = normalize(name);
+            productIds[docId] = productId;
+            names[docId] = normalized;
+            docIds.put(productId, docId);
+
+            for (String gram : grams(normalized)) {
+                int length = lengths.getOrDefault(gram, 0);
+                int[] list = postings.get(gram);
+                if (list == null) {
+                    list = new int[4];
+                } else if (length == list.length) {
+                    list = Arrays.copyOf(list, length * 2);
+                }
+                list[length] = docId;
+                postings.put(gram, list);
+                lengths.put(gram, length + 1);
+            }
+            return this;
+        }
+
+        public NgramIndex build() {
+            Map<String, int[]> trimmed = new HashMap<>(postings.size() * 4 / 3 + 1);
+            for (Map.Entry<String, int[]> entry : postings.entrySet()) {
+                trimmed.put(entry.getKey(), Arrays.copyOf(entry.getValue(), lengths.get(entry.getKey())));
+            }
+            return new NgramIndex(trimmed, Arrays.copyOf(productIds, size), Arrays.copyOf(names, size), docIds);
+        }
+    }
+}
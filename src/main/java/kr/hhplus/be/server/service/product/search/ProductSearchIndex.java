@@ -0,0 +1,142 @@
+package kr.hhplus.be.server.service.product.search;
+
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductView;
+import kr.hhplus.be.server.infrastructure.event.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * 인스턴스 로컬 상품명 검색 색인
+ * 상품 검색이 MySQL의 LIKE '%keyword%' 전체 스캔 없이 메모리에서 처리되도록 합니다.
+ *
+ * 설계:
+ * - 불변 NgramIndex를 volatile로 교체 (검색은 락 없이 현재 색인을 조회)
+ * - 기동 시 전체 상품을 스트리밍 조회하여 구축하고, 이후 주기적으로 다시 구축하여
+ *   다른 인스턴스에서 바뀐 상품이나 삭제 표시된 문서를 정리
+ * - 상품 변경이 커밋되면 해당 상품만 PK로 다시 읽어 색인에 반영
+ * - 검색 결과는 SearchResultCache에 검색어별로 보관하고, 색인이 바뀌면 영향받는 검색어만(재구축 시 전체) 제거
+ * 구축 전에는 검색 결과 대신 empty를 반환하므로 호출자가 DB 검색으로 대체합니다.
+ */
+@Slf4j
+@Service
+public class ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SearchResultCache resultCache;
+
+    private volatile NgramIndex index;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              PlatformTransactionManager transactionManager,
+                              SearchResultCache resultCache) {
+        this.productRepository = productRepository;
+        this.resultCache = resultCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 이름에 검색어가 포함된 상품 ID를 오름차순으로 조회합니다.
+     *
+     * @return 색인 구축 전이면 empty
+     */
+    public Optional<List<Long>> search(String keyword, int limit) {
+        NgramIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        String query = NgramIndex.normalize(keyword);
+        Optional<List<Long>> cached = resultCache.get(query, limit);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        List<Long> productIds = current.search(query, limit);
+        resultCache.put(query, limit, productIds);
+        if (index != current) {
+            // 계산 도중 색인이 바뀌었으면 낡은 결과일 수 있으므로 보관하지 않음
+            resultCache.invalidate(query);
+        }
+        return Optional.of(productIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.search.rebuild-interval-ms:300000}",
+               initialDelayString = "${app.product.search.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        try {
+            long start = System.nanoTime();
+            NgramIndex rebuilt = readOnlyTransaction.execute(status -> {
+                NgramIndex.Builder builder = NgramIndex.builder();
+                try (Stream<ProductView> views = productRepository.streamAll()) {
+                    Iterator<ProductView> iterator = views.iterator();
+                    while (iterator.hasNext()) {
+                        ProductView view = iterator.next();
+                        builder.add(view.id(), view.name());
+                    }
+                }
+                return builder.build();
+            });
+            replace(rebuilt);
+            log.info("상품 검색 색인 구축 완료: products={}, elapsedMs={}",
+                    rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            // 기존 색인(또는 DB 검색 대체)을 계속 사용
+            log.error("상품 검색 색인 구축 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 상품 변경이 커밋되면 해당 상품의 이름을 다시 색인합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        if (index == null) {
+            return;
+        }
+        try {
+            Long productId = event.getProductId();
+            Optional<ProductView> view = productRepository.findViewById(productId);
+            update(productId, current -> view
+                    .map(v -> current.withProduct(v.id(), v.name()))
+                    .orElseGet(() -> current.withoutProduct(productId)));
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 갱신 실패, 다음 재구축 시 반영: productId={}, error={}",
+                    event.getProductId(), e.getMessage());
+        }
+    }
+
+    private synchronized void replace(NgramIndex rebuilt) {
+        index = rebuilt;
+        resultCache.invalidateAll();
+    }
+
+    private synchronized void update(Long productId, UnaryOperator<NgramIndex> change) {
+        NgramIndex previous = index;
+        NgramIndex updated = change.apply(previous);
+        if (updated == previous) {
+            return;
+        }
+        index = updated;
+        resultCache.invalidateMatching(previous.nameOf(productId), updated.nameOf(productId));
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.service.product.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 검색어별 검색 결과 캐시 (상품 ID 목록만 보관)
+ * 같은 인기 검색어가 반복될 때 색인 교집합 계산을 건너뜁니다. 상품 정보는 호출자가 상품 캐시로 다시 채웁니다.
+ *
+ * 설계:
+ * - Key: 정규화한 검색어 (trim, NFC, 소문자 - NgramIndex와 같은 규칙)
+ * - Value: 상품 ID long 배열 + 계산 시 적용한 결과 수 제한 (요청 제한이 더 크면 미스로 처리)
+ * - 제거: 항목 수가 아닌 추정 바이트(가중치) 기준 (결과가 많은 검색어가 캐시를 독점하지 않도록)
+ * - 무효화: 상품명이 바뀌면 이전/새 이름에 포함되는 검색어만 제거, 색인 재구축 시 전체 제거
+ *
+ * 지표: product.search.results (cache.gets{result=hit|miss}, cache.evictions, cache.size 등)
+ */
+@Component
+public class SearchResultCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final Cache<String, Entry> results;
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${app.product.search.result-cache.max-weight-bytes:16777216}") long maxWeightBytes) {
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String query, Entry entry) ->
+                        ENTRY_OVERHEAD_BYTES + query.length() * 2 + entry.productIds().length * Long.BYTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "product.search.results");
+    }
+
+    /**
+     * @param normalizedQuery 정규화한 검색어
+     * @param limit           요청한 최대 결과 수
+     * @return 캐시 미스이거나 저장된 결과가 요청 제한보다 작은 제한으로 계산되었으면 empty
+     */
+    public Optional<List<Long>> get(String normalizedQuery, int limit) {
+        Entry entry = results.getIfPresent(normalizedQuery);
+        if (entry == null || (entry.limit() < limit && entry.productIds().length == entry.limit())) {
+            return Optional.empty();
+        }
+        int size = Math.min(limit, entry.productIds().length);
+        List<Long> productIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            productIds.add(entry.productIds()[i]);
+        }
+        return Optional.of(productIds);
+    }
+
+    public void put(String normalizedQuery, int limit, List<Long> productIds) {
+        long[] ids = new long[productIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = productIds.get(i);
+        }
+        results.put(normalizedQuery, new Entry(limit, ids));
+    }
+
+    public void invalidate(String normalizedQuery) {
+        results.invalidate(normalizedQuery);
+    }
+
+    /**
+     * 이름에 포함되는 검색어의 결과를 제거합니다. (그 상품이 결과에 들어가거나 빠질 수 있는 검색어)
+     *
+     * @param normalizedNames 정규화한 이전/새 상품명 (null 무시)
+     */
+    public void invalidateMatching(String... normalizedNames) {
+        results.asMap().keySet().removeIf(query -> Arrays.stream(normalizedNames)
+                .anyMatch(name -> name != null && name.contains(query)));
+    }
+
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    private record Entry(int limit, long[] productIds) {
+    }
+}
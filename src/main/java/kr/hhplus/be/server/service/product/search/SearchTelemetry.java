@@ -0,0 +1,162 @@
+package kr.hhplus.be.server.service.product.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.infrastructure.kafka.KafkaMessagePublisher;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage.KeywordStats;
+import kr.hhplus.be.server.infrastructure.queue.RingBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 통계 수집기
+ * 검색 요청 스레드는 링 버퍼에 기록만 하고, 직렬화와 Kafka 발행은 백그라운드에서 분 단위 집계로 처리합니다.
+ *
+ * 설계:
+ * - 기록: 검색어 원문/결과 수/시각을 담은 작은 레코드를 락 없는 링 버퍼에 offer (직렬화/I/O 없음)
+ *         버퍼가 가득 차면 기다리지 않고 버리며 product.search.telemetry.dropped 로 집계
+ * - 집계: flush-interval-ms 주기로 버퍼를 비우며 (분, 정규화한 검색어)별로 누적 (단일 스케줄 스레드 전용 맵)
+ * - 발행: 지나간 분의 집계만 RestaurantSearchStatsMessage로 발행, 한 메시지에 최대 batch-size개 검색어
+ *         검색어 해시를 key-buckets개 버킷으로 나눠 버킷별로 발행 (메시지 키 "{분}:{버킷}", 같은 검색어는 같은 파티션)
+ * - 종료: 남은 기록을 모두 비우고 진행 중인 분까지 발행
+ * 검색 1건마다 보내던 메시지가 (분 x 인스턴스)당 수 건으로 줄어드는 대신, 사용자 ID는 집계에 포함하지 않습니다.
+ */
+@Slf4j
+@Component
+public class SearchTelemetry {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final KafkaMessagePublisher kafkaMessagePublisher;
+    private final RingBuffer<SearchRecord> buffer;
+    private final int batchSize;
+    private final int keyBuckets;
+    private final LongSupplier clock;
+    private final Counter droppedCounter;
+
+    // flush 스레드 전용 (minute epoch millis -> 정규화한 검색어 -> 집계)
+    private final TreeMap<Long, Map<String, MutableStats>> minutes = new TreeMap<>();
+
+    public SearchTelemetry(KafkaMessagePublisher kafkaMessagePublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.product.search.telemetry.buffer-size:65536}") int bufferSize,
+                           @Value("${app.product.search.telemetry.batch-size:500}") int batchSize,
+                           @Value("${app.product.search.telemetry.key-buckets:16}") int keyBuckets) {
+        this(kafkaMessagePublisher, meterRegistry, bufferSize, batchSize, keyBuckets, System::currentTimeMillis);
+    }
+
+    SearchTelemetry(KafkaMessagePublisher kafkaMessagePublisher, MeterRegistry meterRegistry,
+                    int bufferSize, int batchSize, int keyBuckets, LongSupplier clock) {
+        if (keyBuckets < 1) {
+            throw new IllegalArgumentException("검색어 버킷 수는 1 이상이어야 합니다: " + keyBuckets);
+        }
+        this.kafkaMessagePublisher = kafkaMessagePublisher;
+        this.buffer = new RingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.keyBuckets = keyBuckets;
+        this.clock = clock;
+        this.droppedCounter = Counter.builder("product.search.telemetry.dropped")
+                .description("버퍼가 가득 차서 버린 검색 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색 1건을 기록합니다. (요청 스레드에서 호출, 막히지 않음)
+     */
+    public void record(String keyword, int resultCount) {
+        if (!buffer.offer(new SearchRecord(keyword, resultCount, clock.getAsLong()))) {
+            droppedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.search.telemetry.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        drain();
+        publishBefore(clock.getAsLong() / MINUTE_MILLIS * MINUTE_MILLIS);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        drain();
+        publishBefore(Long.MAX_VALUE);
+    }
+
+    // 한 번에 버퍼 용량만큼만 비워, 유입이 계속되어도 flush가 끝나지 않는 일이 없도록 함
+    private void drain() {
+        buffer.drain(record -> {
+            String keyword = NgramIndex.normalize(record.keyword());
+            if (keyword.isEmpty()) {
+                return;
+            }
+            long minute = record.searchedAt() / MINUTE_MILLIS * MINUTE_MILLIS;
+            minutes.computeIfAbsent(minute, key -> new HashMap<>())
+                    .computeIfAbsent(keyword, key -> new MutableStats())
+                    .add(record.resultCount());
+        }, buffer.capacity());
+    }
+
+    private void publishBefore(long minuteExclusive) {
+        Iterator<Map.Entry<Long, Map<String, MutableStats>>> iterator =
+                minutes.headMap(minuteExclusive).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Map<String, MutableStats>> minute = iterator.next();
+            LocalDateTime minuteAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(minute.getKey()), ZoneId.systemDefault());
+            Map<Integer, List<KeywordStats>> buckets = new TreeMap<>();
+            for (Map.Entry<String, MutableStats> keyword : minute.getValue().entrySet()) {
+                MutableStats stats = keyword.getValue();
+                int bucket = Math.floorMod(keyword.getKey().hashCode(), keyBuckets);
+                List<KeywordStats> batch = buckets.computeIfAbsent(bucket, key -> new ArrayList<>());
+                batch.add(new KeywordStats(keyword.getKey(), stats.searchCount, stats.emptyResultCount, stats.resultCount));
+                if (batch.size() == batchSize) {
+                    publish(minuteAt, bucket, batch);
+                    buckets.remove(bucket);
+                }
+            }
+            for (Map.Entry<Integer, List<KeywordStats>> bucket : buckets.entrySet()) {
+                publish(minuteAt, bucket.getKey(), bucket.getValue());
+            }
+            iterator.remove();
+        }
+    }
+
+    private void publish(LocalDateTime minute, int bucket, List<KeywordStats> batch) {
+        try {
+            kafkaMessagePublisher.publishRestaurantSearchStats(RestaurantSearchStatsMessage.of(minute, bucket, List.copyOf(batch)));
+        } catch (Exception e) {
+            // 통계 유실은 검색 기능에 영향을 주지 않으므로 재시도하지 않음
+            log.error("검색 집계 발행 실패: minute={}, keywords={}, error={}", minute, batch.size(), e.getMessage(), e);
+        }
+    }
+
+    private record SearchRecord(String keyword, int resultCount, long searchedAt) {
+    }
+
+    private static final class MutableStats {
+        private int searchCount;
+        private int emptyResultCount;
+        private long resultCount;
+
+        void add(int results) {
+            searchCount++;
+            resultCount += results;
+            if (results == 0) {
+                emptyResultCount++;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package kr.hhplus.be.server.service.product.search;
+
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductView;
+import kr.hhplus.be.server.infrastructure.event.ProductChangedEvent;
+import kr.hhplus.be.server.service.product.search.SuggestionTrie.Suggestion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 상품 자동완성 서비스
+ * 상품명과 인기 검색어를 SuggestionTrie로 만들어 접두사 조회를 메모리에서 처리합니다.
+ *
+ * 설계:
+ * - 인기 검색어: Key "product:search:keywords" (Sorted Set, Member: 정규화한 검색어, Score: 검색 횟수)
+ *   검색 집계 스트림(RestaurantSearchStatsMessage) 소비자가 ZINCRBY로 누적, 상위 MAX_KEYWORDS개만 유지
+ * - 상품명: 기동 시 전체 적재, 이후 상품 변경 이벤트로 해당 상품만 갱신
+ * - 원본(상품명 맵, 검색어 점수 맵)은 변경분만 반영하고, 바뀐 경우에만 새 트라이를 만들어 volatile로 교체
+ *   (조회는 락 없이 현재 트라이를 사용)
+ * - 점수: 검색어의 검색 횟수 (검색된 적 없는 상품명은 0점으로 뒤에 배치)
+ */
+@Slf4j
+@Service
+public class SuggestionService {
+
+    private static final String KEYWORDS_KEY = "product:search:keywords";
+    private static final int MAX_KEYWORDS = 10_000;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int keywordCount;
+
+    private final Map<Long, String> productNames = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> keywordScores = Map.of();
+    private volatile boolean dirty;
+    private volatile SuggestionTrie trie = SuggestionTrie.empty();
+
+    public SuggestionService(RedisTemplate<String, String> redisTemplate,
+                             ProductRepository productRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.product.suggest.keyword-count:1000}") int keywordCount) {
+        this.redisTemplate = redisTemplate;
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.keywordCount = keywordCount;
+    }
+
+    /**
+     * 접두사로 시작하는 상품명/인기 검색어를 점수 내림차순으로 조회합니다.
+     *
+     * @param limit 최대 결과 수 (1 이상 SuggestionTrie.MAX_SUGGESTIONS 이하)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > SuggestionTrie.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("추천 개수는 1 이상 " + SuggestionTrie.MAX_SUGGESTIONS + " 이하여야 합니다.");
+        }
+        return trie.suggest(prefix, limit);
+    }
+
+    /**
+     * 결과가 있었던 검색 횟수를 인기 검색어 점수에 누적합니다. (결과가 없었던 검색어는 추천하지 않음)
+     */
+    public void recordSearches(String keyword, int count) {
+        String normalized = NgramIndex.normalize(keyword);
+        if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH || count <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().incrementScore(KEYWORDS_KEY, normalized, count);
+        } catch (Exception e) {
+            log.warn("인기 검색어 기록 실패: keyword={}, error={}", normalized, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            Map<Long, String> names = readOnlyTransaction.execute(status -> {
+                Map<Long, String> loaded = new HashMap<>();
+                try (Stream<ProductView> views = productRepository.streamAll()) {
+                    Iterator<ProductView> iterator = views.iterator();
+                    while (iterator.hasNext()) {
+                        ProductView view = iterator.next();
+                        loaded.put(view.id(), view.name());
+                    }
+                }
+                return loaded;
+            });
+            productNames.putAll(names);
+            dirty = true;
+        } catch (Exception e) {
+            log.error("자동완성 상품명 적재 실패: error={}", e.getMessage(), e);
+        }
+        refresh();
+    }
+
+    /**
+     * 인기 검색어를 다시 읽고, 원본이 바뀌었으면 트라이를 다시 만들어 교체합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.product.suggest.refresh-interval-ms:10000}",
+               initialDelayString = "${app.product.suggest.refresh-interval-ms:10000}")
+    public void refresh() {
+        try {
+            Map<String, Long> latest = loadKeywordScores();
+            if (!latest.equals(keywordScores)) {
+                keywordScores = latest;
+                dirty = true;
+            }
+        } catch (Exception e) {
+            log.warn("인기 검색어 조회 실패, 이전 점수 사용: error={}", e.getMessage());
+        }
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        try {
+            productRepository.findViewById(event.getProductId()).ifPresentOrElse(
+                    view -> {
+                        if (!view.name().equals(productNames.put(view.id(), view.name()))) {
+                            dirty = true;
+                        }
+                    },
+                    () -> dirty |= productNames.remove(event.getProductId()) != null);
+        } catch (Exception e) {
+            log.warn("자동완성 상품명 갱신 실패: productId={}, error={}", event.getProductId(), e.getMessage());
+        }
+    }
+
+    private synchronized void rebuild() {
+        dirty = false;
+        Map<String, Long> scores = keywordScores;
+        Map<String, Suggestion> terms = new HashMap<>();
+        for (String name : productNames.values()) {
+            String key = NgramIndex.normalize(name);
+            if (!key.isEmpty()) {
+                terms.put(key, new Suggestion(name.trim(), scores.getOrDefault(key, 0L)));
+            }
+        }
+        scores.forEach((keyword, score) -> terms.putIfAbsent(keyword, new Suggestion(keyword, score)));
+        trie = SuggestionTrie.build(terms);
+        log.debug("자동완성 트라이 교체: terms={}", trie.size());
+    }
+
+    private Map<String, Long> loadKeywordScores() {
+        // 상위 MAX_KEYWORDS개 밖의 검색어는 정리 (멱등이므로 인스턴스마다 실행해도 무방)
+        redisTemplate.opsForZSet().removeRange(KEYWORDS_KEY, 0, -MAX_KEYWORDS - 1L);
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(KEYWORDS_KEY, 0, keywordCount - 1L);
+        if (tuples == null || tuples.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> scores = new HashMap<>(tuples.size() * 4 / 3 + 1);
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                scores.put(tuple.getValue(), tuple.getScore().longValue());
+            }
+        }
+        return scores;
+    }
+}
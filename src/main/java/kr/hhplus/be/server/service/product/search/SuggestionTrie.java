@@ -0,0 +1,187 @@
+package kr.hhplus.be.server.service.product.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성용 배열 압축 트라이 (불변)
+ * 접두사 조회는 접두사 길이만큼 자식 이진 탐색 후 미리 계산한 상위 목록을 그대로 반환합니다.
+ *
+ * 설계:
+ * - 노드는 BFS 순서의 int 번호, 한 노드의 자식은 연속된 번호로 배치되고 라벨(char) 오름차순
+ *   (labels, firstChild, childCount 배열만 사용하므로 노드당 객체가 없음)
+ * - 한글 음절은 UTF-16 char 1개이므로 음절 단위로 분기
+ * - 각 노드에 하위 트리의 점수 상위 MAX_SUGGESTIONS개 항목 번호를 미리 계산 (topOffsets/topTerms)
+ * - 키는 NgramIndex와 같은 규칙으로 정규화, 응답에는 원래 표기(text)를 사용
+ */
+public final class SuggestionTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::score).reversed()
+            .thenComparing(Suggestion::text);
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topOffsets;
+    private final int[] topTerms;
+    private final Suggestion[] suggestions;
+
+    private SuggestionTrie(char[] labels, int[] firstChild, int[] childCount,
+                           int[] topOffsets, int[] topTerms, Suggestion[] suggestions) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topOffsets = topOffsets;
+        this.topTerms = topTerms;
+        this.suggestions = suggestions;
+    }
+
+    public static SuggestionTrie empty() {
+        return build(Map.of());
+    }
+
+    /**
+     * @param terms 정규화한 키 -> 추천 항목
+     */
+    public static SuggestionTrie build(Map<String, Suggestion> terms) {
+        String[] keys = terms.keySet().stream().sorted().toArray(String[]::new);
+        Suggestion[] suggestions = new Suggestion[keys.length];
+        int capacity = 1;
+        for (int i = 0; i < keys.length; i++) {
+            suggestions[i] = terms.get(keys[i]);
+            capacity += keys[i].length();
+        }
+
+        char[] labels = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] childCount = new int[capacity];
+        int[] termOf = new int[capacity];
+        Arrays.fill(termOf, -1);
+
+        // BFS로 노드 번호를 부여하여 형제 노드를 연속 배치 (range: 노드에 속한 키의 [lo, hi), 깊이)
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{0, keys.length, 0});
+        int nodeCount = 1;
+        for (int node = 0; !queue.isEmpty(); node++) {
+            int[] range = queue.poll();
+            int lo = range[0];
+            int hi = range[1];
+            int depth = range[2];
+            if (lo < hi && keys[lo].length() == depth) {
+                termOf[node] = lo++;
+            }
+            firstChild[node] = nodeCount;
+            while (lo < hi) {
+                char label = keys[lo].charAt(depth);
+                int end = lo + 1;
+                while (end < hi && keys[end].charAt(depth) == label) {
+                    end++;
+                }
+                labels[nodeCount++] = label;
+                childCount[node]++;
+                queue.add(new int[]{lo, end, depth + 1});
+                lo = end;
+            }
+        }
+
+        // 자식 번호가 항상 부모보다 크므로 역순으로 하위 트리 상위 목록을 계산
+        int[][] tops = new int[nodeCount][];
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            List<Integer> candidates = new ArrayList<>();
+            if (termOf[node] >= 0) {
+                candidates.add(termOf[node]);
+            }
+            for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+                for (int term : tops[child]) {
+                    candidates.add(term);
+                }
+            }
+            candidates.sort((a, b) -> RANKING.compare(suggestions[a], suggestions[b]));
+            tops[node] = candidates.stream()
+                    .limit(MAX_SUGGESTIONS)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        int[] topOffsets = new int[nodeCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            topOffsets[node + 1] = topOffsets[node] + tops[node].length;
+        }
+        int[] topTerms = new int[topOffsets[nodeCount]];
+        for (int node = 0; node < nodeCount; node++) {
+            System.arraycopy(tops[node], 0, topTerms, topOffsets[node], tops[node].length);
+        }
+
+        return new SuggestionTrie(
+                Arrays.copyOf(labels, nodeCount),
+                Arrays.copyOf(firstChild, nodeCount),
+                Arrays.copyOf(childCount, nodeCount),
+                topOffsets,
+                topTerms,
+                suggestions);
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * 접두사로 시작하는 항목을 점수 내림차순으로 조회합니다.
+     *
+     * @param prefix 접두사 (NgramIndex 규칙으로 정규화)
+     * @param limit  최대 결과 수 (MAX_SUGGESTIONS 이하)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = NgramIndex.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            node = findChild(node, key.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+
+        int start = topOffsets[node];
+        int end = Math.min(topOffsets[node + 1], start + limit);
+        List<Suggestion> result = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            result.add(suggestions[topTerms[i]]);
+        }
+        return result;
+    }
+
+    private int findChild(int node, char label) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (labels[mid] < label) {
+                lo = mid + 1;
+            } else if (labels[mid] > label) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 추천 항목
+     *
+     * @param text  응답에 사용할 원래 표기
+     * @param score 인기 점수 (검색 횟수)
+     */
+    public record Suggestion(String text, long score) {
+    }
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.service.user;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 잔액 캐시 인터페이스
+ * 잔액을 users.balance_version과 함께 저장하고, 저장된 버전보다 높은 버전만 기록하여
+ * 늦게 도착한 낡은 값이 최신 값을 덮어쓰지 않도록 합니다.
+ */
+public interface BalanceCache {
+
+    /**
+     * 캐시된 잔액을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 캐시 미스, 캐시 대상이 아닌 사용자(잔액 샤딩), Redis 장애 시 empty
+     */
+    Optional<Long> get(Long userId);
+
+    /**
+     * 저장된 버전보다 높은 버전인 경우에만 잔액을 기록합니다.
+     *
+     * @param userId  사용자 ID
+     * @param balance 잔액
+     * @param version 잔액을 읽은 시점의 balance_version
+     */
+    void put(Long userId, long balance, long version);
+
+    /**
+     * 잔액 없이 버전만 기록하여 캐시를 무효화합니다. (잔액 샤딩 사용자 등 캐시하지 않는 잔액)
+     * 이 버전 이하의 낡은 값은 이후에도 기록되지 않습니다.
+     *
+     * @param userId  사용자 ID
+     * @param version 무효화 시점의 balance_version
+     */
+    void retire(Long userId, long version);
+
+    /**
+     * 여러 사용자의 잔액을 한 번에 기록합니다. (대량 충전용, 기록 규칙은 put/retire와 같음)
+     *
+     * @param states 잔액 상태 목록 (잔액 샤딩 사용자는 retire로 처리)
+     */
+    void putAll(List<BalanceState> states);
+}
@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.service.user;
+
+/**
+ * 잔액 캐시에 기록할 사용자 잔액 상태
+ *
+ * @param sharded 잔액 샤딩 사용자 여부 (캐시하지 않고 버전만 기록)
+ */
+public record BalanceState(Long userId, long balance, long version, boolean sharded) {
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.service.user;
+
+import java.util.List;
+
+/**
+ * 대량 포인트 충전의 청크별 처리 결과
+ *
+ * @param missingUserIds 존재하지 않아 충전하지 않은 사용자 ID
+ * @param rejectedLines  형식이 잘못되어 건너뛴 줄 번호
+ * @param error          청크 반영 실패 사유 (성공이면 null)
+ */
+public record BulkChargeChunkResult(
+        int chunkNo,
+        long fromLine,
+        long toLine,
+        int creditedCount,
+        long creditedAmount,
+        List<Long> missingUserIds,
+        List<Long> rejectedLines,
+        String error
+) {
+
+    public static BulkChargeChunkResult succeeded(int chunkNo, long fromLine, long toLine, int creditedCount,
+                                                  long creditedAmount, List<Long> missingUserIds,
+                                                  List<Long> rejectedLines) {
+        return new BulkChargeChunkResult(chunkNo, fromLine, toLine, creditedCount, creditedAmount,
+                missingUserIds, rejectedLines, null);
+    }
+
+    public static BulkChargeChunkResult failed(int chunkNo, long fromLine, long toLine, String error) {
+        return new BulkChargeChunkResult(chunkNo, fromLine, toLine, 0, 0L, List.of(), List.of(), error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.service.user;
+
+/**
+ * 대량 포인트 충전 입력 형식
+ * - CSV: "userId,amount" (첫 줄이 숫자로 시작하지 않으면 헤더로 보고 건너뜀)
+ * - NDJSON: 한 줄에 {"userId": 1, "amount": 1000}
+ */
+public enum BulkChargeFormat {
+    CSV,
+    NDJSON;
+
+    public static BulkChargeFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String type = contentType.toLowerCase();
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. (text/csv, application/x-ndjson)");
+    }
+}
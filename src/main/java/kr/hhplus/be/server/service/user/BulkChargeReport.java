@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.service.user;
+
+import java.util.List;
+
+/**
+ * 대량 포인트 충전 요청의 처리 결과
+ *
+ * @param completed    입력 끝까지 반영했는지 여부 (false면 lastLine 이후부터 같은 jobId로 다시 요청)
+ * @param lastLine     반영이 끝난 마지막 줄 번호 (체크포인트)
+ * @param skippedLines 이전 요청에서 이미 반영되어 건너뛴 줄 수
+ */
+public record BulkChargeReport(
+        String jobId,
+        boolean completed,
+        long lastLine,
+        long skippedLines,
+        long creditedCount,
+        long creditedAmount,
+        List<BulkChargeChunkResult> chunks
+) {
+}
@@ -0,0 +1,345 @@
+package kr.hhplus.be.server.service.user;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.point.PointBulkChargeJob;
+import kr.hhplus.be.server.domain.point.PointBulkChargeJobRepository;
+import kr.hhplus.be.server.infrastructure.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 대량 포인트 충전 (프로모션 일괄 적립)
+ * CSV/NDJSON 입력을 스트리밍으로 읽어 청크 단위 JDBC 배치로 잔액과 원장을 반영합니다.
+ *
+ * 설계:
+ * - 청크: 입력 chunk-size 줄마다 트랜잭션 1회
+ *   1. 작업 행(point_bulk_charge_jobs)을 FOR UPDATE로 잠가 체크포인트가 청크 시작 직전 줄인지 확인
+ *      (같은 jobId를 동시에 실행하면 한쪽만 진행)
+ *   2. 사용자 ID 순으로 정렬한 원자적 UPDATE(balance = balance + ?) 배치 (잔액 버전 증가)
+ *   3. 충전된 사용자만 point_history에 CHARGE 이력 배치 INSERT (Snowflake ID)
+ *   4. 체크포인트를 청크 마지막 줄로 전진
+ *   잔액과 원장, 체크포인트가 한 트랜잭션으로 커밋되므로 재시도해도 중복 적립되지 않습니다.
+ * - 재개: 같은 jobId로 같은 입력을 다시 보내면 체크포인트 이전 줄은 읽기만 하고 건너뜀
+ * - 실패: 청크는 1회 재시도 후에도 실패하면 처리를 멈추고 실패 청크와 재개 위치를 보고
+ *         (존재하지 않는 사용자, 형식 오류 줄은 청크 결과에 기록하고 계속 진행)
+ * - 캐시: 커밋 후 충전된 사용자의 잔액과 버전을 잔액 캐시에 파이프라인으로 기록
+ *         주문 사전 검증의 잔액 힌트는 짧은 TTL로 만료되도록 두고 사용자별 충전 이벤트는 발행하지 않음
+ */
+@Slf4j
+@Service
+public class BulkPointChargeService {
+
+    private static final int MAX_JOB_ID_LENGTH = 64;
+    private static final int CHUNK_ATTEMPTS = 2;
+
+    private static final String CREATE_JOB_SQL =
+            "INSERT IGNORE INTO point_bulk_charge_jobs " +
+            "(job_id, last_line, credited_count, credited_amount, created_at, updated_at) VALUES (?, 0, 0, 0, ?, ?)";
+    private static final String SELECT_CHECKPOINT_SQL =
+            "SELECT last_line FROM point_bulk_charge_jobs WHERE job_id = ?";
+    private static final String LOCK_CHECKPOINT_SQL = SELECT_CHECKPOINT_SQL + " FOR UPDATE";
+    private static final String ADVANCE_CHECKPOINT_SQL =
+            "UPDATE point_bulk_charge_jobs SET last_line = ?, credited_count = credited_count + ?, " +
+            "credited_amount = credited_amount + ?, updated_at = ? WHERE job_id = ?";
+    private static final String CREDIT_SQL =
+            "UPDATE users SET balance = balance + ?, balance_version = balance_version + 1 WHERE id = ?";
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO point_history (id, user_id, type, amount, created_at) VALUES (?, ?, 'CHARGE', ?, ?)";
+    private static final String SELECT_BALANCE_STATE_SQL_PREFIX =
+            "SELECT id, balance, balance_version, balance_shard_count FROM users WHERE id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    private final BalanceCache balanceCache;
+    private final ObjectMapper objectMapper;
+    private final PointBulkChargeJobRepository jobRepository;
+    private final int chunkSize;
+    private final int maxReportedIds;
+
+    public BulkPointChargeService(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  SnowflakeIdGenerator idGenerator,
+                                  BalanceCache balanceCache,
+                                  ObjectMapper objectMapper,
+                                  PointBulkChargeJobRepository jobRepository,
+                                  @Value("${app.point.bulk-charge.chunk-size:1000}") int chunkSize,
+                                  @Value("${app.point.bulk-charge.max-reported-ids:100}") int maxReportedIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idGenerator = idGenerator;
+        this.balanceCache = balanceCache;
+        this.objectMapper = objectMapper;
+        this.jobRepository = jobRepository;
+        this.chunkSize = chunkSize;
+        this.maxReportedIds = maxReportedIds;
+    }
+
+    /**
+     * 입력을 끝까지 읽어 체크포인트 이후 줄을 청크 단위로 반영합니다.
+     *
+     * @param jobId  작업 ID (재개 시 같은 값을 사용)
+     * @param format 입력 형식
+     * @param input  (userId, amount) 목록
+     */
+    public BulkChargeReport charge(String jobId, BulkChargeFormat format, InputStream input) {
+        if (jobId == null || jobId.isBlank() || jobId.length() > MAX_JOB_ID_LENGTH) {
+            throw new IllegalArgumentException("작업 ID는 1자 이상 " + MAX_JOB_ID_LENGTH + "자 이하여야 합니다.");
+        }
+        long checkpoint = openJob(jobId);
+
+        List<BulkChargeChunkResult> chunks = new ArrayList<>();
+        List<ChargeLine> lines = new ArrayList<>(chunkSize);
+        List<Long> rejectedLines = new ArrayList<>();
+        long lineNo = 0;
+        long chunkStart = checkpoint + 1;
+        long creditedCount = 0;
+        long creditedAmount = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo <= checkpoint) {
+                    continue;
+                }
+                try {
+                    parse(format, lineNo, line).ifPresent(lines::add);
+                } catch (IllegalArgumentException e) {
+                    addLimited(rejectedLines, lineNo);
+                }
+
+                if (lineNo - chunkStart + 1 >= chunkSize) {
+                    BulkChargeChunkResult result = applyChunk(jobId, chunks.size() + 1, chunkStart, lineNo, lines, rejectedLines);
+                    chunks.add(result);
+                    if (result.isFailed()) {
+                        return new BulkChargeReport(jobId, false, chunkStart - 1, checkpoint,
+                                creditedCount, creditedAmount, chunks);
+                    }
+                    creditedCount += result.creditedCount();
+                    creditedAmount += result.creditedAmount();
+                    chunkStart = lineNo + 1;
+                    lines = new ArrayList<>(chunkSize);
+                    rejectedLines = new ArrayList<>();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대량 충전 입력을 읽을 수 없습니다: jobId=" + jobId, e);
+        }
+
+        if (lineNo >= chunkStart) {
+            BulkChargeChunkResult result = applyChunk(jobId, chunks.size() + 1, chunkStart, lineNo, lines, rejectedLines);
+            chunks.add(result);
+            if (result.isFailed()) {
+                return new BulkChargeReport(jobId, false, chunkStart - 1, checkpoint,
+                        creditedCount, creditedAmount, chunks);
+            }
+            creditedCount += result.creditedCount();
+            creditedAmount += result.creditedAmount();
+        }
+
+        log.info("대량 포인트 충전 완료: jobId={}, lastLine={}, skipped={}, credited={}, amount={}",
+                jobId, Math.max(lineNo, checkpoint), checkpoint, creditedCount, creditedAmount);
+        return new BulkChargeReport(jobId, true, Math.max(lineNo, checkpoint), checkpoint,
+                creditedCount, creditedAmount, chunks);
+    }
+
+    /**
+     * 작업의 진행 상태를 조회합니다.
+     */
+    public Optional<PointBulkChargeJob> findJob(String jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    private long openJob(String jobId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(CREATE_JOB_SQL, jobId, now, now);
+        Long checkpoint = jdbcTemplate.queryForObject(SELECT_CHECKPOINT_SQL, Long.class, jobId);
+        return checkpoint == null ? 0L : checkpoint;
+    }
+
+    private BulkChargeChunkResult applyChunk(String jobId, int chunkNo, long fromLine, long toLine,
+                                             List<ChargeLine> lines, List<Long> rejectedLines) {
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= CHUNK_ATTEMPTS; attempt++) {
+            try {
+                ChunkOutcome outcome = transactionTemplate.execute(status -> credit(jobId, fromLine, toLine, lines));
+                balanceCache.putAll(outcome.states());
+                return BulkChargeChunkResult.succeeded(chunkNo, fromLine, toLine, outcome.creditedCount(),
+                        outcome.creditedAmount(), outcome.missingUserIds(), rejectedLines);
+            } catch (CheckpointMismatchException e) {
+                lastError = e;
+                break;
+            } catch (RuntimeException e) {
+                lastError = e;
+                log.warn("대량 충전 청크 반영 실패: jobId={}, chunk={}, lines={}~{}, attempt={}, error={}",
+                        jobId, chunkNo, fromLine, toLine, attempt, e.getMessage());
+            }
+        }
+        log.error("대량 충전 중단: jobId={}, chunk={}, lines={}~{}, error={}",
+                jobId, chunkNo, fromLine, toLine, lastError.getMessage());
+        return BulkChargeChunkResult.failed(chunkNo, fromLine, toLine, lastError.getMessage());
+    }
+
+    /**
+     * 청크 하나를 반영합니다. (호출자의 트랜잭션에서 실행)
+     */
+    private ChunkOutcome credit(String jobId, long fromLine, long toLine, List<ChargeLine> lines) {
+        Long current = jdbcTemplate.queryForObject(LOCK_CHECKPOINT_SQL, Long.class, jobId);
+        if (current == null || current != fromLine - 1) {
+            throw new CheckpointMismatchException(
+                    "다른 실행이 같은 작업을 처리했습니다: jobId=" + jobId + ", checkpoint=" + current);
+        }
+
+        // 사용자 ID 순으로 잠가 동시에 실행되는 다른 대량 충전과 교착을 피함
+        List<ChargeLine> sorted = new ArrayList<>(lines);
+        sorted.sort(Comparator.comparing(ChargeLine::userId));
+        int[] counts = jdbcTemplate.batchUpdate(CREDIT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, sorted.get(i).amount());
+                ps.setLong(2, sorted.get(i).userId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sorted.size();
+            }
+        });
+
+        List<ChargeLine> credited = new ArrayList<>(sorted.size());
+        List<Long> missingUserIds = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            if (counts[i] == 0) {
+                addLimited(missingUserIds, sorted.get(i).userId());
+            } else {
+                credited.add(sorted.get(i));
+            }
+        }
+
+        long creditedAmount = credited.stream().mapToLong(ChargeLine::amount).sum();
+        List<BalanceState> states = List.of();
+        if (!credited.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, credited, credited.size(), (ps, line) -> {
+                ps.setLong(1, idGenerator.nextId());
+                ps.setLong(2, line.userId());
+                ps.setLong(3, line.amount());
+                ps.setTimestamp(4, now);
+            });
+            states = findBalanceStates(credited);
+        }
+
+        jdbcTemplate.update(ADVANCE_CHECKPOINT_SQL, toLine, credited.size(), creditedAmount,
+                Timestamp.valueOf(LocalDateTime.now()), jobId);
+        return new ChunkOutcome(credited.size(), creditedAmount, missingUserIds, states);
+    }
+
+    /**
+     * 같은 트랜잭션에서 갱신한 사용자의 잔액과 버전을 읽습니다. (행 락을 보유 중이므로 커밋 시점의 값)
+     */
+    private List<BalanceState> findBalanceStates(List<ChargeLine> credited) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        credited.forEach(line -> userIds.add(line.userId()));
+        String sql = SELECT_BALANCE_STATE_SQL_PREFIX + String.join(",", Collections.nCopies(userIds.size(), "?")) + ")";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BalanceState(
+                rs.getLong("id"),
+                rs.getLong("balance"),
+                rs.getLong("balance_version"),
+                rs.getInt("balance_shard_count") > 0), userIds.toArray());
+    }
+
+    /**
+     * 한 줄을 해석합니다.
+     *
+     * @return 빈 줄, CSV 헤더면 empty
+     * @throws IllegalArgumentException 형식이 잘못되었거나 금액이 0 이하인 경우
+     */
+    private Optional<ChargeLine> parse(BulkChargeFormat format, long lineNo, String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long userId;
+        long amount;
+        if (format == BulkChargeFormat.CSV) {
+            if (lineNo == 1 && !Character.isDigit(trimmed.charAt(0))) {
+                return Optional.empty();
+            }
+            int comma = trimmed.indexOf(',');
+            if (comma < 0) {
+                throw new IllegalArgumentException("잘못된 CSV 줄입니다: " + lineNo);
+            }
+            try {
+                userId = Long.parseLong(trimmed.substring(0, comma).trim());
+                amount = Long.parseLong(trimmed.substring(comma + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 CSV 줄입니다: " + lineNo, e);
+            }
+        } else {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(trimmed);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("잘못된 JSON 줄입니다: " + lineNo, e);
+            }
+            if (node == null || !node.path("userId").canConvertToLong() || !node.path("amount").canConvertToLong()) {
+                throw new IllegalArgumentException("잘못된 JSON 줄입니다: " + lineNo);
+            }
+            userId = node.get("userId").asLong();
+            amount = node.get("amount").asLong();
+        }
+
+        if (amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다: " + lineNo);
+        }
+        return Optional.of(new ChargeLine(userId, amount));
+    }
+
+    private void addLimited(List<Long> values, Long value) {
+        if (values.size() < maxReportedIds) {
+            values.add(value);
+        }
+    }
+
+    private record ChargeLine(Long userId, long amount) {
+    }
+
+    private record ChunkOutcome(int creditedCount, long creditedAmount, List<Long> missingUserIds,
+                                List<BalanceState> states) {
+    }
+
+    /**
+     * 체크포인트가 청크 시작 위치와 다른 경우 (같은 작업의 다른 실행이 먼저 반영함, 재시도하지 않음)
+     */
+    private static class CheckpointMismatchException extends IllegalStateException {
+        CheckpointMismatchException(String message) {
+            super(message);
+        }
+    }
+}
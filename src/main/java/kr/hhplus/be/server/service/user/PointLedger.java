@@ -0,0 +1,157 @@
+package kr.hhplus.be.server.service.user;
+
+import kr.hhplus.be.server.domain.point.PointBalanceSnapshot;
+import kr.hhplus.be.server.domain.point.PointBalanceSnapshotRepository;
+import kr.hhplus.be.server.domain.point.PointHistoryRepository;
+import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.user.UserBalanceShard;
+import kr.hhplus.be.server.domain.user.UserBalanceShardRepository;
+import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.id.SnowflakeIdGenerator;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 원장 스냅샷 및 잔액 재구성
+ *
+ * 설계:
+ * - 스냅샷: 주기적으로 이력이 추가된 사용자만 골라 (잔액, 마지막 이력 ID)를 기록
+ *   사용자 행을 공유 락(FOR SHARE)으로 읽어 진행 중인 충전/차감이 커밋된 뒤의 잔액과 이력을 함께 기록
+ *   잔액 샤딩 사용자는 샤드 잔액 합계를 더해 기록
+ * - 재구성: 최신 스냅샷 잔액 + 스냅샷 이후 이력 합계 (전체 이력을 다시 더하지 않음)
+ * - 변경 사용자 탐색: 이력 ID(Snowflake)가 시각 순이므로 "직전 실행 시각 - 지연 허용치" 이후 ID를 PK 범위로 조회
+ *   지연 허용치 안에 커밋되는 트랜잭션의 이력은 다음 실행에서도 다시 훑으므로 누락되지 않음
+ *
+ * 인스턴스 간 시계 오차보다 짧은 간격으로 같은 사용자의 이력이 다른 인스턴스에서 추가되면
+ * ID 순서가 뒤바뀔 수 있으므로, 지연 허용치는 시계 오차보다 충분히 크게 둡니다.
+ */
+@Slf4j
+@Component
+public class PointLedger {
+
+    private static final String LOCK_KEY = "point:ledger:snapshot";
+    private static final long LOCK_LEASE_TIME = 60_000L;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointBalanceSnapshotRepository snapshotRepository;
+    private final UserRepository userRepository;
+    private final UserBalanceShardRepository userBalanceShardRepository;
+    private final DistributedLock distributedLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long lagMs;
+
+    private volatile long lastRunStartedAt = -1L;
+
+    public PointLedger(PointHistoryRepository pointHistoryRepository,
+                       PointBalanceSnapshotRepository snapshotRepository,
+                       UserRepository userRepository,
+                       UserBalanceShardRepository userBalanceShardRepository,
+                       DistributedLock distributedLock,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.point.snapshot.chunk-size:500}") int chunkSize,
+                       @Value("${app.point.snapshot.lag-ms:60000}") long lagMs) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.userRepository = userRepository;
+        this.userBalanceShardRepository = userBalanceShardRepository;
+        this.distributedLock = distributedLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.lagMs = lagMs;
+    }
+
+    /**
+     * 원장으로 사용자 잔액을 재구성합니다.
+     * 스냅샷이 없으면 전체 이력의 합계입니다.
+     */
+    public long reconstructBalance(Long userId) {
+        return snapshotRepository.findTopByUserIdOrderByIdDesc(userId)
+                .map(snapshot -> snapshot.getBalance()
+                        + pointHistoryRepository.sumAmountAfter(userId, snapshot.getLastHistoryId()))
+                .orElseGet(() -> pointHistoryRepository.sumAmountAfter(userId, 0L));
+    }
+
+    @Scheduled(fixedDelayString = "${app.point.snapshot.interval-ms:600000}")
+    public void takeSnapshots() {
+        try {
+            distributedLock.executeWithLock(LOCK_KEY, 0, LOCK_LEASE_TIME, () -> {
+                long startedAt = System.currentTimeMillis();
+                int count = snapshotChangedUsers(changedAfterId());
+                lastRunStartedAt = startedAt;
+                if (count > 0) {
+                    log.info("포인트 잔액 스냅샷 완료: users={}", count);
+                }
+            });
+        } catch (LockAcquisitionException e) {
+            log.debug("포인트 스냅샷 락 획득 실패, 다른 인스턴스가 실행 중");
+        } catch (Exception e) {
+            log.error("포인트 잔액 스냅샷 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 지정한 이력 ID 이후 변경된 사용자의 스냅샷을 청크 단위 트랜잭션으로 기록합니다.
+     *
+     * @return 스냅샷을 기록한 사용자 수
+     */
+    int snapshotChangedUsers(long afterId) {
+        List<Long> userIds = pointHistoryRepository.findUserIdsChangedAfter(afterId);
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            transactionTemplate.executeWithoutResult(status -> snapshotChunk(chunk));
+        }
+        return userIds.size();
+    }
+
+    private void snapshotChunk(List<Long> userIds) {
+        // 공유 락: 진행 중인 잔액 변경이 커밋될 때까지 대기 후 잔액과 마지막 이력을 함께 읽음
+        // 잔액 샤드를 먼저 잠가 차감/리밸런싱과 같은 락 순서(샤드 -> 본 행)를 유지
+        Map<Long, Long> shardBalances = new HashMap<>();
+        for (UserBalanceShard shard : userBalanceShardRepository.findByUserIdsForShare(userIds)) {
+            shardBalances.merge(shard.getUserId(), shard.getBalance(), Long::sum);
+        }
+        List<User> users = userRepository.findAllByIdsForShare(userIds);
+        Map<Long, Long> lastIds = new HashMap<>();
+        for (Object[] row : pointHistoryRepository.findLastIdsByUserIds(userIds)) {
+            lastIds.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<PointBalanceSnapshot> snapshots = new ArrayList<>(users.size());
+        for (User user : users) {
+            Long lastHistoryId = lastIds.get(user.getId());
+            if (lastHistoryId == null) {
+                continue;
+            }
+            snapshots.add(PointBalanceSnapshot.builder()
+                    .userId(user.getId())
+                    .balance(user.getBalance() + shardBalances.getOrDefault(user.getId(), 0L))
+                    .lastHistoryId(lastHistoryId)
+                    .build());
+        }
+        snapshotRepository.saveAll(snapshots);
+    }
+
+    private long changedAfterId() {
+        long since = lastRunStartedAt;
+        if (since < 0) {
+            // 기동 후 첫 실행은 마지막 스냅샷 시각부터
+            since = snapshotRepository.findTopByOrderByIdDesc()
+                    .map(snapshot -> snapshot.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                    .orElse(SnowflakeIdGenerator.EPOCH + lagMs);
+        }
+        return SnowflakeIdGenerator.minIdAt(since - lagMs);
+    }
+}
@@ -0,0 +1,148 @@
+package kr.hhplus.be.server.service.user;
+
+import kr.hhplus.be.server.infrastructure.event.PointChargedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 기반 사용자 잔액 캐시 구현체
+ * 잔액 조회와 주문 사전 검증이 MySQL 커넥션 풀을 거치지 않도록 잔액을 캐시합니다.
+ *
+ * 설계:
+ * - Key: "user:balance:cache:{userId}" (Hash, Field: version, balance)
+ * - 기록: Lua 스크립트로 저장된 version과 비교하여 더 높은 버전만 기록 (compare-by-version)
+ *         잔액 없이 version만 있는 항목은 무효화 표시로, 조회 시 캐시 미스로 처리
+ * - 갱신 시점: 충전/차감 트랜잭션 커밋 직후 (같은 트랜잭션에서 읽은 잔액과 버전)
+ *              조회 캐시 미스 시 DB에서 읽은 잔액과 버전 (read-through)
+ *
+ * 커밋 직후 기록이 Redis 장애로 유실되면 늦게 도착한 조회 적재가 이전 버전을 기록할 수 있으므로
+ * TTL로 수명을 제한합니다. 최종 판단은 여전히 쓰기 경로의 조건부 UPDATE가 담당합니다.
+ */
+@Slf4j
+@Service
+public class RedisBalanceCache implements BalanceCache {
+
+    private static final String KEY_PREFIX = "user:balance:cache:";
+    private static final String BALANCE_FIELD = "balance";
+
+    // 반환값: 1 기록, 0 저장된 버전이 같거나 더 높음
+    private static final String PUT_SCRIPT =
+        "local current = tonumber(redis.call('hget', KEYS[1], 'version') or '-1') " +
+        "if current >= tonumber(ARGV[1]) then " +
+        "  return 0 " +
+        "end " +
+        "redis.call('hset', KEYS[1], 'version', ARGV[1]) " +
+        "if ARGV[2] == '' then " +
+        "  redis.call('hdel', KEYS[1], 'balance') " +
+        "else " +
+        "  redis.call('hset', KEYS[1], 'balance', ARGV[2]) " +
+        "end " +
+        "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+        "return 1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> putScript;
+    private final long ttlMs;
+
+    public RedisBalanceCache(RedisTemplate<String, String> redisTemplate,
+                             @Value("${app.user.balance-cache.ttl-ms:60000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.putScript = new DefaultRedisScript<>(PUT_SCRIPT, Long.class);
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public Optional<Long> get(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        try {
+            Object balance = redisTemplate.opsForHash().get(KEY_PREFIX + userId, BALANCE_FIELD);
+            return balance == null ? Optional.empty() : Optional.of(Long.parseLong(balance.toString()));
+        } catch (Exception e) {
+            log.warn("잔액 캐시 조회 실패, DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(Long userId, long balance, long version) {
+        write(userId, String.valueOf(balance), version);
+    }
+
+    @Override
+    public void retire(Long userId, long version) {
+        write(userId, "", version);
+    }
+
+    /**
+     * 스크립트를 파이프라인으로 전송하여 왕복 1회로 기록합니다.
+     */
+    @Override
+    public void putAll(List<BalanceState> states) {
+        if (states == null || states.isEmpty()) {
+            return;
+        }
+        byte[] script = PUT_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = bytes(String.valueOf(ttlMs));
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (BalanceState state : states) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                            bytes(KEY_PREFIX + state.userId()),
+                            bytes(String.valueOf(state.version())),
+                            bytes(state.sharded() ? "" : String.valueOf(state.balance())),
+                            ttl);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 기록 실패 시 TTL이 지나면 DB에서 다시 적재됨
+            log.error("잔액 캐시 일괄 기록 실패: size={}, error={}", states.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 포인트 충전이 커밋되면 충전 트랜잭션에서 읽은 잔액과 버전을 기록합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePointCharged(PointChargedEvent event) {
+        if (event.getBalanceVersion() == null) {
+            return;
+        }
+        if (event.isBalanceSharded()) {
+            retire(event.getUserId(), event.getBalanceVersion());
+        } else {
+            put(event.getUserId(), event.getBalance(), event.getBalanceVersion());
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void write(Long userId, String balance, long version) {
+        try {
+            redisTemplate.execute(
+                    putScript,
+                    List.of(KEY_PREFIX + userId),
+                    String.valueOf(version),
+                    balance,
+                    String.valueOf(ttlMs));
+        } catch (Exception e) {
+            // 기록 실패 시 TTL이 지나면 DB에서 다시 적재됨
+            log.error("잔액 캐시 기록 실패: userId={}, version={}, error={}", userId, version, e.getMessage(), e);
+        }
+    }
+}
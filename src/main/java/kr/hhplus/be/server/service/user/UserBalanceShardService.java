@@ -0,0 +1,215 @@
+package kr.hhplus.be.server.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.user.UserBalanceShard;
+import kr.hhplus.be.server.domain.user.UserBalanceShardRepository;
+import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 사용자 잔액 샤딩 (주문이 몰리는 계정용 선택 기능)
+ * 잔액을 users 행과 K개의 샤드 행에 나눠 담아, 잔액 차감이 한 행과 한 락에 직렬화되지 않도록 합니다.
+ *
+ * 설계:
+ * - 잔액 = users.balance(충전이 쌓이는 본 행) + 샤드 잔액 합계
+ * - 차감: 잠금 없는 조회로 잔액이 충분한 샤드를 고른 뒤(선호 샤드 우선) 해당 샤드만 조건부 UPDATE
+ *         어느 샤드도 부족하면 모든 샤드와 본 행을 차례로 잠가 본 행으로 통합한 뒤 차감
+ *         (충전으로 본 행에 쌓인 잔액은 리밸런서가 샤드로 나누기 전까지 통합 경로로만 사용)
+ * - 리밸런서: 주기적으로 샤드 -> 본 행 순으로 잠가 본 행 잔액과 샤드 잔액을 K개 샤드에 고르게 재분배
+ * - 샤드 수 캐시: 주문 락 키 결정용으로 사용자별 샤드 수를 짧게 캐시 (잔액 정합성은 DB가 보장)
+ *
+ * 락 순서는 항상 샤드 -> 본 행(users)으로 맞춥니다.
+ */
+@Slf4j
+@Service
+public class UserBalanceShardService {
+
+    public static final int MAX_SHARD_COUNT = 64;
+
+    private static final String REBALANCE_LOCK_KEY = "user:balance:rebalance";
+    private static final long REBALANCE_LOCK_LEASE_TIME = 60_000L;
+
+    private final UserRepository userRepository;
+    private final UserBalanceShardRepository shardRepository;
+    private final DistributedLock distributedLock;
+    private final BalanceCache balanceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, Integer> shardCounts;
+
+    public UserBalanceShardService(UserRepository userRepository,
+                                   UserBalanceShardRepository shardRepository,
+                                   DistributedLock distributedLock,
+                                   BalanceCache balanceCache,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.user.balance-shard.count-cache-ttl-ms:60000}") long countCacheTtlMs) {
+        this.userRepository = userRepository;
+        this.shardRepository = shardRepository;
+        this.distributedLock = distributedLock;
+        this.balanceCache = balanceCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardCounts = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(countCacheTtlMs))
+                .build();
+    }
+
+    /**
+     * 사용자의 잔액 샤드 수 (0이면 샤딩하지 않음)
+     * 락 키 결정에만 사용하므로 짧은 시간 동안 낡은 값일 수 있습니다.
+     */
+    public int shardCountOf(Long userId) {
+        return shardCounts.get(userId, id -> userRepository.findBalanceShardCountById(id).orElse(0));
+    }
+
+    /**
+     * 사용자 잔액을 K개 샤드로 나눕니다.
+     */
+    @Transactional
+    public void enableSharding(Long userId, int shardCount) {
+        if (shardCount < 2 || shardCount > MAX_SHARD_COUNT) {
+            throw new IllegalArgumentException("샤드 수는 2 이상 " + MAX_SHARD_COUNT + " 이하여야 합니다.");
+        }
+        User user = userRepository.findByIdWithLock(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (user.isBalanceSharded()) {
+            throw new IllegalArgumentException("이미 잔액이 샤딩된 사용자입니다.");
+        }
+
+        long[] balances = distribute(user.getBalance(), shardCount);
+        List<UserBalanceShard> shards = new ArrayList<>(shardCount);
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            shards.add(UserBalanceShard.builder()
+                    .userId(userId)
+                    .shardNo(shardNo)
+                    .balance(balances[shardNo])
+                    .build());
+        }
+        shardRepository.saveAll(shards);
+        user.enableBalanceSharding(shardCount);
+        shardCounts.put(userId, shardCount);
+
+        // 샤드 차감은 잔액 버전을 올리지 않으므로 커밋 후 잔액 캐시를 무효화
+        long version = user.getBalanceVersion();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                balanceCache.retire(userId, version);
+            }
+        });
+        log.info("사용자 잔액 샤딩: userId={}, shardCount={}", userId, shardCount);
+    }
+
+    /**
+     * 샤딩된 사용자의 잔액을 차감합니다. (호출자의 트랜잭션에 참여)
+     *
+     * @param preferredShard 먼저 시도할 샤드 번호
+     * @return 차감 성공 여부 (false면 전체 잔액 부족)
+     */
+    public boolean deduct(Long userId, int preferredShard, Long amount) {
+        List<Object[]> shards = shardRepository.findShardBalances(userId);
+        int shardCount = shards.size();
+        if (shardCount > 0) {
+            // 선호 샤드부터 순환하며 잔액이 충분해 보이는 샤드만 조건부 UPDATE
+            int start = Math.floorMod(preferredShard, shardCount);
+            for (int i = 0; i < shardCount; i++) {
+                Object[] shard = shards.get((start + i) % shardCount);
+                Integer shardNo = (Integer) shard[0];
+                Long balance = (Long) shard[1];
+                if (balance >= amount && shardRepository.deductIfAvailable(userId, shardNo, amount) == 1) {
+                    return true;
+                }
+            }
+        }
+
+        // 본 행을 먼저 조건부 UPDATE하면 실패해도 본 행 잠금이 남아, 샤드 -> 본 행 순으로 잠그는 리밸런서와 교착됨
+        // 샤드에서 차감하지 못하면 곧바로 샤드 -> 본 행 순으로 잠가 통합 차감
+        return consolidateAndDeduct(userId, amount);
+    }
+
+    /**
+     * 주기적으로 샤딩된 사용자의 잔액을 샤드에 고르게 재분배합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.user.balance-shard.rebalance-interval-ms:5000}")
+    public void rebalanceAll() {
+        try {
+            distributedLock.executeWithLock(REBALANCE_LOCK_KEY, 0, REBALANCE_LOCK_LEASE_TIME, () -> {
+                for (Long userId : userRepository.findBalanceShardedUserIds()) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> rebalance(userId));
+                    } catch (Exception e) {
+                        log.warn("잔액 샤드 리밸런싱 실패: userId={}, error={}", userId, e.getMessage());
+                    }
+                }
+            });
+        } catch (LockAcquisitionException e) {
+            log.debug("잔액 샤드 리밸런싱 락 획득 실패, 다른 인스턴스가 실행 중");
+        }
+    }
+
+    /**
+     * 본 행과 샤드의 잔액을 샤드에 고르게 재분배합니다. (호출자의 트랜잭션에서 실행)
+     */
+    void rebalance(Long userId) {
+        List<UserBalanceShard> shards = shardRepository.findByUserIdForUpdate(userId);
+        if (shards.isEmpty()) {
+            return;
+        }
+        User user = userRepository.findByIdWithLock(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        long total = user.getBalance() + shards.stream().mapToLong(UserBalanceShard::getBalance).sum();
+        long[] balances = distribute(total, shards.size());
+        shards.sort(Comparator.comparing(UserBalanceShard::getShardNo));
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).changeBalance(balances[i]);
+        }
+        user.changeBalance(0L);
+    }
+
+    /**
+     * 모든 샤드를 잠가 본 행으로 통합한 뒤 차감합니다. (샤드별 잔액이 모두 부족한 드문 경우)
+     */
+    private boolean consolidateAndDeduct(Long userId, Long amount) {
+        List<UserBalanceShard> shards = shardRepository.findByUserIdForUpdate(userId);
+        User user = userRepository.findByIdWithLock(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        long total = user.getBalance() + shards.stream().mapToLong(UserBalanceShard::getBalance).sum();
+        if (total < amount) {
+            return false;
+        }
+        shards.forEach(shard -> shard.changeBalance(0L));
+        user.changeBalance(total - amount);
+        return true;
+    }
+
+    /**
+     * 금액을 n개로 고르게 나눕니다. (나머지는 앞쪽 샤드부터 1씩)
+     */
+    static long[] distribute(long total, int n) {
+        long[] result = new long[n];
+        long base = total / n;
+        long remainder = total % n;
+        for (int i = 0; i < n; i++) {
+            result[i] = base + (i < remainder ? 1 : 0);
+        }
+        return result;
+    }
+}
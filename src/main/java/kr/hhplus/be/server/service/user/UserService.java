@@ -1,34 +1,99 @@
 package kr.hhplus.be.server.service.user;
 
 import kr.hhplus.be.server.api.user.dto.BalanceResponse;
-import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.point.PointHistory;
+import kr.hhplus.be.server.domain.point.PointHistoryRepository;
 import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.cache.SingleFlight;
+import kr.hhplus.be.server.infrastructure.event.PointChargedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final BalanceCache balanceCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<Long, Long> balanceLoads = new SingleFlight<>();
 
+    /**
+     * 포인트 충전
+     * 원자적 UPDATE(balance = balance + ?)로 잔액을 늘리고 같은 트랜잭션에서 원장에 이력을 추가합니다.
+     * 조회 후 저장하는 방식과 달리 동시 충전이 서로의 갱신을 덮어쓰지 않습니다.
+     */
     public BalanceResponse chargePoint(Long userId, Long amount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        user.chargePoint(amount);
-        userRepository.save(user);
-        
-        return new BalanceResponse(userId, user.getBalance());
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        if (userRepository.chargeBalance(userId, amount) == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        pointHistoryRepository.save(PointHistory.charge(userId, amount));
+
+        // 같은 트랜잭션에서 갱신한 행이므로 커밋 전까지 다른 충전/차감이 끼어들지 않음
+        // 잔액 샤딩 사용자는 충전이 본 행에 쌓이므로 샤드 잔액을 더해 응답
+        Object[] state = findBalanceState(userId);
+        long balance = ((Number) state[0]).longValue();
+
+        // 충전 커밋 후 주문 사전 검증의 잔액 힌트 제거, 잔액 캐시 갱신
+        eventPublisher.publishEvent(PointChargedEvent.builder()
+                .source(this)
+                .userId(userId)
+                .amount(amount)
+                .balance(balance)
+                .balanceVersion(((Number) state[1]).longValue())
+                .balanceSharded(((Number) state[2]).intValue() > 0)
+                .build());
+
+        return new BalanceResponse(userId, balance);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 잔액 조회 (read-through 캐시)
+     * 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행합니다.
+     * 캐시 미스 시 한 문장으로 읽은 잔액과 버전을 캐시에 기록하며, 같은 사용자의 동시 미스는 DB 조회 1회로 병합합니다.
+     * 잔액 샤딩 사용자는 샤드 차감이 버전을 올리지 않으므로 캐시하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BalanceResponse getBalance(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        return new BalanceResponse(userId, user.getBalance());
+        Optional<Long> cached = balanceCache.get(userId);
+        if (cached.isPresent()) {
+            return new BalanceResponse(userId, cached.get());
+        }
+
+        return new BalanceResponse(userId, balanceLoads.load(userId, () -> loadBalance(userId)));
+    }
+
+    private Long loadBalance(Long userId) {
+        Object[] state = findBalanceState(userId);
+        long balance = ((Number) state[0]).longValue();
+        long version = ((Number) state[1]).longValue();
+        if (((Number) state[2]).intValue() > 0) {
+            balanceCache.retire(userId, version);
+        } else {
+            balanceCache.put(userId, balance, version);
+        }
+        return balance;
+    }
+
+    /**
+     * @return [전체 잔액(샤드 포함), balanceVersion, balanceShardCount]
+     */
+    private Object[] findBalanceState(Long userId) {
+        List<Object[]> rows = userRepository.findBalanceStateById(userId);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        return rows.get(0);
     }
 }
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.api.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CatalogSnapshotResponses 단위 테스트")
+class CatalogSnapshotResponsesTest {
+
+    @Test
+    @DisplayName("gzip이 q > 0으로 허용되면 압축본 사용")
+    void acceptGzip() {
+        assertThat(CatalogSnapshotResponses.acceptsGzip("gzip")).isTrue();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("x-gzip")).isTrue();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("br, *;q=0.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("gzip이 없거나 q=0이면 원문 사용")
+    void refuseGzip() {
+        assertThat(CatalogSnapshotResponses.acceptsGzip(null)).isFalse();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("identity")).isFalse();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("gzip; q=0.000, *")).isFalse();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("*;q=0")).isFalse();
+        assertThat(CatalogSnapshotResponses.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+}
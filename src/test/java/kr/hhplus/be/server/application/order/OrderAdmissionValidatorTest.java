@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.infrastructure.event.PointChargedEvent;
+import kr.hhplus.be.server.service.product.SoldOutRegistry;
+import kr.hhplus.be.server.service.user.BalanceCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderAdmissionValidator 단위 테스트")
+class OrderAdmissionValidatorTest {
+
+    private SoldOutRegistry soldOutRegistry;
+    private BalanceCache balanceCache;
+    private OrderAdmissionValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        soldOutRegistry = mock(SoldOutRegistry.class);
+        balanceCache = mock(BalanceCache.class);
+        validator = new OrderAdmissionValidator(soldOutRegistry, balanceCache, 60_000L, 60_000L);
+    }
+
+    private OrderCommand command(Long userId, Long productId, int quantity, Long totalAmount, Long couponId) {
+        return new OrderCommand(
+                userId,
+                List.of(productId),
+                List.of(new OrderItemCommand(productId, quantity)),
+                totalAmount,
+                couponId
+        );
+    }
+
+    @Test
+    @DisplayName("힌트가 없으면 통과")
+    void passWithoutHints() {
+        assertThatCode(() -> validator.validate(command(1L, 1L, 1, 1000L, null)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("품절 상품이 포함된 주문은 사전 거절")
+    void rejectSoldOutProduct() {
+        // given
+        when(soldOutRegistry.isSoldOut(1L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(command(1L, 1L, 1, 1000L, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("재고 힌트보다 많은 수량은 사전 거절")
+    void rejectWhenStockHintInsufficient() {
+        // given
+        validator.recordStock(1L, 0);
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(command(1L, 1L, 1, 1000L, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("재고 차감 실패 후 같은 수량 이상은 거절, 더 적은 수량은 통과")
+    void stockShortageHint() {
+        // given
+        validator.recordStockShortage(1L, 3);
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(command(1L, 1L, 3, 3000L, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> validator.validate(command(1L, 1L, 2, 2000L, null)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("잔액 부족 힌트는 충전 이벤트로 제거")
+    void balanceHintInvalidatedByCharge() {
+        // given
+        validator.recordBalanceShortage(1L, 5000L);
+        assertThatThrownBy(() -> validator.validate(command(1L, 1L, 1, 5000L, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다.");
+
+        // when
+        validator.handlePointCharged(PointChargedEvent.builder()
+                .source(this)
+                .userId(1L)
+                .amount(10000L)
+                .balance(14999L)
+                .build());
+
+        // then
+        assertThatCode(() -> validator.validate(command(1L, 1L, 1, 5000L, null)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("캐시된 잔액보다 큰 금액의 주문은 사전 거절, 쿠폰 주문은 캐시를 조회하지 않음")
+    void rejectWhenCachedBalanceInsufficient() {
+        // given
+        when(balanceCache.get(1L)).thenReturn(Optional.of(3000L));
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(command(1L, 1L, 1, 5000L, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다.");
+        assertThatCode(() -> validator.validate(command(1L, 1L, 1, 3000L, null)))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> validator.validate(command(1L, 1L, 1, 5000L, 10L)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("사용 불가로 기록된 쿠폰은 사전 거절")
+    void rejectUnusableCoupon() {
+        // given
+        validator.recordCouponUnusable(10L);
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(command(1L, 1L, 1, 1000L, 10L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용할 수 없는 쿠폰입니다.");
+    }
+}
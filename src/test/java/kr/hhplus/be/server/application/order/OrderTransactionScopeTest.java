@@ -0,0 +1,271 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import kr.hhplus.be.server.domain.point.PointHistoryRepository;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.audit.OrderAuditBuffer;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import kr.hhplus.be.server.infrastructure.payment.PaymentCancellationOutbox;
+import kr.hhplus.be.server.infrastructure.payment.PaymentGateway;
+import kr.hhplus.be.server.service.coupon.CouponWalletCache;
+import kr.hhplus.be.server.service.product.ProductCache;
+import kr.hhplus.be.server.service.product.SoldOutRegistry;
+import kr.hhplus.be.server.service.user.BalanceCache;
+import kr.hhplus.be.server.service.user.UserBalanceShardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 주문 트랜잭션 경계 테스트
+ * 주문 1건이 읽기 전용 트랜잭션 1회와 예약/확정(또는 보상) 쓰기 트랜잭션으로만 처리되는지 검증합니다.
+ * (트랜잭션 없이 저장소 호출마다 자동 커밋되는 회귀를 방지)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("주문 트랜잭션 경계 테스트")
+class OrderTransactionScopeTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    @Mock
+    private OrderAdmissionValidator orderAdmissionValidator;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private OrderAuditBuffer orderAuditBuffer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CouponWalletCache couponWalletCache;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private UserBalanceShardService userBalanceShardService;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private PaymentCancellationOutbox paymentCancellationOutbox;
+
+    @InjectMocks
+    private OrderUseCase orderUseCase;
+
+    private OrderCommand command;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        User user = User.builder().balance(10000L).build();
+        setField(user, "id", 1L);
+        Product product = Product.builder().name("상품1").price(1000L).stock(10).build();
+        setField(product, "id", 1L);
+        command = new OrderCommand(1L, List.of(1L), List.of(new OrderItemCommand(1L, 1)), 1000L, null);
+
+        // 분산락은 전달받은 작업을 그대로 실행
+        lenient().when(distributedLock.executeWithLock(anyString(), anyLong(), anyLong(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
+        lenient().doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(3)).run();
+            return null;
+        }).when(distributedLock).executeWithLock(anyString(), anyLong(), anyLong(), any(Runnable.class));
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(productRepository.findAllByIds(anyList())).thenReturn(List.of(product));
+        when(productRepository.decreaseStockIfAvailable(1L, 1)).thenReturn(1);
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private List<TransactionDefinition> capturedDefinitions() {
+        ArgumentCaptor<TransactionDefinition> captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private void stubSuccessfulReservation() {
+        when(userRepository.deductBalanceIfAvailable(1L, 1000L)).thenReturn(1);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private void stubConfirmation() {
+        when(orderRepository.updateStatusIfPending(any(), eq(OrderStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
+        when(paymentRepository.updateStatusIfPending(anyString(), eq(PaymentStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("주문 성공 시 읽기 전용 트랜잭션 1회, 예약/확정 쓰기 트랜잭션 2회 커밋")
+    void reserveAndConfirmCommitsPerOrder() {
+        // given
+        stubSuccessfulReservation();
+        stubConfirmation();
+
+        // when
+        orderUseCase.execute(command);
+
+        // then
+        List<TransactionDefinition> definitions = capturedDefinitions();
+        assertThat(definitions).hasSize(3);
+        assertThat(definitions.get(0).isReadOnly()).isTrue();
+        assertThat(definitions.get(1).isReadOnly()).isFalse();
+        assertThat(definitions.get(2).isReadOnly()).isFalse();
+        verify(transactionManager, times(3)).commit(any(TransactionStatus.class));
+        verify(transactionManager, never()).rollback(any(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("잔액 부족 시 예약 트랜잭션은 롤백되고 결제를 호출하지 않음")
+    void rollbackReservationWithoutPayment() {
+        // given
+        when(userRepository.deductBalanceIfAvailable(1L, 1000L)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> orderUseCase.execute(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다.");
+
+        List<TransactionDefinition> definitions = capturedDefinitions();
+        assertThat(definitions).hasSize(2);
+        assertThat(definitions.get(1).isReadOnly()).isFalse();
+        verify(transactionManager, times(1)).commit(any(TransactionStatus.class)); // 읽기 전용 트랜잭션만 커밋
+        verify(transactionManager, times(1)).rollback(any(TransactionStatus.class));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(paymentGateway, never()).processPayment(anyLong(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("결제는 예약 트랜잭션 커밋 후(트랜잭션 밖)에서 호출하고, 분산락은 주문 락 하나만 사용")
+    void paymentAfterReservationCommit() {
+        // given
+        stubSuccessfulReservation();
+        stubConfirmation();
+
+        // when
+        orderUseCase.execute(command);
+
+        // then
+        InOrder inOrder = inOrder(transactionManager, productRepository, paymentGateway, orderRepository);
+        inOrder.verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        inOrder.verify(productRepository).decreaseStockIfAvailable(1L, 1);
+        inOrder.verify(transactionManager).commit(any(TransactionStatus.class));
+        inOrder.verify(paymentGateway).processPayment(eq(1L), eq(1000L), anyString());
+        inOrder.verify(orderRepository).updateStatusIfPending(any(), eq(OrderStatus.COMPLETED), any(LocalDateTime.class));
+        verify(distributedLock, times(1)).executeWithLock(anyString(), anyLong(), anyLong(), any(Supplier.class));
+        verify(distributedLock, never()).executeWithLock(anyString(), anyLong(), anyLong(), any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("결제 실패 시 보상 트랜잭션으로 재고/잔액을 되돌리고 주문을 FAILED로 기록")
+    void compensateReservationOnPaymentFailure() {
+        // given
+        stubSuccessfulReservation();
+        when(orderRepository.updateStatusIfPending(any(), eq(OrderStatus.FAILED), any(LocalDateTime.class))).thenReturn(1);
+        doThrow(new RuntimeException("게이트웨이 오류"))
+                .when(paymentGateway).processPayment(anyLong(), anyLong(), anyString());
+
+        // when
+        assertThatThrownBy(() -> orderUseCase.execute(command))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("결제 처리 중 오류가 발생했습니다");
+
+        // then
+        ArgumentCaptor<String> paymentKey = ArgumentCaptor.forClass(String.class);
+        verify(paymentGateway).processPayment(eq(1L), eq(1000L), paymentKey.capture());
+        verify(paymentRepository).updateStatusIfPending(eq(paymentKey.getValue()), eq(PaymentStatus.FAILED), any(LocalDateTime.class));
+        verify(productRepository).increaseStock(1L, 1);
+        verify(userRepository).chargeBalance(1L, 1000L);
+        verify(paymentGateway, never()).cancelPayment(anyLong(), anyLong(), anyString());
+        verify(transactionManager, times(3)).commit(any(TransactionStatus.class)); // 조회, 예약, 보상
+    }
+
+    @Test
+    @DisplayName("확정 트랜잭션이 실패하면 같은 멱등 키로 결제를 취소하고, 취소 실패는 아웃박스에 기록")
+    void cancelPaymentWhenConfirmationFails() {
+        // given
+        stubSuccessfulReservation();
+        when(orderRepository.updateStatusIfPending(any(), eq(OrderStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(0);
+        when(orderRepository.updateStatusIfPending(any(), eq(OrderStatus.FAILED), any(LocalDateTime.class))).thenReturn(1);
+        doThrow(new RuntimeException("게이트웨이 취소 오류"))
+                .when(paymentGateway).cancelPayment(anyLong(), anyLong(), anyString());
+
+        // when
+        assertThatThrownBy(() -> orderUseCase.execute(command))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        ArgumentCaptor<String> paymentKey = ArgumentCaptor.forClass(String.class);
+        verify(paymentGateway).processPayment(eq(1L), eq(1000L), paymentKey.capture());
+        verify(paymentGateway).cancelPayment(1L, 1000L, paymentKey.getValue());
+        verify(paymentCancellationOutbox).enqueue(1L, 1000L, paymentKey.getValue());
+        verify(productRepository).increaseStock(1L, 1);
+    }
+}
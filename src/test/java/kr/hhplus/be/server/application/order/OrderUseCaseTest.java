@@ -4,14 +4,24 @@ import kr.hhplus.be.server.domain.coupon.Coupon;
 import kr.hhplus.be.server.domain.coupon.CouponRepository;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
 import kr.hhplus.be.server.domain.payment.Payment;
 import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import kr.hhplus.be.server.domain.point.PointHistoryRepository;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
 import kr.hhplus.be.server.domain.user.User;
 import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.audit.OrderAuditBuffer;
 import kr.hhplus.be.server.infrastructure.event.EventPublisher;
+import kr.hhplus.be.server.infrastructure.payment.PaymentCancellationOutbox;
 import kr.hhplus.be.server.infrastructure.payment.PaymentGateway;
+import kr.hhplus.be.server.service.coupon.CouponWalletCache;
+import kr.hhplus.be.server.service.product.ProductCache;
+import kr.hhplus.be.server.service.product.SoldOutRegistry;
+import kr.hhplus.be.server.service.user.BalanceCache;
+import kr.hhplus.be.server.service.user.UserBalanceShardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
@@ -56,6 +67,36 @@ class OrderUseCaseTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private OrderAdmissionValidator orderAdmissionValidator;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private OrderAuditBuffer orderAuditBuffer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CouponWalletCache couponWalletCache;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private UserBalanceShardService userBalanceShardService;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private PaymentCancellationOutbox paymentCancellationOutbox;
+
     @InjectMocks
     private OrderUseCase orderUseCase;
 
@@ -135,8 +176,10 @@ class OrderUseCaseTest {
             return order;
         });
         when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.updateStatusIfPending(eq(1L), eq(OrderStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
+        when(paymentRepository.updateStatusIfPending(anyString(), eq(PaymentStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
 
-        doNothing().when(paymentGateway).processPayment(anyLong(), anyLong());
+        doNothing().when(paymentGateway).processPayment(anyLong(), anyLong(), anyString());
         doNothing().when(eventPublisher).publishOrderCompleted(any(Order.class));
 
         // when
@@ -151,7 +194,7 @@ class OrderUseCaseTest {
         verify(productRepository).decreaseStockIfAvailable(1L, 2);
         verify(productRepository).decreaseStockIfAvailable(2L, 1);
         verify(userRepository).deductBalanceIfAvailable(1L, 4000L);
-        verify(paymentGateway).processPayment(1L, 4000L);
+        verify(paymentGateway).processPayment(eq(1L), eq(4000L), anyString());
         verify(eventPublisher).publishOrderCompleted(any(Order.class));
     }
 
@@ -173,7 +216,7 @@ class OrderUseCaseTest {
         when(productRepository.decreaseStockIfAvailable(1L, 2)).thenReturn(1);
         when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
         when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon));
-        when(couponRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(coupon));
+        when(couponRepository.useIfActive(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(1);
         when(userRepository.deductBalanceIfAvailable(1L, 1800L)).thenReturn(1);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
@@ -185,9 +228,10 @@ class OrderUseCaseTest {
             return order;
         });
         when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.updateStatusIfPending(eq(1L), eq(OrderStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
+        when(paymentRepository.updateStatusIfPending(anyString(), eq(PaymentStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
 
-        doNothing().when(paymentGateway).processPayment(anyLong(), anyLong());
+        doNothing().when(paymentGateway).processPayment(anyLong(), anyLong(), anyString());
         doNothing().when(eventPublisher).publishOrderCompleted(any(Order.class));
 
         // when
@@ -197,8 +241,7 @@ class OrderUseCaseTest {
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getFinalAmount()).isEqualTo(1800L); // 2000 - 200 (10% 할인)
 
-        verify(coupon).use();
-        verify(couponRepository).save(coupon);
+        verify(couponRepository).useIfActive(eq(1L), eq(1L), any(LocalDateTime.class));
     }
 
     @Test
@@ -291,10 +334,11 @@ class OrderUseCaseTest {
 
         verify(userRepository).findById(1L);
         verify(userRepository, never()).deductBalanceIfAvailable(anyLong(), anyLong());
+        verify(paymentGateway, never()).processPayment(anyLong(), anyLong(), anyString());
     }
 
     @Test
-    @DisplayName("주문 실패 - 결제 게이트웨이 오류")
+    @DisplayName("주문 실패 - 결제 게이트웨이 오류 시 재고/잔액 복구 후 주문 실패 처리")
     void orderFailPaymentGatewayError() {
         // given
         OrderItemCommand item1 = new OrderItemCommand(1L, 1);
@@ -309,7 +353,7 @@ class OrderUseCaseTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(productRepository.findAllByIds(anyList())).thenReturn(Arrays.asList(product1));
         when(productRepository.decreaseStockIfAvailable(1L, 1)).thenReturn(1);
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(userRepository.deductBalanceIfAvailable(1L, 1000L)).thenReturn(1);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             try {
@@ -320,17 +364,22 @@ class OrderUseCaseTest {
             return order;
         });
         when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.updateStatusIfPending(eq(1L), eq(OrderStatus.FAILED), any(LocalDateTime.class))).thenReturn(1);
 
         doThrow(new RuntimeException("결제 게이트웨이 오류"))
-                .when(paymentGateway).processPayment(anyLong(), anyLong());
+                .when(paymentGateway).processPayment(anyLong(), anyLong(), anyString());
 
         // when & then
         assertThatThrownBy(() -> orderUseCase.execute(command))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("결제 처리 중 오류가 발생했습니다");
 
-        verify(paymentGateway).processPayment(anyLong(), anyLong());
-        verify(userRepository, never()).deductBalanceIfAvailable(anyLong(), anyLong());
+        verify(paymentGateway).processPayment(anyLong(), anyLong(), anyString());
+        verify(productRepository).increaseStock(1L, 1);
+        verify(userRepository).chargeBalance(1L, 1000L);
+        verify(paymentRepository).updateStatusIfPending(anyString(), eq(PaymentStatus.FAILED), any(LocalDateTime.class));
+        verify(orderRepository, never()).updateStatusIfPending(anyLong(), eq(OrderStatus.COMPLETED), any(LocalDateTime.class));
+        verify(paymentGateway, never()).cancelPayment(anyLong(), anyLong(), anyString());
         verify(eventPublisher, never()).publishOrderCompleted(any(Order.class));
     }
 }
@@ -0,0 +1,182 @@
+package kr.hhplus.be.server.benchmark;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.api.coupon.dto.CouponResponse;
+import kr.hhplus.be.server.api.product.dto.ProductResponse;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.CouponStatus;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.service.coupon.CouponWalletEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카탈로그 조회 벤치마크
+ * 엔티티를 적재한 뒤 DTO로 복사하는 방식과 생성자 표현식 프로젝션의 호출당 지연 시간/할당량을 비교합니다.
+ * 엔티티 방식은 기존처럼 일반(읽기 전용이 아닌) 트랜잭션에서 실행하여 변경 감지 스냅샷 비용을 포함합니다.
+ * 실행 환경에 따라 수치가 달라지므로 결과는 로그로만 남기고 성능을 단언하지 않습니다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("카탈로그 조회 벤치마크")
+class CatalogReadBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int COUPONS = 20;
+    private static final int ITERATIONS = 500;
+    private static final int WARMUP_ITERATIONS = 100;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.builder()
+                    .name("벤치마크 상품 " + i)
+                    .price(1_000L + i)
+                    .stock(100)
+                    .build());
+        }
+        productId = productRepository.saveAll(products).get(PRODUCTS / 2).getId();
+
+        User owner = userRepository.save(User.builder().balance(0L).build());
+        userId = owner.getId();
+        List<Coupon> coupons = new ArrayList<>(COUPONS);
+        for (int i = 0; i < COUPONS; i++) {
+            coupons.add(Coupon.builder()
+                    .user(owner)
+                    .name("벤치마크 쿠폰 " + i)
+                    .discountRate(10)
+                    .expiredAt(LocalDateTime.now().plusDays(1))
+                    .build());
+        }
+        couponRepository.saveAll(coupons);
+    }
+
+    @Test
+    @DisplayName("엔티티 + DTO 복사 대비 프로젝션 조회의 지연 시간/할당량 측정")
+    void compareEntityAndProjectionReads() {
+        // given
+        Supplier<List<ProductResponse>> entityPage = () -> entityManager
+                .createQuery("SELECT p FROM Product p WHERE p.id > :cursor ORDER BY p.id", Product.class)
+                .setParameter("cursor", 0L)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(ProductResponse::from)
+                .toList();
+        Supplier<List<ProductResponse>> projectionPage = () -> productRepository
+                .findPageAfter(0L, Limit.of(PAGE_SIZE)).stream()
+                .map(ProductResponse::from)
+                .toList();
+        Supplier<ProductResponse> entityProduct = () -> ProductResponse.from(
+                productRepository.findById(productId).orElseThrow());
+        Supplier<ProductResponse> projectionProduct = () -> ProductResponse.from(
+                productRepository.findViewById(productId).orElseThrow());
+        Supplier<List<CouponResponse>> entityWallet = () -> entityManager
+                .createQuery("SELECT c FROM Coupon c WHERE c.user.id = :userId AND c.status = :status ORDER BY c.id",
+                        Coupon.class)
+                .setParameter("userId", userId)
+                .setParameter("status", CouponStatus.ACTIVE)
+                .getResultList().stream()
+                .map(CouponResponse::from)
+                .toList();
+        Supplier<List<CouponResponse>> projectionWallet = () -> couponRepository
+                .findViewsByUserIdAndStatus(userId, CouponStatus.ACTIVE).stream()
+                .map(CouponWalletEntry::from)
+                .map(CouponResponse::from)
+                .toList();
+
+        // when
+        Result entityPageResult = measure(entityPage);
+        Result projectionPageResult = measure(projectionPage);
+        Result entityProductResult = measure(entityProduct);
+        Result projectionProductResult = measure(projectionProduct);
+        Result entityWalletResult = measure(entityWallet);
+        Result projectionWalletResult = measure(projectionWallet);
+
+        // then - 두 방식의 응답 내용이 같은지만 확인
+        assertThat(inTransaction(projectionPage)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(inTransaction(entityPage));
+        assertThat(inTransaction(projectionProduct)).usingRecursiveComparison()
+                .isEqualTo(inTransaction(entityProduct));
+        assertThat(inTransaction(projectionWallet)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(inTransaction(entityWallet));
+
+        report("상품 목록 " + PAGE_SIZE + "건", entityPageResult, projectionPageResult);
+        report("상품 상세", entityProductResult, projectionProductResult);
+        report("쿠폰 지갑 " + COUPONS + "건", entityWalletResult, projectionWalletResult);
+    }
+
+    private Result measure(Supplier<?> read) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            inTransaction(read);
+        }
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            inTransaction(read);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        return new Result(elapsedNanos / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private <T> T inTransaction(Supplier<T> read) {
+        return transactionTemplate.execute(status -> read.get());
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private void report(String name, Result entity, Result projection) {
+        log.info(String.format("%-16s 엔티티     : %,8d ns/op %,10d B/op", name, entity.nanosPerOp(), entity.bytesPerOp()));
+        log.info(String.format("%-16s 프로젝션   : %,8d ns/op %,10d B/op", name, projection.nanosPerOp(), projection.bytesPerOp()));
+    }
+
+    private record Result(long nanosPerOp, long bytesPerOp) {
+    }
+}
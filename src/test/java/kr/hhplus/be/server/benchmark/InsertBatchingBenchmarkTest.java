@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.benchmark;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * INSERT 처리량 벤치마크
+ * 같은 엔티티(Coupon, Snowflake ID)를 JDBC 배치 없이(세션 배치 크기 1) 넣을 때와
+ * 설정된 배치 크기(hibernate.jdbc.batch_size)로 넣을 때의 초당 INSERT 수를 비교합니다.
+ * 테이블과 엔티티가 같으므로 행 크기·인덱스 차이 없이 배치 효과만 측정됩니다.
+ * 실행 환경에 따라 수치가 달라지므로 결과는 로그로만 남기고 성능을 단언하지 않습니다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("INSERT 배치 벤치마크")
+class InsertBatchingBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+    private static final int WARMUP_ROWS = 200;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("같은 엔티티의 배치 미사용/사용 INSERT 처리량 측정")
+    void compareInsertThroughput() {
+        // given
+        User owner = userRepository.save(User.builder().balance(0L).build());
+        insertCoupons(owner, WARMUP_ROWS, 1);
+        insertCoupons(owner, WARMUP_ROWS, null);
+        long couponsBefore = couponRepository.count();
+
+        // when
+        long unbatchedNanos = insertCoupons(owner, ROWS, 1);
+        long batchedNanos = insertCoupons(owner, ROWS, null);
+
+        // then
+        assertThat(couponRepository.count() - couponsBefore).isEqualTo(ROWS * 2L);
+
+        log.info("Coupon, batch off : {} inserts/sec", String.format("%,10.0f", throughput(unbatchedNanos)));
+        log.info("Coupon, batch on  : {} inserts/sec", String.format("%,10.0f", throughput(batchedNanos)));
+    }
+
+    /**
+     * @param jdbcBatchSize 세션 배치 크기 (1이면 배치 미사용, null이면 설정값 사용)
+     */
+    private long insertCoupons(User owner, int rows, Integer jdbcBatchSize) {
+        List<Coupon> coupons = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            coupons.add(Coupon.builder()
+                    .user(owner)
+                    .name("벤치마크 쿠폰")
+                    .discountRate(10)
+                    .expiredAt(LocalDateTime.now().plusDays(1))
+                    .build());
+        }
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            couponRepository.saveAll(coupons);
+        });
+        return System.nanoTime() - start;
+    }
+
+    private double throughput(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+}
@@ -13,18 +13,25 @@ import kr.hhplus.be.server.domain.product.ProductRepository;
 import kr.hhplus.be.server.domain.user.User;
 import kr.hhplus.be.server.domain.user.UserRepository;
 import kr.hhplus.be.server.service.coupon.CouponService;
+import kr.hhplus.be.server.service.user.UserBalanceShardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,6 +61,12 @@ class ConcurrencyTest {
     @Autowired
     private CouponRepository couponRepository;
 
+    @Autowired
+    private UserBalanceShardService userBalanceShardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Product product;
     private User user1;
     private User user2;
@@ -192,6 +205,114 @@ class ConcurrencyTest {
         System.out.println("최종 잔액: " + updatedUser.getBalance());
     }
 
+    @Test
+    @DisplayName("쿠폰 사용 동시성 제어 테스트 - 잔액 샤딩 사용자가 같은 쿠폰으로 동시에 두 번 주문")
+    void testCouponUsageConcurrencyForShardedUser() throws InterruptedException {
+        // given: 샤드별 주문 락이 서로 달라도 쿠폰은 한 번만 사용되어야 함
+        userBalanceShardService.enableSharding(user1.getId(), 4);
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .user(user1)
+                .name("테스트 쿠폰")
+                .discountRate(10)
+                .expiredAt(LocalDateTime.now().plusDays(1))
+                .build());
+
+        int threadCount = 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when: 동시에 같은 쿠폰으로 주문 요청
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    OrderCommand command = new OrderCommand(
+                            user1.getId(),
+                            List.of(product.getId()),
+                            List.of(new OrderItemCommand(product.getId(), 1)),
+                            1000L,
+                            coupon.getId()
+                    );
+                    orderUseCase.execute(command);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 쿠폰 중복 사용으로 인한 실패는 예상됨
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        start.countDown();
+
+        latch.await();
+        executor.shutdown();
+
+        // then: 주문은 하나만 성공하고 쿠폰은 USED
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getStatus()).isEqualTo(CouponStatus.USED);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("잔액 샤드 리밸런싱과 통합 차감이 동시에 실행되어도 교착 없이 잔액 보존")
+    void testRebalanceAgainstConsolidatingDeduct() throws InterruptedException {
+        // given: 샤드 4개(25000원씩), 어느 샤드보다 큰 30000원 차감 3건 -> 모두 통합 경로로 차감
+        userBalanceShardService.enableSharding(user2.getId(), 4);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int deductCount = 3;
+        long amount = 30000L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(deductCount + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(deductCount);
+        AtomicBoolean deducting = new AtomicBoolean(true);
+        AtomicInteger successCount = new AtomicInteger(0);
+        List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+
+        // when: 리밸런서가 반복 실행되는 동안 통합 차감 요청
+        executor.submit(() -> {
+            try {
+                start.await();
+                while (deducting.get()) {
+                    userBalanceShardService.rebalanceAll();
+                }
+            } catch (Exception e) {
+                exceptions.add(e);
+            }
+        });
+        for (int i = 0; i < deductCount; i++) {
+            final int shardNo = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    Boolean deducted = transactionTemplate.execute(status ->
+                            userBalanceShardService.deduct(user2.getId(), shardNo, amount));
+                    if (Boolean.TRUE.equals(deducted)) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        start.countDown();
+
+        latch.await();
+        deducting.set(false);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then: 교착으로 롤백된 차감 없이 모두 성공하고, 전체 잔액은 차감액만큼만 감소
+        assertThat(exceptions).isEmpty();
+        assertThat(successCount.get()).isEqualTo(deductCount);
+        long totalBalance = ((Number) userRepository.findBalanceStateById(user2.getId()).get(0)[0]).longValue();
+        assertThat(totalBalance).isEqualTo(100000L - deductCount * amount);
+    }
+
     @Test
     @DisplayName("쿠폰 발급 동시성 제어 테스트 - 선착순 쿠폰 발급 요청 몰림")
     void testCouponIssueConcurrency() throws InterruptedException {
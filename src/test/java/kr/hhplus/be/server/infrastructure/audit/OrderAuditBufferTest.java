@@ -0,0 +1,213 @@
+package kr.hhplus.be.server.infrastructure.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderAuditBuffer 단위 테스트")
+class OrderAuditBufferTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderAuditBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.close();
+        }
+    }
+
+    private OrderAuditBuffer openBuffer() throws Exception {
+        return openBuffer(10_000, 100_000);
+    }
+
+    private OrderAuditBuffer openBuffer(int maxBuffered, int maxPending) throws Exception {
+        OrderAuditBuffer opened = new OrderAuditBuffer(jdbcTemplate, new SimpleMeterRegistry(), tempDir.toString(), 100, maxBuffered, maxPending);
+        opened.open();
+        return opened;
+    }
+
+    private OrderAuditRecord record(Long orderId) {
+        return OrderAuditRecord.of(orderId, 1L, OrderAuditType.ORDER_STATUS, "COMPLETED", 1000L, null);
+    }
+
+    private long segmentCount() throws Exception {
+        try (Stream<Path> files = Files.list(tempDir.resolve("slot-0"))) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).count();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Collection<OrderAuditRecord>> capturedBatches(int times) {
+        ArgumentCaptor<Collection<OrderAuditRecord>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(times)).batchUpdate(anyString(), captor.capture(), anyInt(), any());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("기록은 주기적 적재 전까지 저널과 DB에 쓰지 않고, 적재 후 세그먼트를 삭제")
+    void flushWritesBatchAndDeletesSegment() throws Exception {
+        // given
+        buffer = openBuffer();
+        buffer.record(record(1L));
+        buffer.record(record(2L));
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(segmentCount()).isZero();
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(capturedBatches(1).get(0)).hasSize(2);
+        assertThat(segmentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 실패 시 기록을 유지하고 다음 주기에 재시도")
+    void retryAfterFailure() throws Exception {
+        // given
+        buffer = openBuffer();
+        buffer.record(record(1L));
+        doThrow(new DataAccessResourceFailureException("DB 장애"))
+                .doReturn(new int[][]{{1}})
+                .when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+
+        // when
+        buffer.flush();
+        assertThat(segmentCount()).isEqualTo(1);
+        buffer.flush();
+
+        // then
+        List<Collection<OrderAuditRecord>> batches = capturedBatches(2);
+        assertThat(batches.get(1)).hasSize(1);
+        assertThat(segmentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차도 기록 스레드에서 적재하지 않고 적재 스레드에 위임")
+    void flushOffCallerThreadWhenFull() throws Exception {
+        // given
+        buffer = openBuffer(2, 100_000);
+        AtomicReference<String> flushThread = new AtomicReference<>();
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any())).thenAnswer(invocation -> {
+            flushThread.set(Thread.currentThread().getName());
+            return new int[][]{{1, 1}};
+        });
+
+        // when
+        buffer.recordAll(List.of(record(1L), record(2L)));
+
+        // then
+        verify(jdbcTemplate, timeout(1_000)).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        assertThat(flushThread.get()).isEqualTo("order-audit-flush");
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 기록이 상한에 도달하면 새 기록은 버림")
+    void dropWhenPendingLimitReached() throws Exception {
+        // given - DB 장애로 적재가 계속 실패
+        buffer = openBuffer(10_000, 2);
+        doThrow(new DataAccessResourceFailureException("DB 장애"))
+                .doReturn(new int[][]{{1, 1}})
+                .when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        buffer.record(record(1L));
+        buffer.flush();
+
+        // when
+        buffer.record(record(2L));
+        buffer.record(record(3L));
+        buffer.flush();
+
+        // then
+        List<Collection<OrderAuditRecord>> batches = capturedBatches(2);
+        assertThat(batches.get(1)).extracting(OrderAuditRecord::orderId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("기동 시 남아있는 저널을 재적재하고 손상된 줄은 무시")
+    void replayLeftoverJournal() throws Exception {
+        // given - 이전 실행이 적재 전에 종료된 상황
+        Path slot = Files.createDirectories(tempDir.resolve("slot-0"));
+        OrderAuditRecord leftover = record(10L);
+        Files.writeString(slot.resolve("segment-0000000000000000001.log"),
+                leftover.toJournalLine() + System.lineSeparator() + "partial-line");
+
+        // when
+        buffer = openBuffer();
+        buffer.flush();
+
+        // then
+        Collection<OrderAuditRecord> replayed = capturedBatches(1).get(0);
+        assertThat(replayed).containsExactly(leftover);
+        assertThat(Files.exists(slot.resolve("segment-0000000000000000001.log"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 디렉토리를 쓰는 두 인스턴스는 서로 다른 슬롯을 점유")
+    void separateSlotPerInstance() throws Exception {
+        // given
+        buffer = openBuffer();
+        OrderAuditBuffer other = openBuffer();
+
+        // when - 적재가 실패하여 저널 세그먼트가 남음
+        doThrow(new DataAccessResourceFailureException("DB 장애"))
+                .when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        other.record(record(1L));
+        other.flush();
+
+        // then
+        try (Stream<Path> files = Files.list(tempDir.resolve("slot-1"))) {
+            assertThat(files.anyMatch(path -> path.getFileName().toString().startsWith("segment-"))).isTrue();
+        }
+        other.close();
+    }
+
+    @Test
+    @DisplayName("적재 주기마다 기록을 세그먼트 하나에 모아 쓰고, 적재 전에 종료되면 다음 기동 시 복구")
+    void groupCommitJournalPerFlush() throws Exception {
+        // given - DB 장애로 적재 실패
+        doThrow(new DataAccessResourceFailureException("DB 장애"))
+                .when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        buffer = openBuffer();
+        buffer.recordAll(List.of(record(1L), record(2L), record(3L)));
+
+        // when
+        buffer.flush();
+        buffer.close();
+        buffer = null;
+
+        // then
+        assertThat(segmentCount()).isEqualTo(1);
+        reset(jdbcTemplate);
+        buffer = openBuffer();
+        buffer.flush();
+        assertThat(capturedBatches(1).get(0)).extracting(OrderAuditRecord::orderId).containsExactly(1L, 2L, 3L);
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CoalescingCache 단위 테스트")
+class CoalescingCacheTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private double random;
+    private CoalescingCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        random = 1.0; // ln(1) = 0 이므로 조기 갱신 없음
+        // 적재 1회에 1초가 걸리는 원본 (홀수 키는 없는 키)
+        cache = new CoalescingCache<>(key -> {
+            clock.addAndGet(SECOND);
+            return key % 2 == 1 ? null : "v" + loads.incrementAndGet();
+        }, Duration.ofSeconds(10), 100, CoalescingCache.DEFAULT_BETA, clock::get, () -> random);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 적재한 값을 재사용하고 만료되면 다시 적재")
+    void reuseUntilExpired() {
+        assertThat(cache.get(2L)).isEqualTo("v1");
+        clock.addAndGet(8 * SECOND);
+        assertThat(cache.get(2L)).isEqualTo("v1");
+
+        clock.addAndGet(2 * SECOND);
+        assertThat(cache.get(2L)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("없는 키(null)는 캐시하지 않음")
+    void doNotCacheNull() {
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+        assertThat(clock.get()).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    @DisplayName("만료가 가까우면 적재 소요 시간에 비례한 확률로 미리 갱신")
+    void refreshEarlyNearExpiry() {
+        // given - 1초에 적재 완료, 만료 시각 11초
+        cache.get(2L);
+        clock.set(10 * SECOND + SECOND / 2);
+
+        // when & then - 난수가 1이면 만료 전까지 기존 값
+        assertThat(cache.get(2L)).isEqualTo("v1");
+
+        // when & then - -ln(rand) = 1 이면 delta(1초)만큼 앞당겨 갱신
+        random = Math.exp(-1);
+        assertThat(cache.get(2L)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 적재")
+    void invalidate() {
+        cache.get(2L);
+        cache.invalidate(2L);
+        assertThat(cache.get(2L)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재한 값은 반환만 하고 캐시하지 않음")
+    void discardLoadInvalidatedInFlight() {
+        // given - 첫 적재 도중 다른 요청이 무효화
+        AtomicInteger version = new AtomicInteger();
+        AtomicReference<CoalescingCache<Long, String>> holder = new AtomicReference<>();
+        holder.set(new CoalescingCache<>(key -> {
+            int loaded = version.incrementAndGet();
+            if (loaded == 1) {
+                holder.get().invalidate(key);
+            }
+            return "v" + loaded;
+        }, Duration.ofSeconds(10), 100, CoalescingCache.DEFAULT_BETA, clock::get, () -> random));
+
+        // when & then
+        assertThat(holder.get().get(2L)).isEqualTo("v1");
+        assertThat(holder.get().get(2L)).isEqualTo("v2");
+        assertThat(holder.get().get(2L)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("적재 중에 전체 무효화되어도 적재한 값을 캐시하지 않음")
+    void discardLoadInvalidatedAllInFlight() {
+        // given
+        AtomicInteger version = new AtomicInteger();
+        AtomicReference<CoalescingCache<Long, String>> holder = new AtomicReference<>();
+        holder.set(new CoalescingCache<>(key -> {
+            int loaded = version.incrementAndGet();
+            if (loaded == 1) {
+                holder.get().invalidateAll();
+            }
+            return "v" + loaded;
+        }, Duration.ofSeconds(10), 100, CoalescingCache.DEFAULT_BETA, clock::get, () -> random));
+
+        // when & then
+        assertThat(holder.get().get(2L)).isEqualTo("v1");
+        assertThat(holder.get().get(2L)).isEqualTo("v2");
+    }
+}
@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight 단위 테스트")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 적재는 1회만 실행하고 결과를 공유")
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // when - 첫 적재가 끝나지 않은 동안 나머지 요청이 도착
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.load(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "상품1";
+            })));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> singleFlight.load(1L, () -> {
+                    loads.incrementAndGet();
+                    return "중복 적재";
+                })));
+            }
+            assertThat(singleFlight.isInFlight(1L)).isTrue();
+            Thread.sleep(200);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("상품1");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.isInFlight(1L)).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("적재 예외는 호출자에게 그대로 전달되고 다음 요청은 다시 적재")
+    void propagateFailureAndRetry() {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.load(1L, () -> {
+            throw new IllegalStateException("적재 실패");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("적재 실패");
+        assertThat(singleFlight.load(1L, () -> "상품1")).isEqualTo("상품1");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.infrastructure.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 키는 항상 포함으로 판정 (거짓 음성 없음)")
+    void noFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (long key = 1; key <= 10_000; key++) {
+            filter.put(key);
+        }
+
+        // then
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수까지 채워도 오탐률은 목표치 근처")
+    void falsePositiveRateNearTarget() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (long key = 1; key <= 10_000; key++) {
+            filter.put(key);
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long key = 1_000_000; key < 1_000_000 + probes; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값은 거절")
+    void rejectInvalidArguments() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.infrastructure.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("생성된 ID는 단조 증가하고 노드 ID를 포함")
+    void monotonicAndContainsNodeId() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allMatch(id -> SnowflakeIdGenerator.nodeIdOf(id) == 7);
+        assertThat(SnowflakeIdGenerator.timestampOf(ids.get(0)))
+                .isCloseTo(System.currentTimeMillis(), offset(5_000L));
+    }
+
+    @Test
+    @DisplayName("동시에 생성해도 ID가 중복되지 않음")
+    void uniqueUnderConcurrency() throws InterruptedException {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        int threadCount = 8;
+        int perThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * perThread);
+    }
+
+    @Test
+    @DisplayName("시계가 조금 뒤로 이동하면 마지막 시각 이후 순번으로 생성")
+    void clockMovedBackwardSlightly() {
+        // given
+        long[] now = {SnowflakeIdGenerator.EPOCH + 10_000};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1) {
+            @Override
+            protected long currentTimeMillis() {
+                return now[0]++;
+            }
+        };
+        long first = generator.nextId();
+
+        // when
+        now[0] -= 3;
+        long second = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부")
+    void rejectInvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
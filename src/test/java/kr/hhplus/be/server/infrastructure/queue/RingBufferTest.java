@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RingBuffer 단위 테스트")
+class RingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고 비어 있으면 null")
+    void fifo() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+        // when
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        // then
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(3);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림하고, 가득 차면 기다리지 않고 false")
+    void rejectWhenFull() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    @DisplayName("drain은 최대 limit개만 꺼냄")
+    void drainWithLimit() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        // when
+        int count = buffer.drain(drained::add, 3);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 용량은 예외")
+    void invalidCapacity() {
+        assertThatThrownBy(() -> new RingBuffer<>(1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실/중복 없이 모두 꺼냄")
+    void concurrentProducers() throws Exception {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Integer> consumed = new HashSet<>();
+
+        try {
+            // when - 생산자는 가득 차면 재시도, 소비자는 현재 스레드에서 계속 꺼냄
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+                Integer element = buffer.poll();
+                if (element != null) {
+                    assertThat(consumed.add(element)).isTrue();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.service.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponCampaign;
+import kr.hhplus.be.server.domain.coupon.CouponCampaignRepository;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CouponCampaignInitializer 단위 테스트")
+class CouponCampaignInitializerTest {
+
+    private CouponCampaignRepository couponCampaignRepository;
+    private CouponRepository couponRepository;
+    private CouponCampaignInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        couponCampaignRepository = mock(CouponCampaignRepository.class);
+        couponRepository = mock(CouponRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        initializer = new CouponCampaignInitializer(couponCampaignRepository, couponRepository,
+                mock(CouponIssueLimiter.class), mock(IssuedUserFilter.class), new TransactionTemplate(transactionManager));
+        when(couponCampaignRepository.findAll()).thenReturn(List.of());
+    }
+
+    private CouponCampaign campaign(Long id) throws Exception {
+        CouponCampaign campaign = CouponCampaign.builder()
+                .code(CouponService.DEFAULT_CAMPAIGN_CODE)
+                .name("선착순 할인 쿠폰")
+                .discountRate(10)
+                .validDays(30)
+                .totalQuantity(100)
+                .build();
+        Field field = CouponCampaign.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(campaign, id);
+        return campaign;
+    }
+
+    @Test
+    @DisplayName("기본 캠페인 생성 시 캠페인 없이 발급된 쿠폰을 편입하고 발급 수에 더함")
+    void assignExistingCouponsToNewDefaultCampaign() throws Exception {
+        // given
+        List<Long> couponIds = List.of(11L, 12L, 13L);
+        when(couponCampaignRepository.findByCode(CouponService.DEFAULT_CAMPAIGN_CODE)).thenReturn(Optional.empty());
+        when(couponCampaignRepository.saveAndFlush(any(CouponCampaign.class))).thenReturn(campaign(1L));
+        when(couponRepository.findFirstUnassignedCouponIdPerUser()).thenReturn(couponIds);
+        when(couponRepository.assignCampaign(1L, couponIds)).thenReturn(3);
+
+        // when
+        initializer.initialize();
+
+        // then
+        verify(couponRepository).assignCampaign(1L, couponIds);
+        verify(couponCampaignRepository).addIssuedCount(1L, 3);
+    }
+
+    @Test
+    @DisplayName("기존 쿠폰을 2장 가진 사용자는 가장 먼저 발급된 1장만 편입")
+    void assignOneCouponPerUser() throws Exception {
+        // given: 사용자 1은 쿠폰 11, 12를, 사용자 2는 쿠폰 13을 보유 (사용자별 MIN(id)만 조회됨)
+        when(couponCampaignRepository.findByCode(CouponService.DEFAULT_CAMPAIGN_CODE)).thenReturn(Optional.empty());
+        when(couponCampaignRepository.saveAndFlush(any(CouponCampaign.class))).thenReturn(campaign(1L));
+        when(couponRepository.findFirstUnassignedCouponIdPerUser()).thenReturn(List.of(11L, 13L));
+        when(couponRepository.assignCampaign(1L, List.of(11L, 13L))).thenReturn(2);
+
+        // when
+        initializer.initialize();
+
+        // then
+        verify(couponRepository).assignCampaign(1L, List.of(11L, 13L));
+        verify(couponRepository, never()).assignCampaign(eq(1L), argThat(ids -> ids.contains(12L)));
+        verify(couponCampaignRepository).addIssuedCount(1L, 2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 생성하여 저장이 실패하면 다시 조회하여 확인하고 편입하지 않음")
+    void recheckWhenCreatedConcurrently() throws Exception {
+        // given
+        when(couponCampaignRepository.findByCode(CouponService.DEFAULT_CAMPAIGN_CODE))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(campaign(1L)));
+        when(couponCampaignRepository.saveAndFlush(any(CouponCampaign.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // when
+        initializer.initialize();
+
+        // then
+        verify(couponCampaignRepository, times(2)).findByCode(CouponService.DEFAULT_CAMPAIGN_CODE);
+        verify(couponRepository, never()).findFirstUnassignedCouponIdPerUser();
+        verify(couponCampaignRepository, never()).addIssuedCount(anyLong(), anyInt());
+        verify(couponCampaignRepository).findAll(); // 재조회로 확인된 뒤 동기화 진행
+    }
+
+    @Test
+    @DisplayName("기본 캠페인이 이미 있으면 편입하지 않음")
+    void skipWhenDefaultCampaignExists() throws Exception {
+        // given
+        when(couponCampaignRepository.findByCode(CouponService.DEFAULT_CAMPAIGN_CODE)).thenReturn(Optional.of(campaign(1L)));
+
+        // when
+        initializer.initialize();
+
+        // then
+        verify(couponRepository, never()).assignCampaign(anyLong(), anyCollection());
+        verify(couponCampaignRepository, never()).addIssuedCount(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.service.coupon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CouponExpirySweeper 단위 테스트")
+class CouponExpirySweeperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private CouponExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new CouponExpirySweeper(jdbcTemplate, mock(DistributedLock.class), meterRegistry, 2, 0, 10);
+    }
+
+    private CouponExpirySweeper.ExpiryKey key(long id, int daysAgo) {
+        return new CouponExpirySweeper.ExpiryKey(id, Timestamp.valueOf(NOW.minusDays(daysAgo)));
+    }
+
+    @Test
+    @DisplayName("키셋 커서로 청크를 이어 조회하며 청크마다 벌크 UPDATE 1회")
+    @SuppressWarnings("unchecked")
+    void sweepInKeysetChunks() {
+        // given - 청크 크기 2, 만료 대상 3건
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(key(10L, 3), key(11L, 2)))
+                .thenReturn(List.of(key(12L, 1)));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(2, 1);
+
+        // when
+        int expired = sweeper.sweep(NOW);
+
+        // then
+        assertThat(expired).isEqualTo(3);
+        ArgumentCaptor<Object[]> queryArgs = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), queryArgs.capture());
+        Object[] secondQuery = queryArgs.getAllValues().get(1);
+        assertThat(secondQuery[1]).isEqualTo(Timestamp.valueOf(NOW.minusDays(2))); // 첫 청크 마지막 행의 expired_at
+        assertThat(secondQuery[3]).isEqualTo(11L);                                 // 첫 청크 마지막 행의 id
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        assertThat(meterRegistry.counter("coupon.expiry.expired").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("coupon.expiry.chunks").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("만료 대상이 없으면 UPDATE 하지 않음")
+    @SuppressWarnings("unchecked")
+    void nothingToExpire() {
+        // given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+
+        // when
+        int expired = sweeper.sweep(NOW);
+
+        // then
+        assertThat(expired).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.service.coupon;
+
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueWorker 단위 테스트")
+class CouponIssueWorkerTest {
+
+    @Mock
+    private CouponIssueQueue couponIssueQueue;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    private CouponIssueWorker worker;
+
+    private final List<CouponIssueTicket> tickets = List.of(
+            new CouponIssueTicket("t1", 1L, null),
+            new CouponIssueTicket("t2", 2L, null));
+
+    @BeforeEach
+    void setUp() {
+        worker = new CouponIssueWorker(couponIssueQueue, couponService, distributedLock, 10, 1, 3);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(3)).run();
+            return null;
+        }).when(distributedLock).executeWithLock(anyString(), anyLong(), anyLong(), any(Runnable.class));
+        when(couponIssueQueue.peek(10)).thenReturn(tickets);
+    }
+
+    @Test
+    @DisplayName("발급 성공 시 대기열 제거와 결과 기록을 한 번에 수행")
+    void completeBatch() {
+        // given
+        List<CouponIssueResult> results = List.of(
+                CouponIssueResult.issued("t1", 100L),
+                CouponIssueResult.issued("t2", 101L));
+        when(couponService.issueQueued(tickets)).thenReturn(results);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(couponIssueQueue).complete(results);
+        verify(couponIssueQueue, never()).recordFailure(anyString());
+    }
+
+    @Test
+    @DisplayName("발급 실패가 허용 횟수 미만이면 대기열에 남겨 다음 주기에 재시도")
+    void keepBatchBelowMaxAttempts() {
+        // given
+        when(couponService.issueQueued(tickets)).thenThrow(new IllegalStateException("DB 오류"));
+        when(couponIssueQueue.recordFailure("t1")).thenReturn(2);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(couponIssueQueue, never()).deadLetter(anyList(), anyString());
+        verify(couponIssueQueue, never()).complete(anyList());
+    }
+
+    @Test
+    @DisplayName("같은 배치가 허용 횟수만큼 실패하면 데드레터로 옮기고 거절 기록")
+    void deadLetterBatchAtMaxAttempts() {
+        // given
+        when(couponService.issueQueued(tickets)).thenThrow(new IllegalStateException("DB 오류"));
+        when(couponIssueQueue.recordFailure("t1")).thenReturn(3);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(couponIssueQueue).deadLetter(eq(tickets), anyString());
+        verify(couponIssueQueue, never()).complete(anyList());
+    }
+}
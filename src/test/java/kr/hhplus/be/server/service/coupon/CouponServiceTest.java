@@ -2,8 +2,9 @@ package kr.hhplus.be.server.service.coupon;
 
 import kr.hhplus.be.server.api.coupon.dto.CouponResponse;
 import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponCampaign;
+import kr.hhplus.be.server.domain.coupon.CouponCampaignRepository;
 import kr.hhplus.be.server.domain.coupon.CouponRepository;
-import kr.hhplus.be.server.domain.coupon.CouponStatus;
 import kr.hhplus.be.server.domain.user.User;
 import kr.hhplus.be.server.domain.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,15 +14,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,19 +45,48 @@ class CouponServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponCampaignRepository couponCampaignRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CouponIssueLimiter couponIssueLimiter;
+
+    @Mock
+    private CouponIssueQueue couponIssueQueue;
+
+    @Mock
+    private IssuedUserFilter issuedUserFilter;
+
+    @Mock
+    private CouponWalletCache couponWalletCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CouponService couponService;
 
     private User user;
+    private CouponCampaign campaign;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
         user = User.builder()
                 .balance(10000L)
                 .build();
+        campaign = CouponCampaign.builder()
+                .code("FIRST_COME")
+                .name("선착순 할인 쿠폰")
+                .discountRate(10)
+                .validDays(30)
+                .totalQuantity(100)
+                .build();
+        Field id = CouponCampaign.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(campaign, 1L);
     }
 
     @Test
@@ -52,8 +94,10 @@ class CouponServiceTest {
     void issueCouponSuccess() {
         // given
         Long userId = 1L;
+        when(couponCampaignRepository.findByCode("FIRST_COME")).thenReturn(Optional.of(campaign));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(couponRepository.countActiveCouponsWithLock()).thenReturn(50L);
+        when(couponIssueLimiter.tryAcquire("FIRST_COME", userId, 100)).thenReturn(CouponIssueDecision.ACQUIRED);
+        when(couponCampaignRepository.increaseIssuedCountIfAvailable(1L)).thenReturn(1);
         when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> {
             Coupon coupon = invocation.getArgument(0);
             return coupon;
@@ -66,7 +110,8 @@ class CouponServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("선착순 할인 쿠폰");
         assertThat(result.getDiscountRate()).isEqualTo(10);
-        verify(couponRepository).countActiveCouponsWithLock();
+        verify(couponIssueLimiter).tryAcquire("FIRST_COME", userId, 100);
+        verify(couponCampaignRepository).increaseIssuedCountIfAvailable(1L);
         verify(couponRepository).save(any(Coupon.class));
     }
 
@@ -75,6 +120,7 @@ class CouponServiceTest {
     void issueCouponUserNotFound() {
         // given
         Long userId = 1L;
+        when(couponCampaignRepository.findByCode("FIRST_COME")).thenReturn(Optional.of(campaign));
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         // when & then
@@ -88,35 +134,175 @@ class CouponServiceTest {
     void issueCouponLimitExceeded() {
         // given
         Long userId = 1L;
+        when(couponCampaignRepository.findByCode("FIRST_COME")).thenReturn(Optional.of(campaign));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(couponRepository.countActiveCouponsWithLock()).thenReturn(100L); // 최대 한도
+        when(couponIssueLimiter.tryAcquire("FIRST_COME", userId, 100)).thenReturn(CouponIssueDecision.SOLD_OUT); // 최대 한도
 
         // when & then
         assertThatThrownBy(() -> couponService.issueCoupon(userId))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("쿠폰 발급 한도에 도달했습니다.");
+        verify(couponRepository, never()).save(any(Coupon.class));
     }
 
     @Test
-    @DisplayName("사용자 쿠폰 목록 조회 성공")
-    void getUserCouponsSuccess() {
+    @DisplayName("쿠폰 발급 실패 - 이미 당첨된 사용자는 Redis가 중복으로 판정하고 로컬 필터에 기록")
+    void issueCouponDuplicateUser() {
         // given
         Long userId = 1L;
-        Coupon coupon1 = Coupon.builder()
-                .user(user)
-                .name("쿠폰1")
-                .discountRate(10)
-                .expiredAt(LocalDateTime.now().plusDays(30))
-                .build();
-        Coupon coupon2 = Coupon.builder()
-                .user(user)
-                .name("쿠폰2")
+        when(couponCampaignRepository.findByCode("FIRST_COME")).thenReturn(Optional.of(campaign));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(couponIssueLimiter.tryAcquire("FIRST_COME", userId, 100)).thenReturn(CouponIssueDecision.DUPLICATE);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(userId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다.");
+        verify(issuedUserFilter).put("FIRST_COME", 100, userId);
+        verify(couponCampaignRepository, never()).increaseIssuedCountIfAvailable(any());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 로컬 필터 양성이 Redis로 확인되면 DB 조회 없이 거절")
+    void issueCouponRejectedByLocalFilter() {
+        // given
+        Long userId = 1L;
+        when(couponCampaignRepository.findByCode("FIRST_COME")).thenReturn(Optional.of(campaign));
+        when(issuedUserFilter.mightContain("FIRST_COME", userId)).thenReturn(true);
+        when(couponIssueLimiter.isIssued("FIRST_COME", userId)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(userId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다.");
+        verify(userRepository, never()).findById(any());
+        verify(couponIssueLimiter, never()).tryAcquire(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 캠페인 발급 수가 DB 한도에 도달")
+    void issueCouponCampaignQuotaExhausted() {
+        // given
+        Long userId = 1L;
+        when(couponCampaignRepository.findByCode("FIRST_COME")).thenReturn(Optional.of(campaign));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(couponIssueLimiter.tryAcquire("FIRST_COME", userId, 100)).thenReturn(CouponIssueDecision.ACQUIRED);
+        when(couponCampaignRepository.increaseIssuedCountIfAvailable(1L)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(userId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("쿠폰 발급 한도에 도달했습니다.");
+        verify(couponRepository, never()).save(any(Coupon.class));
+    }
+
+    @Test
+    @DisplayName("지정한 캠페인의 쿠폰 발급 성공")
+    void issueCampaignCouponSuccess() {
+        // given
+        Long userId = 1L;
+        when(couponCampaignRepository.findById(1L)).thenReturn(Optional.of(campaign));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(couponIssueLimiter.tryAcquire("FIRST_COME", userId, 100)).thenReturn(CouponIssueDecision.ACQUIRED);
+        when(couponCampaignRepository.increaseIssuedCountIfAvailable(1L)).thenReturn(1);
+        when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CouponResponse result = couponService.issueCoupon(userId, 1L);
+
+        // then
+        assertThat(result.getName()).isEqualTo("선착순 할인 쿠폰");
+        verify(couponRepository).save(argThat(coupon -> Long.valueOf(1L).equals(coupon.getCampaignId())));
+    }
+
+    @Test
+    @DisplayName("대기열 일괄 발급 - 도착 순서대로 한도만큼 발급하고 중복/초과/미존재 요청은 거절")
+    void issueQueuedInArrivalOrder() throws Exception {
+        // given
+        CouponCampaign limited = CouponCampaign.builder()
+                .code("LIMITED")
+                .name("한정 쿠폰")
                 .discountRate(20)
-                .expiredAt(LocalDateTime.now().plusDays(30))
+                .validDays(7)
+                .totalQuantity(2)
                 .build();
+        setId(limited, 2L);
+        User user1 = userWithId(1L);
+        User user2 = userWithId(2L);
+        User user3 = userWithId(3L);
+        List<CouponIssueTicket> tickets = List.of(
+                new CouponIssueTicket("t1", 1L, 2L),
+                new CouponIssueTicket("t2", 1L, 2L),   // 배치 내 중복
+                new CouponIssueTicket("t3", 2L, 2L),
+                new CouponIssueTicket("t4", 3L, 2L),   // 한도 초과
+                new CouponIssueTicket("t5", 99L, 2L)); // 사용자 없음
+
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(user1, user2, user3));
+        when(couponCampaignRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(limited));
+        when(couponRepository.findIssuedCouponIds(eq(2L), anyCollection())).thenReturn(List.of());
+
+        // when
+        List<CouponIssueResult> results = couponService.issueQueued(tickets);
+
+        // then
+        assertThat(results).extracting(CouponIssueResult::status).containsExactly(
+                CouponIssueStatus.ISSUED,
+                CouponIssueStatus.REJECTED,
+                CouponIssueStatus.ISSUED,
+                CouponIssueStatus.REJECTED,
+                CouponIssueStatus.REJECTED);
+        assertThat(results.get(1).reason()).isEqualTo("이미 발급받은 쿠폰입니다.");
+        assertThat(results.get(3).reason()).isEqualTo("쿠폰 발급 한도에 도달했습니다.");
+        assertThat(results.get(4).reason()).isEqualTo("사용자를 찾을 수 없습니다.");
+        assertThat(limited.getIssuedCount()).isEqualTo(2);
+        verify(couponRepository).saveAll(argThat(coupons -> ((Collection<?>) coupons).size() == 2));
+        // 즉시 발급의 증가분을 덮어쓰지 않도록 Redis 발급 수는 올리기만 함
+        verify(couponIssueLimiter).raiseIssuedCount("LIMITED", 2);
+        verify(couponIssueLimiter, never()).synchronize(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열 일괄 발급 - 이미 발급받은 사용자는 기존 쿠폰 ID로 발급 완료 (재처리 시 당첨자를 거절하지 않음)")
+    void issueQueuedReturnsExistingCouponForIssuedUser() throws Exception {
+        // given
+        User user1 = userWithId(1L);
+        when(couponCampaignRepository.findByCode("FIRST_COME")).thenReturn(Optional.of(campaign));
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(user1));
+        when(couponCampaignRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(campaign));
+        List<Object[]> issued = new ArrayList<>();
+        issued.add(new Object[]{1L, 100L});
+        when(couponRepository.findIssuedCouponIds(1L, Set.of(1L))).thenReturn(issued);
 
-        when(couponRepository.findByUserIdAndStatus(userId, CouponStatus.ACTIVE))
-                .thenReturn(Arrays.asList(coupon1, coupon2));
+        // when
+        List<CouponIssueResult> results = couponService.issueQueued(List.of(new CouponIssueTicket("t1", 1L, null)));
+
+        // then
+        assertThat(results).containsExactly(CouponIssueResult.issued("t1", 100L));
+        assertThat(campaign.getIssuedCount()).isZero();
+        verify(couponRepository, never()).saveAll(anyCollection());
+    }
+
+    private User userWithId(Long id) throws Exception {
+        User created = User.builder().balance(0L).build();
+        setId(created, id);
+        return created;
+    }
+
+    private void setId(Object target, Long id) throws Exception {
+        Field field = target.getClass().getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(target, id);
+    }
+
+    @Test
+    @DisplayName("사용자 쿠폰 목록 조회 성공 - 쿠폰 지갑 캐시에서 조회")
+    void getUserCouponsSuccess() {
+        // given
+        Long userId = 1L;
+        CouponWalletEntry coupon1 = new CouponWalletEntry(1L, "쿠폰1", 10, LocalDateTime.now().plusDays(30));
+        CouponWalletEntry coupon2 = new CouponWalletEntry(2L, "쿠폰2", 20, LocalDateTime.now().plusDays(30));
+
+        when(couponWalletCache.getWallet(userId)).thenReturn(Arrays.asList(coupon1, coupon2));
 
         // when
         List<CouponResponse> result = couponService.getUserCoupons(userId);
@@ -125,6 +311,8 @@ class CouponServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getName()).isEqualTo("쿠폰1");
         assertThat(result.get(1).getName()).isEqualTo("쿠폰2");
+        assertThat(result.get(0).getStatus()).isEqualTo("ACTIVE");
+        verify(couponRepository, never()).findViewsByUserIdAndStatus(any(), any());
     }
 
     @Test
@@ -132,8 +320,7 @@ class CouponServiceTest {
     void getUserCouponsEmpty() {
         // given
         Long userId = 1L;
-        when(couponRepository.findByUserIdAndStatus(userId, CouponStatus.ACTIVE))
-                .thenReturn(Arrays.asList());
+        when(couponWalletCache.getWallet(userId)).thenReturn(Arrays.asList());
 
         // when
         List<CouponResponse> result = couponService.getUserCoupons(userId);
@@ -141,4 +328,19 @@ class CouponServiceTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("쿠폰 지갑 항목은 Redis 해시 값으로 인코딩 후 복원 가능")
+    void walletEntryEncodingRoundTrip() {
+        // given
+        CouponWalletEntry entry = new CouponWalletEntry(7L, "이름|구분자 포함", 15,
+                LocalDateTime.of(2030, 1, 2, 3, 4, 5));
+
+        // when
+        CouponWalletEntry decoded = CouponWalletEntry.decode(7L, entry.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(entry);
+        assertThat(decoded.calculateDiscount(10000L)).isEqualTo(1500L);
+    }
 }
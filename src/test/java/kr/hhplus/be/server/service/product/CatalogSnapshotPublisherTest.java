@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.api.product.dto.ProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogSnapshotPublisher 단위 테스트")
+class CatalogSnapshotPublisherTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private PopularProductService popularProductService;
+
+    private CatalogSnapshotPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new CatalogSnapshotPublisher(productService, popularProductService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("첫 페이지 스냅샷 - JSON 원문과 같은 내용의 gzip 본문, 다음 커서를 보관")
+    void renderFirstPage() throws IOException {
+        // given
+        when(productService.getProducts(null, null)).thenReturn(new ProductPage(
+                List.of(new ProductResponse(1L, "상품1", 1000L, 10)), 1L));
+
+        // when
+        CatalogSnapshot snapshot = publisher.firstPage();
+
+        // then
+        String json = new String(snapshot.json(), StandardCharsets.UTF_8);
+        assertThat(json).isEqualTo("[{\"id\":1,\"name\":\"상품1\",\"price\":1000,\"stock\":10}]");
+        assertThat(gunzip(snapshot.gzip())).isEqualTo(json);
+        assertThat(snapshot.nextCursor()).isEqualTo(1L);
+        assertThat(snapshot.gzipETag()).isNotEqualTo(snapshot.eTag()).endsWith("-gzip\"");
+    }
+
+    @Test
+    @DisplayName("첫 페이지 스냅샷 - 내용이 같으면 기존 스냅샷 유지, 바뀌면 교체")
+    void replaceFirstPageOnlyWhenChanged() {
+        // given
+        when(productService.getProducts(null, null)).thenReturn(
+                new ProductPage(List.of(new ProductResponse(1L, "상품1", 1000L, 10)), null),
+                new ProductPage(List.of(new ProductResponse(1L, "상품1", 1000L, 10)), null),
+                new ProductPage(List.of(new ProductResponse(1L, "상품1", 1000L, 9)), null));
+        CatalogSnapshot first = publisher.firstPage();
+
+        // when
+        publisher.refreshFirstPage();
+        CatalogSnapshot unchanged = publisher.firstPage();
+        publisher.refreshFirstPage();
+        CatalogSnapshot changed = publisher.firstPage();
+
+        // then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed).isNotSameAs(first);
+        assertThat(changed.eTag()).isNotEqualTo(first.eTag());
+    }
+
+    @Test
+    @DisplayName("인기 상품 스냅샷 - 목록 ETag가 같으면 다시 직렬화하지 않음")
+    void skipPopularWhenSourceUnchanged() {
+        // given
+        PopularProducts products = PopularProducts.of(List.of(new ProductResponse(1L, "상품1", 1000L, 10)));
+        when(popularProductService.getPopularProductsWithETag()).thenReturn(products);
+        CatalogSnapshot first = publisher.popular();
+
+        // when
+        publisher.refreshPopular();
+
+        // then
+        assertThat(publisher.popular()).isSameAs(first);
+        verify(popularProductService, times(2)).getPopularProductsWithETag();
+    }
+
+    private String gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,22 +1,36 @@
 package kr.hhplus.be.server.service.product;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.api.product.dto.ProductResponse;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductView;
+import kr.hhplus.be.server.infrastructure.event.ProductChangedEvent;
+import kr.hhplus.be.server.service.product.search.ProductSearchIndex;
+import kr.hhplus.be.server.service.product.search.SearchTelemetry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
-import java.util.Arrays;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,11 +40,25 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private SearchTelemetry searchTelemetry;
+
     @InjectMocks
     private ProductService productService;
 
     private Product product1;
-    private Product product2;
 
     @BeforeEach
     void setUp() {
@@ -39,41 +67,79 @@ class ProductServiceTest {
                 .price(1000L)
                 .stock(10)
                 .build();
+    }
 
-        product2 = Product.builder()
-                .name("상품2")
-                .price(2000L)
-                .stock(5)
-                .build();
+    @Test
+    @DisplayName("상품 목록 조회 - 한 건을 더 조회해 다음 페이지 커서를 계산")
+    void getProductsWithNextCursor() {
+        // given
+        when(productRepository.findPageAfter(0L, Limit.of(3))).thenReturn(List.of(
+                new ProductView(1L, "상품1", 1000L, 10),
+                new ProductView(2L, "상품2", 2000L, 5),
+                new ProductView(3L, "상품3", 3000L, 1)));
+
+        // when
+        ProductPage page = productService.getProducts(null, 2);
+
+        // then
+        assertThat(page.items()).extracting(ProductResponse::getName).containsExactly("상품1", "상품2");
+        assertThat(page.nextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 마지막 페이지는 다음 커서가 없음")
+    void getProductsLastPage() {
+        // given
+        when(productRepository.findPageAfter(2L, Limit.of(21))).thenReturn(List.of(
+                new ProductView(3L, "상품3", 3000L, 1)));
+
+        // when
+        ProductPage page = productService.getProducts(2L, null);
+
+        // then
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
     }
 
     @Test
-    @DisplayName("전체 상품 조회 성공")
-    void getAllProductsSuccess() {
+    @DisplayName("상품 목록 조회 실패 - 페이지 크기 제한 초과")
+    void getProductsInvalidSize() {
+        assertThatThrownBy(() -> productService.getProducts(null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.getProducts(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("상품 내보내기 - 키셋 페이지의 상품을 JSON 배열로 기록")
+    void exportProducts() throws Exception {
         // given
-        List<Product> products = Arrays.asList(product1, product2);
-        when(productRepository.findAll()).thenReturn(products);
+        when(productRepository.findPageAfter(eq(0L), any(Limit.class))).thenReturn(List.of(
+                new ProductView(1L, "상품1", 1000L, 10),
+                new ProductView(2L, "상품2", 2000L, 5)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
 
         // when
-        List<ProductResponse> result = productService.getAllProducts();
+        productService.exportProducts(out);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getName()).isEqualTo("상품1");
-        assertThat(result.get(1).getName()).isEqualTo("상품2");
+        JsonNode exported = objectMapper.readTree(out.toByteArray());
+        assertThat(exported.isArray()).isTrue();
+        assertThat(exported).hasSize(2);
+        assertThat(exported.get(1).get("name").asText()).isEqualTo("상품2");
     }
 
     @Test
     @DisplayName("상품 조회 성공")
     void getProductSuccess() {
         // given
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(productCache.get(1L)).thenReturn(Optional.of(new ProductView(1L, "상품1", 1000L, 10)));
 
         // when
         ProductResponse result = productService.getProduct(1L);
 
         // then
-        assertThat(result.getId()).isEqualTo(product1.getId());
+        assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("상품1");
         assertThat(result.getPrice()).isEqualTo(1000L);
         assertThat(result.getStock()).isEqualTo(10);
@@ -83,11 +149,97 @@ class ProductServiceTest {
     @DisplayName("상품 조회 실패 - 상품을 찾을 수 없음")
     void getProductNotFound() {
         // given
-        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+        when(productCache.get(1L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> productService.getProduct(1L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("상품을 찾을 수 없습니다.");
     }
+
+    @Test
+    @DisplayName("가격 변경 - 엔티티 가격을 바꾸고 캐시 무효화 이벤트 발행")
+    void changePrice() {
+        // given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        // when
+        productService.changePrice(1L, 1500L);
+
+        // then
+        ArgumentCaptor<ProductChangedEvent> captor = ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(product1.getPrice()).isEqualTo(1500L);
+        assertThat(captor.getValue().getProductId()).isEqualTo(1L);
+        assertThat(captor.getValue().getPrice()).isEqualTo(1500L);
+    }
+
+    @Test
+    @DisplayName("가격 변경 실패 - 음수 가격은 이벤트 없이 실패")
+    void changePriceNegative() {
+        // given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        // when & then
+        assertThatThrownBy(() -> productService.changePrice(1L, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(eventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("상품 ETag - 상품을 조회하지 않고 버전만으로 생성")
+    void getProductETag() {
+        // given
+        when(productCache.version(1L)).thenReturn(Optional.of(42L));
+
+        // when
+        Optional<String> eTag = productService.getProductETag(1L);
+
+        // then
+        assertThat(eTag).contains("\"1-42\"");
+        verify(productCache, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("상품 ETag - 버전이 없으면 empty")
+    void getProductETagWithoutVersion() {
+        // given
+        when(productCache.version(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(productService.getProductETag(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 색인에서 찾은 상품을 DB 없이 상품 캐시로 조회")
+    void searchProductsWithIndex() {
+        // given
+        when(productSearchIndex.search("폰", 100)).thenReturn(Optional.of(List.of(1L, 2L)));
+        when(productCache.getAll(List.of(1L, 2L))).thenReturn(List.of(
+                new ProductView(1L, "무선 이어폰", 1000L, 10),
+                new ProductView(2L, "스마트폰 케이스", 2000L, 5)));
+
+        // when
+        List<ProductResponse> result = productService.searchProducts(" 폰 ", 1L);
+
+        // then
+        assertThat(result).extracting(ProductResponse::getId).containsExactly(1L, 2L);
+        verify(productRepository, never()).findViewsByNameContaining(any(), any());
+        verify(searchTelemetry).record("폰", 2);
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 색인 구축 전에는 DB 검색으로 대체")
+    void searchProductsBeforeIndexBuilt() {
+        // given
+        when(productSearchIndex.search("상품", 100)).thenReturn(Optional.empty());
+        when(productRepository.findViewsByNameContaining("상품", Limit.of(100))).thenReturn(List.of(
+                new ProductView(1L, "상품1", 1000L, 10)));
+
+        // when
+        List<ProductResponse> result = productService.searchProducts("상품", null);
+
+        // then
+        assertThat(result).extracting(ProductResponse::getName).containsExactly("상품1");
+    }
 }
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.service.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NgramIndex 단위 테스트")
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = NgramIndex.builder()
+                .add(1L, "무선 이어폰")
+                .add(2L, "스마트폰 케이스")
+                .add(3L, "USB-C 충전기")
+                .add(4L, "폰 거치대")
+                .build();
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색 - 상품 ID 오름차순")
+    void searchHangulSubstring() {
+        assertThat(index.search("폰", 10)).containsExactly(1L, 2L, 4L);
+        assertThat(index.search("이어폰", 10)).containsExactly(1L);
+        assertThat(index.search("마트폰 케", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 검색하고 gram이 모두 있어도 연속하지 않으면 제외")
+    void ignoreCaseAndVerifyContiguous() {
+        assertThat(index.search("usb-c", 10)).containsExactly(3L);
+        assertThat(index.search("폰이어", 10)).isEmpty(); // "폰", "이어"는 있지만 "폰이"가 없음
+        assertThat(index.search("이폰", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 수 제한")
+    void limitResults() {
+        assertThat(index.search("폰", 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("이름 변경과 제외는 새 색인에만 반영")
+    void copyOnWriteUpdates() {
+        // when
+        NgramIndex renamed = index.withProduct(4L, "태블릿 거치대");
+        NgramIndex added = renamed.withProduct(5L, "폴더블 폰");
+        NgramIndex removed = added.withoutProduct(1L);
+
+        // then
+        assertThat(index.search("폰", 10)).containsExactly(1L, 2L, 4L);
+        assertThat(renamed.search("폰", 10)).containsExactly(1L, 2L);
+        assertThat(renamed.search("거치대", 10)).containsExactly(4L);
+        assertThat(added.search("폰", 10)).containsExactly(1L, 2L, 5L);
+        assertThat(removed.search("폰", 10)).containsExactly(2L, 5L);
+        assertThat(removed.size()).isEqualTo(4);
+        assertThat(index.withProduct(1L, "무선 이어폰")).isSameAs(index);
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.service.product.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchResultCache 단위 테스트")
+class SearchResultCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(meterRegistry, 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("저장한 제한 이하의 요청은 적중, 잘린 결과보다 큰 요청은 미스")
+    void respectLimit() {
+        // given
+        cache.put("폰", 2, List.of(1L, 2L));
+        cache.put("이어폰", 100, List.of(1L));
+
+        // when & then
+        assertThat(cache.get("폰", 1)).contains(List.of(1L));
+        assertThat(cache.get("폰", 100)).isEmpty();
+        assertThat(cache.get("이어폰", 500)).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("적중/미스 지표 등록")
+    void exposeStats() {
+        // given
+        cache.put("폰", 100, List.of(1L));
+
+        // when
+        cache.get("폰", 100);
+        cache.get("충전기", 100);
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "product.search.results")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "product.search.results")
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상품명이 바뀌면 이전/새 이름에 포함되는 검색어만 제거")
+    void invalidateMatching() {
+        // given
+        cache.put("폰", 100, List.of(1L, 2L));
+        cache.put("케이스", 100, List.of(2L));
+        cache.put("충전기", 100, List.of(3L));
+
+        // when - "스마트폰 케이스" -> "스마트폰 거치대"
+        cache.invalidateMatching("스마트폰 케이스", "스마트폰 거치대");
+
+        // then
+        assertThat(cache.get("폰", 100)).isEmpty();
+        assertThat(cache.get("케이스", 100)).isEmpty();
+        assertThat(cache.get("충전기", 100)).contains(List.of(3L));
+    }
+}
@@ -0,0 +1,153 @@
+package kr.hhplus.be.server.service.product.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.infrastructure.kafka.KafkaMessagePublisher;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RestaurantSearchStatsMessage.KeywordStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("SearchTelemetry 단위 테스트")
+class SearchTelemetryTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private KafkaMessagePublisher kafkaMessagePublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+
+    @BeforeEach
+    void setUp() {
+        kafkaMessagePublisher = mock(KafkaMessagePublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(100 * MINUTE);
+    }
+
+    @Test
+    @DisplayName("진행 중인 분은 발행하지 않고, 분이 지나면 검색어별로 집계하여 발행")
+    void aggregatePerMinute() {
+        // given
+        SearchTelemetry telemetry = new SearchTelemetry(kafkaMessagePublisher, meterRegistry, 16, 500, 1, now::get);
+        telemetry.record("이어폰", 3);
+        telemetry.record(" 이어폰 ", 0);
+        telemetry.record("케이스", 5);
+
+        // when - 같은 분 안에서 flush
+        telemetry.flush();
+
+        // then
+        verify(kafkaMessagePublisher, never()).publishRestaurantSearchStats(any());
+
+        // when - 다음 분으로 넘어간 뒤 flush
+        now.addAndGet(MINUTE);
+        telemetry.flush();
+
+        // then
+        ArgumentCaptor<RestaurantSearchStatsMessage> captor = ArgumentCaptor.forClass(RestaurantSearchStatsMessage.class);
+        verify(kafkaMessagePublisher).publishRestaurantSearchStats(captor.capture());
+        assertThat(captor.getValue().schemaVersion()).isEqualTo(RestaurantSearchStatsMessage.SCHEMA_VERSION);
+        assertThat(captor.getValue().keywords()).containsExactlyInAnyOrder(
+                new KeywordStats("이어폰", 2, 1, 3L),
+                new KeywordStats("케이스", 1, 0, 5L));
+    }
+
+    @Test
+    @DisplayName("한 메시지에는 최대 batch-size개 검색어")
+    void splitIntoBatches() {
+        // given
+        SearchTelemetry telemetry = new SearchTelemetry(kafkaMessagePublisher, meterRegistry, 16, 2, 1, now::get);
+        telemetry.record("a", 1);
+        telemetry.record("b", 1);
+        telemetry.record("c", 1);
+
+        // when
+        now.addAndGet(MINUTE);
+        telemetry.flush();
+
+        // then
+        ArgumentCaptor<RestaurantSearchStatsMessage> captor = ArgumentCaptor.forClass(RestaurantSearchStatsMessage.class);
+        verify(kafkaMessagePublisher, times(2)).publishRestaurantSearchStats(captor.capture());
+        assertThat(captor.getAllValues()).flatExtracting(RestaurantSearchStatsMessage::keywords)
+                .extracting(KeywordStats::keyword)
+                .containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("검색어 해시 버킷별로 나눠 발행하고, 같은 검색어는 분이 바뀌어도 같은 버킷")
+    void splitByKeywordBucket() {
+        // given
+        SearchTelemetry telemetry = new SearchTelemetry(kafkaMessagePublisher, meterRegistry, 64, 500, 4, now::get);
+        List<String> keywords = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+        keywords.forEach(keyword -> telemetry.record(keyword, 1));
+        now.addAndGet(MINUTE);
+        telemetry.flush();
+        keywords.forEach(keyword -> telemetry.record(keyword, 1));
+
+        // when
+        now.addAndGet(MINUTE);
+        telemetry.flush();
+
+        // then
+        ArgumentCaptor<RestaurantSearchStatsMessage> captor = ArgumentCaptor.forClass(RestaurantSearchStatsMessage.class);
+        verify(kafkaMessagePublisher, atLeast(2)).publishRestaurantSearchStats(captor.capture());
+        Map<String, Set<Integer>> bucketsByKeyword = new HashMap<>();
+        for (RestaurantSearchStatsMessage message : captor.getAllValues()) {
+            assertThat(message.keyBucket()).isBetween(0, 3);
+            message.keywords().forEach(stats ->
+                    bucketsByKeyword.computeIfAbsent(stats.keyword(), key -> new HashSet<>()).add(message.keyBucket()));
+        }
+        assertThat(bucketsByKeyword).hasSize(keywords.size());
+        assertThat(bucketsByKeyword.values()).allSatisfy(buckets -> assertThat(buckets).hasSize(1));
+        assertThat(bucketsByKeyword.values().stream().flatMap(Set::stream).distinct().count()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 버리고 dropped 지표 증가, 종료 시 진행 중인 분까지 발행")
+    void dropWhenFullAndFlushOnClose() {
+        // given
+        SearchTelemetry telemetry = new SearchTelemetry(kafkaMessagePublisher, meterRegistry, 2, 500, 1, now::get);
+
+        // when
+        telemetry.record("이어폰", 1);
+        telemetry.record("이어폰", 1);
+        telemetry.record("이어폰", 1);
+        telemetry.close();
+
+        // then
+        assertThat(meterRegistry.get("product.search.telemetry.dropped").counter().count()).isEqualTo(1.0);
+        ArgumentCaptor<RestaurantSearchStatsMessage> captor = ArgumentCaptor.forClass(RestaurantSearchStatsMessage.class);
+        verify(kafkaMessagePublisher).publishRestaurantSearchStats(captor.capture());
+        assertThat(captor.getValue().keywords()).containsExactly(new KeywordStats("이어폰", 2, 0, 2L));
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 집계하지 않음")
+    void ignoreBlankKeyword() {
+        // given
+        SearchTelemetry telemetry = new SearchTelemetry(kafkaMessagePublisher, meterRegistry, 16, 500, 1, now::get);
+
+        // when
+        telemetry.record("  ", 0);
+        telemetry.close();
+
+        // then
+        verify(kafkaMessagePublisher, never()).publishRestaurantSearchStats(any());
+    }
+}
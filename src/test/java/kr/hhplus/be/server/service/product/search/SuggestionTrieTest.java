@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.service.product.search;
+
+import kr.hhplus.be.server.service.product.search.SuggestionTrie.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SuggestionTrie 단위 테스트")
+class SuggestionTrieTest {
+
+    private SuggestionTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Suggestion> terms = new HashMap<>();
+        terms.put("스마트폰", new Suggestion("스마트폰", 50));
+        terms.put("스마트폰 케이스", new Suggestion("스마트폰 케이스", 120));
+        terms.put("스마트워치", new Suggestion("스마트워치", 80));
+        terms.put("스탠드", new Suggestion("스탠드", 0));
+        terms.put("usb-c 충전기", new Suggestion("USB-C 충전기", 30));
+        trie = SuggestionTrie.build(terms);
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 항목을 점수 내림차순으로 조회")
+    void suggestByScore() {
+        assertThat(trie.suggest("스마", 10)).extracting(Suggestion::text)
+                .containsExactly("스마트폰 케이스", "스마트워치", "스마트폰");
+        assertThat(trie.suggest("스", 10)).extracting(Suggestion::text)
+                .containsExactly("스마트폰 케이스", "스마트워치", "스마트폰", "스탠드");
+        assertThat(trie.suggest("스마트폰", 10)).extracting(Suggestion::score)
+                .containsExactly(120L, 50L);
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 조회하고 원래 표기로 응답")
+    void normalizePrefix() {
+        assertThat(trie.suggest("USB", 10)).extracting(Suggestion::text).containsExactly("USB-C 충전기");
+    }
+
+    @Test
+    @DisplayName("결과 수 제한과 일치 항목 없음")
+    void limitAndMiss() {
+        assertThat(trie.suggest("스", 2)).hasSize(2);
+        assertThat(trie.suggest("노트북", 10)).isEmpty();
+        assertThat(trie.suggest("", 10)).isEmpty();
+        assertThat(SuggestionTrie.empty().suggest("스", 10)).isEmpty();
+    }
+}
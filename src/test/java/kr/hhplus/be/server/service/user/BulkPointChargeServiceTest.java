@@ -0,0 +1,188 @@
+package kr.hhplus.be.server.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.point.PointBulkChargeJobRepository;
+import kr.hhplus.be.server.infrastructure.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkPointChargeService 단위 테스트")
+class BulkPointChargeServiceTest {
+
+    private static final String JOB_ID = "promotion-1";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private PointBulkChargeJobRepository jobRepository;
+
+    private BulkPointChargeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkPointChargeService(jdbcTemplate, transactionManager, new SnowflakeIdGenerator(0),
+                balanceCache, new ObjectMapper(), jobRepository, 2, 100);
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    private InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void givenCheckpoints(long opened, Long... locked) {
+        when(jdbcTemplate.queryForObject(endsWith("WHERE job_id = ?"), eq(Long.class), eq(JOB_ID))).thenReturn(opened);
+        if (locked.length > 0) {
+            when(jdbcTemplate.queryForObject(endsWith("FOR UPDATE"), eq(Long.class), eq(JOB_ID)))
+                    .thenReturn(locked[0], Arrays.copyOfRange(locked, 1, locked.length));
+        }
+    }
+
+    private void givenUsersExist() {
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE users"), any(BatchPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    int[] counts = new int[((BatchPreparedStatementSetter) invocation.getArgument(1)).getBatchSize()];
+                    Arrays.fill(counts, 1);
+                    return counts;
+                });
+    }
+
+    @Test
+    @DisplayName("CSV 헤더를 건너뛰고 청크마다 잔액, 원장, 체크포인트를 반영")
+    void chargeInChunks() {
+        // given
+        givenCheckpoints(0L, 0L, 2L, 4L);
+        givenUsersExist();
+
+        // when
+        BulkChargeReport report = service.charge(JOB_ID, BulkChargeFormat.CSV,
+                input("userId,amount\n1,100\n2,200\n3,300\n4,400\n"));
+
+        // then
+        assertThat(report.completed()).isTrue();
+        assertThat(report.lastLine()).isEqualTo(5L);
+        assertThat(report.creditedCount()).isEqualTo(4L);
+        assertThat(report.creditedAmount()).isEqualTo(1000L);
+        assertThat(report.chunks()).extracting(BulkChargeChunkResult::toLine).containsExactly(2L, 4L, 5L);
+        verify(jdbcTemplate).update(startsWith("UPDATE point_bulk_charge_jobs"), eq(2L), eq(1), eq(100L), any(), eq(JOB_ID));
+        verify(jdbcTemplate).update(startsWith("UPDATE point_bulk_charge_jobs"), eq(5L), eq(1), eq(400L), any(), eq(JOB_ID));
+        verify(transactionManager, times(3)).commit(any(TransactionStatus.class));
+        verify(balanceCache, times(3)).putAll(any());
+    }
+
+    @Test
+    @DisplayName("같은 작업을 다시 요청하면 체크포인트 이전 줄은 건너뜀")
+    void resumeFromCheckpoint() {
+        // given - 헤더와 사용자 1, 2는 이전 요청에서 반영됨
+        givenCheckpoints(3L, 3L);
+        givenUsersExist();
+
+        // when
+        BulkChargeReport report = service.charge(JOB_ID, BulkChargeFormat.CSV,
+                input("userId,amount\n1,100\n2,200\n3,300\n4,400\n"));
+
+        // then
+        assertThat(report.completed()).isTrue();
+        assertThat(report.skippedLines()).isEqualTo(3L);
+        assertThat(report.creditedCount()).isEqualTo(2L);
+        assertThat(report.creditedAmount()).isEqualTo(700L);
+        assertThat(report.chunks()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("NDJSON 형식 오류 줄과 존재하지 않는 사용자는 청크 결과에 기록하고 계속 진행")
+    void reportRejectedLinesAndMissingUsers() {
+        // given
+        givenCheckpoints(0L, 0L);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE users"), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{0});
+
+        // when
+        BulkChargeReport report = service.charge(JOB_ID, BulkChargeFormat.NDJSON,
+                input("{\"userId\": 99, \"amount\": 100}\n{\"userId\": \"x\"}\n"));
+
+        // then
+        BulkChargeChunkResult chunk = report.chunks().get(0);
+        assertThat(report.completed()).isTrue();
+        assertThat(chunk.creditedCount()).isZero();
+        assertThat(chunk.missingUserIds()).containsExactly(99L);
+        assertThat(chunk.rejectedLines()).containsExactly(2L);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO point_history"), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("청크가 재시도 후에도 실패하면 중단하고 재개 위치를 보고")
+    void stopOnChunkFailure() {
+        // given
+        givenCheckpoints(0L, 0L, 2L, 2L);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE users"), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{1, 1})
+                .thenThrow(new QueryTimeoutException("잠금 대기 시간 초과"));
+
+        // when
+        BulkChargeReport report = service.charge(JOB_ID, BulkChargeFormat.CSV,
+                input("1,100\n2,200\n3,300\n4,400\n5,500\n"));
+
+        // then
+        assertThat(report.completed()).isFalse();
+        assertThat(report.lastLine()).isEqualTo(2L);
+        assertThat(report.creditedCount()).isEqualTo(2L);
+        assertThat(report.chunks()).hasSize(2);
+        assertThat(report.chunks().get(1).isFailed()).isTrue();
+        verify(transactionManager, times(2)).rollback(any(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("다른 실행이 먼저 반영한 청크는 재시도하지 않고 중단")
+    void stopOnCheckpointMismatch() {
+        // given
+        givenCheckpoints(0L, 2L);
+
+        // when
+        BulkChargeReport report = service.charge(JOB_ID, BulkChargeFormat.CSV, input("1,100\n2,200\n"));
+
+        // then
+        assertThat(report.completed()).isFalse();
+        assertThat(report.lastLine()).isZero();
+        verify(transactionManager, times(1)).rollback(any(TransactionStatus.class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("작업 ID가 비어 있으면 실패")
+    void rejectBlankJobId() {
+        assertThatThrownBy(() -> service.charge(" ", BulkChargeFormat.CSV, input("1,100\n")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.service.user;
+
+import kr.hhplus.be.server.domain.point.PointBalanceSnapshot;
+import kr.hhplus.be.server.domain.point.PointBalanceSnapshotRepository;
+import kr.hhplus.be.server.domain.point.PointHistoryRepository;
+import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.user.UserBalanceShardRepository;
+import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointLedger 단위 테스트")
+class PointLedgerTest {
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private PointBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserBalanceShardRepository userBalanceShardRepository;
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PointLedger pointLedger;
+
+    @BeforeEach
+    void setUp() {
+        pointLedger = new PointLedger(pointHistoryRepository, snapshotRepository, userRepository,
+                userBalanceShardRepository, distributedLock, transactionManager, 500, 60_000L);
+    }
+
+    @Test
+    @DisplayName("잔액 재구성 - 최신 스냅샷 잔액에 스냅샷 이후 이력만 더함")
+    void reconstructFromSnapshot() {
+        // given
+        PointBalanceSnapshot snapshot = PointBalanceSnapshot.builder()
+                .userId(1L)
+                .balance(10_000L)
+                .lastHistoryId(100L)
+                .build();
+        when(snapshotRepository.findTopByUserIdOrderByIdDesc(1L)).thenReturn(Optional.of(snapshot));
+        when(pointHistoryRepository.sumAmountAfter(1L, 100L)).thenReturn(-3_000L);
+
+        // when
+        long balance = pointLedger.reconstructBalance(1L);
+
+        // then
+        assertThat(balance).isEqualTo(7_000L);
+    }
+
+    @Test
+    @DisplayName("잔액 재구성 - 스냅샷이 없으면 전체 이력 합계")
+    void reconstructWithoutSnapshot() {
+        // given
+        when(snapshotRepository.findTopByUserIdOrderByIdDesc(1L)).thenReturn(Optional.empty());
+        when(pointHistoryRepository.sumAmountAfter(1L, 0L)).thenReturn(5_000L);
+
+        // when & then
+        assertThat(pointLedger.reconstructBalance(1L)).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 - 변경된 사용자의 잔액과 마지막 이력 ID를 기록")
+    @SuppressWarnings("unchecked")
+    void snapshotChangedUsers() throws Exception {
+        // given
+        User user = User.builder().balance(8_000L).build();
+        Field id = User.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(user, 1L);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(pointHistoryRepository.findUserIdsChangedAfter(50L)).thenReturn(List.of(1L));
+        when(userRepository.findAllByIdsForShare(List.of(1L))).thenReturn(List.of(user));
+        when(pointHistoryRepository.findLastIdsByUserIds(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 120L}));
+
+        // when
+        int count = pointLedger.snapshotChangedUsers(50L);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        ArgumentCaptor<List<PointBalanceSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(snapshotRepository).saveAll(captor.capture());
+        PointBalanceSnapshot snapshot = captor.getValue().get(0);
+        assertThat(snapshot.getUserId()).isEqualTo(1L);
+        assertThat(snapshot.getBalance()).isEqualTo(8_000L);
+        assertThat(snapshot.getLastHistoryId()).isEqualTo(120L);
+    }
+}
@@ -0,0 +1,159 @@
+package kr.hhplus.be.server.service.user;
+
+import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.user.UserBalanceShard;
+import kr.hhplus.be.server.domain.user.UserBalanceShardRepository;
+import kr.hhplus.be.server.domain.user.UserRepository;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBalanceShardService 단위 테스트")
+class UserBalanceShardServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserBalanceShardRepository shardRepository;
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserBalanceShardService shardService;
+
+    @BeforeEach
+    void setUp() {
+        shardService = new UserBalanceShardService(userRepository, shardRepository, distributedLock,
+                balanceCache, transactionManager, 60_000L);
+    }
+
+    private List<Object[]> shardBalances(long... balances) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < balances.length; i++) {
+            rows.add(new Object[]{i, balances[i]});
+        }
+        return rows;
+    }
+
+    private UserBalanceShard shard(int shardNo, long balance) {
+        return UserBalanceShard.builder().userId(1L).shardNo(shardNo).balance(balance).build();
+    }
+
+    @Test
+    @DisplayName("금액 분배 - 나머지는 앞쪽 샤드부터 1씩")
+    void distribute() {
+        assertThat(UserBalanceShardService.distribute(10L, 4)).containsExactly(3L, 3L, 2L, 2L);
+        assertThat(UserBalanceShardService.distribute(0L, 2)).containsExactly(0L, 0L);
+    }
+
+    @Test
+    @DisplayName("샤드 수 범위를 벗어나면 실패")
+    void rejectInvalidShardCount() {
+        assertThatThrownBy(() -> shardService.enableSharding(1L, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> shardService.enableSharding(1L, UserBalanceShardService.MAX_SHARD_COUNT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("차감 - 선호 샤드의 잔액이 부족하면 다음 샤드에서 차감")
+    void deductFromNextShard() {
+        // given
+        when(shardRepository.findShardBalances(1L)).thenReturn(shardBalances(1000L, 100L, 3000L));
+        when(shardRepository.deductIfAvailable(1L, 2, 2000L)).thenReturn(1);
+
+        // when
+        boolean deducted = shardService.deduct(1L, 1, 2000L);
+
+        // then
+        assertThat(deducted).isTrue();
+        verify(shardRepository, never()).deductIfAvailable(1L, 1, 2000L);
+        verify(userRepository, never()).deductBalanceIfAvailable(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("차감 - 모든 샤드가 부족하면 본 행을 먼저 갱신하지 않고 샤드 -> 본 행 순으로 잠가 통합 차감")
+    void consolidateAndDeduct() {
+        // given
+        User user = User.builder().balance(500L).build();
+        List<UserBalanceShard> shards = new ArrayList<>(List.of(shard(0, 800L), shard(1, 900L)));
+        when(shardRepository.findShardBalances(1L)).thenReturn(shardBalances(800L, 900L));
+        when(shardRepository.findByUserIdForUpdate(1L)).thenReturn(shards);
+        when(userRepository.findByIdWithLock(1L)).thenReturn(Optional.of(user));
+
+        // when
+        boolean deducted = shardService.deduct(1L, 0, 2000L);
+
+        // then
+        assertThat(deducted).isTrue();
+        assertThat(shards).allMatch(shard -> shard.getBalance() == 0L);
+        assertThat(user.getBalance()).isEqualTo(200L);
+        verify(userRepository, never()).deductBalanceIfAvailable(anyLong(), anyLong());
+        InOrder inOrder = inOrder(shardRepository, userRepository);
+        inOrder.verify(shardRepository).findByUserIdForUpdate(1L);
+        inOrder.verify(userRepository).findByIdWithLock(1L);
+    }
+
+    @Test
+    @DisplayName("차감 - 전체 잔액이 부족하면 변경 없이 실패")
+    void deductInsufficientTotal() {
+        // given
+        User user = User.builder().balance(100L).build();
+        List<UserBalanceShard> shards = new ArrayList<>(List.of(shard(0, 100L), shard(1, 100L)));
+        when(shardRepository.findShardBalances(1L)).thenReturn(shardBalances(100L, 100L));
+        when(shardRepository.findByUserIdForUpdate(1L)).thenReturn(shards);
+        when(userRepository.findByIdWithLock(1L)).thenReturn(Optional.of(user));
+
+        // when
+        boolean deducted = shardService.deduct(1L, 0, 2000L);
+
+        // then
+        assertThat(deducted).isFalse();
+        assertThat(user.getBalance()).isEqualTo(100L);
+        assertThat(shards).allMatch(shard -> shard.getBalance() == 100L);
+    }
+
+    @Test
+    @DisplayName("리밸런싱 - 본 행 잔액을 포함해 샤드에 고르게 재분배")
+    void rebalance() {
+        // given
+        User user = User.builder().balance(1000L).build();
+        List<UserBalanceShard> shards = new ArrayList<>(List.of(shard(0, 0L), shard(1, 10L), shard(2, 0L)));
+        when(shardRepository.findByUserIdForUpdate(1L)).thenReturn(shards);
+        when(userRepository.findByIdWithLock(1L)).thenReturn(Optional.of(user));
+
+        // when
+        shardService.rebalance(1L);
+
+        // then
+        assertThat(shards).extracting(UserBalanceShard::getBalance).containsExactly(337L, 337L, 336L);
+        assertThat(user.getBalance()).isZero();
+    }
+}
@@ -1,22 +1,32 @@
 package kr.hhplus.be.server.service.user;
 
 import kr.hhplus.be.server.api.user.dto.BalanceResponse;
+import kr.hhplus.be.server.domain.point.PointHistory;
+import kr.hhplus.be.server.domain.point.PointHistoryRepository;
+import kr.hhplus.be.server.domain.point.PointTransactionType;
 import kr.hhplus.be.server.domain.user.User;
 import kr.hhplus.be.server.domain.user.UserRepository;
-import org.junit.jupiter.api.BeforeEach;
+import kr.hhplus.be.server.infrastructure.event.PointChargedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,26 +36,32 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
-    private User user;
-
-    @BeforeEach
-    void setUp() {
-        user = User.builder()
-                .balance(5000L)
-                .build();
+    private List<Object[]> balanceState(long balance, long version, int shardCount) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{balance, version, shardCount});
+        return rows;
     }
 
     @Test
-    @DisplayName("포인트 충전 성공")
+    @DisplayName("포인트 충전 성공 - 원자적 UPDATE 후 원장에 충전 이력 추가")
     void chargePointSuccess() {
         // given
         Long userId = 1L;
         Long chargeAmount = 3000L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.chargeBalance(userId, chargeAmount)).thenReturn(1);
+        when(userRepository.findBalanceStateById(userId)).thenReturn(balanceState(8000L, 3L, 0));
 
         // when
         BalanceResponse result = userService.chargePoint(userId, chargeAmount);
@@ -53,7 +69,13 @@ class UserServiceTest {
         // then
         assertThat(result.getUserId()).isEqualTo(userId);
         assertThat(result.getBalance()).isEqualTo(8000L); // 5000 + 3000
-        verify(userRepository).save(user);
+        verify(pointHistoryRepository).save(argThat((PointHistory history) ->
+                history.getUserId().equals(userId)
+                        && history.getType() == PointTransactionType.CHARGE
+                        && history.getAmount().equals(chargeAmount)));
+        verify(userRepository, never()).save(any(User.class));
+        verify(eventPublisher).publishEvent(argThat((PointChargedEvent event) ->
+                event.getBalance() == 8000L && event.getBalanceVersion() == 3L && !event.isBalanceSharded()));
     }
 
     @Test
@@ -61,20 +83,21 @@ class UserServiceTest {
     void chargePointUserNotFound() {
         // given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.chargeBalance(userId, 3000L)).thenReturn(0);
 
         // when & then
         assertThatThrownBy(() -> userService.chargePoint(userId, 3000L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("사용자를 찾을 수 없습니다.");
+        verify(pointHistoryRepository, never()).save(any(PointHistory.class));
     }
 
     @Test
-    @DisplayName("잔액 조회 성공")
-    void getBalanceSuccess() {
+    @DisplayName("잔액 조회 - 캐시 적중 시 DB를 조회하지 않음")
+    void getBalanceFromCache() {
         // given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(balanceCache.get(userId)).thenReturn(Optional.of(5000L));
 
         // when
         BalanceResponse result = userService.getBalance(userId);
@@ -82,6 +105,40 @@ class UserServiceTest {
         // then
         assertThat(result.getUserId()).isEqualTo(userId);
         assertThat(result.getBalance()).isEqualTo(5000L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("잔액 조회 - 캐시 미스 시 DB에서 읽은 잔액과 버전을 캐시에 기록")
+    void getBalanceReadThrough() {
+        // given
+        Long userId = 1L;
+        when(balanceCache.get(userId)).thenReturn(Optional.empty());
+        when(userRepository.findBalanceStateById(userId)).thenReturn(balanceState(5000L, 7L, 0));
+
+        // when
+        BalanceResponse result = userService.getBalance(userId);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(5000L);
+        verify(balanceCache).put(userId, 5000L, 7L);
+    }
+
+    @Test
+    @DisplayName("잔액 조회 - 잔액 샤딩 사용자는 샤드 합계를 반환하고 캐시하지 않음")
+    void getBalanceOfShardedUser() {
+        // given
+        Long userId = 1L;
+        when(balanceCache.get(userId)).thenReturn(Optional.empty());
+        when(userRepository.findBalanceStateById(userId)).thenReturn(balanceState(5000L, 2L, 4));
+
+        // when
+        BalanceResponse result = userService.getBalance(userId);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(5000L);
+        verify(balanceCache).retire(userId, 2L);
+        verify(balanceCache, never()).put(anyLong(), anyLong(), anyLong());
     }
 
     @Test
@@ -89,7 +146,8 @@ class UserServiceTest {
     void getBalanceUserNotFound() {
         // given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(balanceCache.get(userId)).thenReturn(Optional.empty());
+        when(userRepository.findBalanceStateById(userId)).thenReturn(List.of());
 
         // when & then
         assertThatThrownBy(() -> userService.getBalance(userId))
@@ -102,7 +160,6 @@ class UserServiceTest {
     void chargePointInvalidAmount() {
         // given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
         // when & then
         assertThatThrownBy(() -> userService.chargePoint(userId, 0L))
@@ -112,5 +169,6 @@ class UserServiceTest {
         assertThatThrownBy(() -> userService.chargePoint(userId, -1000L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("충전 금액은 0보다 커야 합니다.");
+        verify(userRepository, never()).chargeBalance(any(), any());
     }
 }